@@ -0,0 +1,205 @@
+package com.rlevi.studying_clean_architecture.core.usecases.loginuser;
+
+import com.rlevi.studying_clean_architecture.core.entities.AuthResult;
+import com.rlevi.studying_clean_architecture.core.entities.RefreshToken;
+import com.rlevi.studying_clean_architecture.core.entities.TokenClaims;
+import com.rlevi.studying_clean_architecture.core.entities.UseCaseResult;
+import com.rlevi.studying_clean_architecture.core.entities.User;
+import com.rlevi.studying_clean_architecture.core.gateway.PasswordEncoderGateway;
+import com.rlevi.studying_clean_architecture.core.gateway.RefreshTokenGateway;
+import com.rlevi.studying_clean_architecture.core.gateway.TokenGateway;
+import com.rlevi.studying_clean_architecture.core.gateway.UserGateway;
+import com.rlevi.studying_clean_architecture.infrastructure.exception.AuthenticationException;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// Failed-login throughput with in-memory gateways, so only the rejection itself is measured (BCrypt is stubbed out).
+// "stack-trace" replays the previous contract, where every rejection built an exception with a full stack trace;
+// inside Tomcat the stack is far deeper than here, so the real gap is larger.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FailedLoginBenchmark {
+  private static final String KNOWN_EMAIL = "dextermorgan@serialkiller.com";
+
+  @Param({"stack-trace", "stackless", "result"})
+  private String rejection;
+
+  @Param({"unknown-user", "wrong-password"})
+  private String scenario;
+
+  private LoginUserUseCase useCase;
+  private User attempt;
+
+  @Setup
+  public void setUp() {
+    User storedUser = new User(1L, KNOWN_EMAIL, "Dexter Morgan", "stored-hash", Instant.now(), Instant.now());
+    useCase = new LoginUserUseCaseImpl(new SingleUserGateway(storedUser), new RejectingPasswordEncoderGateway(),
+            new UnusedRefreshTokenGateway(), new UnusedTokenGateway());
+    String email = scenario.equals("unknown-user") ? "unknown@serialkiller.com" : KNOWN_EMAIL;
+    attempt = new User(null, email, null, "wrong-password", null, null);
+  }
+
+  @Benchmark
+  public Object rejectLogin() {
+    UseCaseResult<AuthResult> result = useCase.execute(attempt);
+    if (!(result instanceof UseCaseResult.Failure<AuthResult> failure)) {
+      throw new IllegalStateException("Login was expected to fail");
+    }
+
+    switch (rejection) {
+      case "stack-trace":
+        try {
+          throw new RuntimeException(failure.message());
+        } catch (RuntimeException e) {
+          return e;
+        }
+      case "stackless":
+        try {
+          throw new AuthenticationException(failure.message());
+        } catch (AuthenticationException e) {
+          return e;
+        }
+      default:
+        return failure;
+    }
+  }
+
+  private static final class SingleUserGateway implements UserGateway {
+    private final User user;
+
+    SingleUserGateway(User user) {
+      this.user = user;
+    }
+
+    @Override
+    public Optional<User> findUserByEmail(String email) {
+      return user.email().equals(email) ? Optional.of(user) : Optional.empty();
+    }
+
+    @Override
+    public User createUser(User user) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public User updateUser(User user) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Optional<User> findUserById(Long id) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<User> findUsersByIds(Collection<Long> ids) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<User> findAllUsers() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<User> searchUsers(String query, int limit, Long cursor) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean verifyExistsByEmail(String email) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void deleteUser(Long id) {
+      throw new UnsupportedOperationException();
+    }
+  }
+
+  private static final class RejectingPasswordEncoderGateway implements PasswordEncoderGateway {
+    @Override
+    public String encode(String rawPassword) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean matches(String rawPassword, String encodedPassword) {
+      return false;
+    }
+  }
+
+  // Never reached on a failed login
+  private static final class UnusedRefreshTokenGateway implements RefreshTokenGateway {
+    @Override
+    public RefreshToken save(RefreshToken refreshToken) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Optional<RefreshToken> findByToken(String token) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Optional<RefreshToken> findByTokenAndRevokedFalse(String token) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<RefreshToken> findByUserId(Long userId) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void revokeByToken(String token, String replacementToken) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void deleteByUserId(Long userId) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public RefreshToken rotate(String oldToken, RefreshToken newRefreshToken) {
+      throw new UnsupportedOperationException();
+    }
+  }
+
+  private static final class UnusedTokenGateway implements TokenGateway {
+    @Override
+    public String generateAccessToken(String email) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public String generateRefreshToken(String email) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Instant extractExpiration(String token) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public String extractUsername(String token) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Optional<TokenClaims> verify(String token) {
+      throw new UnsupportedOperationException();
+    }
+  }
+}
@@ -0,0 +1,39 @@
+package com.rlevi.studying_clean_architecture.core.utils;
+
+import com.rlevi.studying_clean_architecture.core.exception.InvalidEmailException;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DomainValidatorBenchmark {
+  private String validEmail = "dextermorgan@serialkiller.com";
+  private String invalidEmail = "dextermorgan.serialkiller.com";
+  private String validName = "Dexter Morgan";
+
+  @Benchmark
+  public void validateEmail() {
+    DomainValidator.validateEmail(validEmail);
+  }
+
+  @Benchmark
+  public void validateName() {
+    DomainValidator.validateName(validName);
+  }
+
+  // Rejections are signaled with exceptions, so this measures the cost of building one
+  @Benchmark
+  public Object validateInvalidEmail() {
+    try {
+      DomainValidator.validateEmail(invalidEmail);
+      return null;
+    } catch (InvalidEmailException e) {
+      return e;
+    }
+  }
+}
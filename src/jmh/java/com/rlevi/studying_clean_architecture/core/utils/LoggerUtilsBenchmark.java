@@ -0,0 +1,63 @@
+package com.rlevi.studying_clean_architecture.core.utils;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggerUtilsBenchmark {
+  private Logger logger;
+
+  /**
+   * Sends INFO lines through a real encoder into a discarding stream, so the numbers include formatting
+   * but not console I/O.
+   */
+  @Setup
+  public void setUp() {
+    LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+    ch.qos.logback.classic.Logger root = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+    root.detachAndStopAllAppenders();
+    root.setLevel(Level.INFO);
+
+    PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+    encoder.setContext(context);
+    encoder.setPattern("%d{ISO8601} %-5level [%X{requestId}] %logger{36} - %msg%n");
+    encoder.start();
+
+    OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+    appender.setContext(context);
+    appender.setEncoder(encoder);
+    appender.setOutputStream(OutputStream.nullOutputStream());
+    appender.start();
+    root.addAppender(appender);
+
+    logger = LoggerUtils.getLogger(LoggerUtilsBenchmark.class);
+    MDC.put("requestId", "3k9xq2-1f");
+  }
+
+  @Benchmark
+  public void successLog() {
+    LoggerUtils.logSuccess(logger, "User found by ID", Map.of("userId", 1L, "email", "dextermorgan@serialkiller.com"));
+  }
+
+  @Benchmark
+  public void successLogWithDisabledDebug() {
+    LoggerUtils.logDebug(logger, "Getting user by ID", Map.of("userId", 1L));
+    LoggerUtils.logSuccess(logger, "User found by ID", Map.of("userId", 1L, "email", "dextermorgan@serialkiller.com"));
+  }
+}
@@ -0,0 +1,78 @@
+package com.rlevi.studying_clean_architecture.infrastructure.config;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.google.protobuf.Timestamp;
+import com.rlevi.studying_clean_architecture.infrastructure.dto.response.UserResponse;
+import com.rlevi.studying_clean_architecture.infrastructure.mapper.ProtobufResponseMapper;
+import com.rlevi.studying_clean_architecture.infrastructure.proto.UserListResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+// GET /users/all body (100 users) in each encoding served by content negotiation; sizes are printed at setup
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class BinaryEncodingBenchmark {
+  private static final TypeReference<List<UserResponse>> USER_LIST = new TypeReference<>() {
+  };
+
+  @Param({"json", "cbor", "protobuf"})
+  private String format;
+
+  private ObjectMapper objectMapper;
+  private ProtobufResponseMapper protobufResponseMapper;
+  private List<UserResponse> users;
+  private byte[] encoded;
+
+  @Setup
+  public void setUp() throws IOException {
+    Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+            .modulesToInstall(new JacksonConfiguration().blackbirdModule());
+    if ("cbor".equals(format)) {
+      builder.factory(new CBORFactory());
+    }
+    objectMapper = builder.build();
+    protobufResponseMapper = new ProtobufResponseMapper();
+
+    Instant now = Instant.now();
+    users = IntStream.range(0, 100)
+            .mapToObj(i -> new UserResponse((long) i, "user" + i + "@test.dev", "User " + i, now, now))
+            .toList();
+    encoded = encode();
+    System.out.printf("%n%s payload for 100 users: %d bytes%n", format, encoded.length);
+  }
+
+  @Benchmark
+  public byte[] encode() throws IOException {
+    if ("protobuf".equals(format)) {
+      return protobufResponseMapper.toMessage(users).toByteArray();
+    }
+    return objectMapper.writeValueAsBytes(users);
+  }
+
+  @Benchmark
+  public List<UserResponse> decode() throws IOException {
+    if ("protobuf".equals(format)) {
+      return UserListResponse.parseFrom(encoded).getUsersList().stream()
+              .map(user -> new UserResponse(user.getId(), user.getEmail(), user.getName(),
+                      toInstant(user.getCreatedAt()), toInstant(user.getUpdatedAt())))
+              .toList();
+    }
+    return objectMapper.readValue(encoded, USER_LIST);
+  }
+
+  private static Instant toInstant(Timestamp timestamp) {
+    return Instant.ofEpochSecond(timestamp.getSeconds(), timestamp.getNanos());
+  }
+}
@@ -0,0 +1,69 @@
+package com.rlevi.studying_clean_architecture.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rlevi.studying_clean_architecture.infrastructure.dto.response.UserResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+// GET /users/all body: Spring's default ObjectMapper vs. the one tuned by JacksonConfiguration
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class UserListSerializationBenchmark {
+
+  @Param({"default", "tuned"})
+  private String mapper;
+
+  @Param({"100", "10000"})
+  private int users;
+
+  private ObjectMapper objectMapper;
+  private List<UserResponse> response;
+
+  @Setup
+  public void setUp() {
+    Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+    if ("tuned".equals(mapper)) {
+      JacksonConfiguration configuration = new JacksonConfiguration();
+      configuration.pooledJsonBuffers(64).customize(builder);
+      builder.modulesToInstall(configuration.blackbirdModule());
+    }
+    objectMapper = builder.build();
+
+    Instant now = Instant.now();
+    response = IntStream.range(0, users)
+            .mapToObj(i -> new UserResponse((long) i, "user" + i + "@test.dev", "User " + i, now, now))
+            .toList();
+  }
+
+  @Benchmark
+  public long writeList() throws IOException {
+    CountingOutputStream out = new CountingOutputStream();
+    objectMapper.writeValue(out, response);
+    return out.count;
+  }
+
+  private static final class CountingOutputStream extends OutputStream {
+    private long count;
+
+    @Override
+    public void write(int b) {
+      count++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+      count += len;
+    }
+  }
+}
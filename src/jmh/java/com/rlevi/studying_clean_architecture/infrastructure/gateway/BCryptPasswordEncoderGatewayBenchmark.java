@@ -0,0 +1,39 @@
+package com.rlevi.studying_clean_architecture.infrastructure.gateway;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class BCryptPasswordEncoderGatewayBenchmark {
+  private static final String RAW_PASSWORD = "password123";
+
+  // 10 is the BCryptPasswordEncoder default used by SecurityConfig
+  @Param({"4", "8", "10", "12"})
+  private int strength;
+
+  private BCryptPasswordEncoderGateway gateway;
+  private String encodedPassword;
+
+  @Setup
+  public void setUp() {
+    gateway = new BCryptPasswordEncoderGateway(new BCryptPasswordEncoder(strength));
+    encodedPassword = gateway.encode(RAW_PASSWORD);
+  }
+
+  @Benchmark
+  public boolean matches() {
+    return gateway.matches(RAW_PASSWORD, encodedPassword);
+  }
+
+  @Benchmark
+  public boolean matchesWrongPassword() {
+    return gateway.matches("wrong-password", encodedPassword);
+  }
+}
@@ -0,0 +1,51 @@
+package com.rlevi.studying_clean_architecture.infrastructure.gateway;
+
+import com.rlevi.studying_clean_architecture.StudyingCleanArchitectureApplication;
+import com.rlevi.studying_clean_architecture.core.entities.User;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// findUserByEmail on the in-memory H2 profile: derived JPA query vs. Hibernate natural-id + second-level cache
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class UserLookupBenchmark {
+  private static final String EMAIL = "benchmark@test.dev";
+
+  @Param({"false", "true"})
+  private boolean hibernateCache;
+
+  private ConfigurableApplicationContext context;
+  private UserRepositoryGateway gateway;
+
+  @Setup
+  public void setUp() {
+    context = new SpringApplicationBuilder(StudyingCleanArchitectureApplication.class)
+            .web(WebApplicationType.NONE)
+            .run("--jwt.secret=benchmark-secret-key-that-is-long-enough-for-hs256-signing",
+                    "--hibernate-cache.enabled=" + hibernateCache,
+                    "--management.tracing.sampling.probability=0.0",
+                    "--tracing.file-exporter.enabled=false",
+                    "--logging.level.root=WARN");
+    gateway = context.getBean(UserRepositoryGateway.class);
+    gateway.createUser(new User(null, EMAIL, "Benchmark User", "hash", null, null));
+  }
+
+  @TearDown
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public Optional<User> findUserByEmail() {
+    return gateway.findUserByEmail(EMAIL);
+  }
+}
@@ -0,0 +1,63 @@
+package com.rlevi.studying_clean_architecture.infrastructure.mapper;
+
+import com.rlevi.studying_clean_architecture.core.entities.RefreshToken;
+import com.rlevi.studying_clean_architecture.core.entities.User;
+import com.rlevi.studying_clean_architecture.infrastructure.dto.response.UserResponse;
+import com.rlevi.studying_clean_architecture.infrastructure.persistence.RefreshTokenEntity;
+import com.rlevi.studying_clean_architecture.infrastructure.persistence.UserEntity;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+  private UserMapper userMapper;
+  private RefreshTokenMapper refreshTokenMapper;
+  private UserEntity userEntity;
+  private User user;
+  private RefreshTokenEntity refreshTokenEntity;
+  private RefreshToken refreshToken;
+
+  @Setup
+  public void setUp() {
+    userMapper = new UserMapper();
+    refreshTokenMapper = new RefreshTokenMapper();
+
+    Instant now = Instant.now();
+    userEntity = new UserEntity(1L, "Dexter Morgan", "dextermorgan@serialkiller.com", "$2a$10$hash", now, now);
+    user = userMapper.toDomain(userEntity);
+    refreshTokenEntity = new RefreshTokenEntity(1L, "refresh-token", userEntity, now.plusSeconds(3600), now, false, null);
+    refreshToken = refreshTokenMapper.toDomain(refreshTokenEntity);
+  }
+
+  @Benchmark
+  public User userToDomain() {
+    return userMapper.toDomain(userEntity);
+  }
+
+  @Benchmark
+  public UserResponse userToResponse() {
+    return userMapper.toResponse(user);
+  }
+
+  @Benchmark
+  public UserEntity userToEntity() {
+    return userMapper.toEntity(user);
+  }
+
+  @Benchmark
+  public RefreshToken refreshTokenToDomain() {
+    return refreshTokenMapper.toDomain(refreshTokenEntity);
+  }
+
+  @Benchmark
+  public RefreshTokenEntity refreshTokenToEntityWithUser() {
+    return refreshTokenMapper.toEntityWithUser(refreshToken, userEntity);
+  }
+}
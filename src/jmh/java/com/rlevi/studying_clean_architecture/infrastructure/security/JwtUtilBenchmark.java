@@ -0,0 +1,59 @@
+package com.rlevi.studying_clean_architecture.infrastructure.security;
+
+import com.rlevi.studying_clean_architecture.core.entities.TokenClaims;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtUtilBenchmark {
+  private static final String USERNAME = "dextermorgan@serialkiller.com";
+  // What scanners typically send in the Authorization header
+  private static final String GARBAGE_HEADER = "Bearer ' OR 1=1 -- <script>alert(1)</script>";
+
+  private JwtUtil jwtUtil;
+  private String token;
+
+  @Setup
+  public void setUp() {
+    jwtUtil = new JwtUtil();
+    ReflectionTestUtils.setField(jwtUtil, "secret", "benchmark-secret-key-that-is-long-enough-for-hs512-signing-0123456789");
+    ReflectionTestUtils.setField(jwtUtil, "accessTokenExpiration", 900000L);
+    ReflectionTestUtils.setField(jwtUtil, "refreshTokenExpiration", 604800000L);
+    token = jwtUtil.generateAccessToken(USERNAME);
+  }
+
+  @Benchmark
+  public String generateToken() {
+    return jwtUtil.generateToken(USERNAME, 900000L);
+  }
+
+  @Benchmark
+  public Claims extractClaims() {
+    return jwtUtil.extractClaims(token);
+  }
+
+  @Benchmark
+  public boolean validateToken() {
+    return jwtUtil.validateToken(token, USERNAME);
+  }
+
+  // Rejection of a garbage bearer token: JJWT parsing vs. the structural pre-check JwtFilter runs first
+  @Benchmark
+  public Optional<TokenClaims> rejectGarbageByParsing() {
+    return jwtUtil.verify(GARBAGE_HEADER.substring(7));
+  }
+
+  @Benchmark
+  public boolean rejectGarbageByShape() {
+    return TokenShape.isWellFormed(GARBAGE_HEADER, 7);
+  }
+}
@@ -0,0 +1,113 @@
+package com.rlevi.studying_clean_architecture.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * One user's life cycle: register, login, N x /users/me, refresh, update and delete.
+ * <p>
+ * Each call is recorded under its route. When a step fails the rest of the flow is skipped,
+ * since every step needs the tokens or the id returned by the one before it.
+ */
+public class AuthFlowScenario {
+  private static final String PASSWORD = "password123";
+  private static final AtomicLong SEQUENCE = new AtomicLong();
+
+  private final HttpClient httpClient;
+  private final ObjectMapper objectMapper;
+  private final LatencyRecorder recorder;
+  private final String baseUrl;
+  private final int meRequestsPerFlow;
+  private final Set<String> reportedFailures = ConcurrentHashMap.newKeySet();
+
+  public AuthFlowScenario(HttpClient httpClient, ObjectMapper objectMapper, LatencyRecorder recorder, String baseUrl, int meRequestsPerFlow) {
+    this.httpClient = httpClient;
+    this.objectMapper = objectMapper;
+    this.recorder = recorder;
+    this.baseUrl = baseUrl;
+    // The user id for update/delete comes from /users/me, so at least one call is needed
+    this.meRequestsPerFlow = Math.max(1, meRequestsPerFlow);
+  }
+
+  public void run() throws IOException, InterruptedException {
+    String email = "loadtest-" + SEQUENCE.incrementAndGet() + "@loadtest.dev";
+
+    JsonNode registered = send("POST /auth/register", post("/auth/register",
+            Map.of("name", "Load Test User", "email", email, "password", PASSWORD)));
+    if (registered == null) return;
+
+    JsonNode loggedIn = send("POST /auth/login", post("/auth/login",
+            Map.of("email", email, "password", PASSWORD)));
+    if (loggedIn == null) return;
+    String accessToken = loggedIn.path("token").asText();
+
+    long userId = -1;
+    for (int i = 0; i < meRequestsPerFlow; i++) {
+      JsonNode me = send("GET /users/me", authorized("/users/me", accessToken).GET().build());
+      if (me == null) return;
+      userId = me.path("id").asLong();
+    }
+
+    JsonNode refreshed = send("POST /auth/refresh", post("/auth/refresh",
+            Map.of("refreshToken", loggedIn.path("refreshToken").asText())));
+    if (refreshed == null) return;
+    accessToken = refreshed.path("accessToken").asText();
+
+    JsonNode updated = send("PUT /users/update", authorized("/users/update?id=" + userId, accessToken)
+            .PUT(body(Map.of("name", "Updated Load Test User")))
+            .build());
+    if (updated == null) return;
+
+    send("DELETE /users/delete-user", authorized("/users/delete-user?id=" + userId, accessToken)
+            .DELETE()
+            .build());
+  }
+
+  private JsonNode send(String endpoint, HttpRequest request) throws IOException, InterruptedException {
+    long start = System.nanoTime();
+    HttpResponse<byte[]> response;
+    try {
+      response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    } catch (IOException e) {
+      recorder.record(endpoint, System.nanoTime() - start, false);
+      return null;
+    }
+    long elapsed = System.nanoTime() - start;
+
+    boolean success = response.statusCode() / 100 == 2;
+    recorder.record(endpoint, elapsed, success);
+    if (!success && reportedFailures.add(endpoint)) {
+      System.err.printf("First failure on %s: HTTP %d %s%n",
+              endpoint, response.statusCode(), new String(response.body(), StandardCharsets.UTF_8));
+    }
+    return success ? objectMapper.readTree(response.body()) : null;
+  }
+
+  private HttpRequest post(String path, Map<String, String> payload) throws IOException {
+    return HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .header("Content-Type", "application/json")
+            .POST(body(payload))
+            .build();
+  }
+
+  private HttpRequest.Builder authorized(String path, String accessToken) {
+    return HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .header("Content-Type", "application/json")
+            .header("Authorization", "Bearer " + accessToken);
+  }
+
+  private HttpRequest.BodyPublisher body(Map<String, String> payload) throws IOException {
+    return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(payload));
+  }
+}
@@ -0,0 +1,49 @@
+package com.rlevi.studying_clean_architecture.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares a run against the stored baseline and lists every threshold that was exceeded.
+ */
+public class BaselineComparator {
+  private final LoadTestConfig config;
+
+  public BaselineComparator(LoadTestConfig config) {
+    this.config = config;
+  }
+
+  public List<String> findRegressions(LoadTestReport baseline, LoadTestReport current) {
+    List<String> regressions = new ArrayList<>();
+
+    current.endpoints().forEach((endpoint, stats) -> {
+      if (stats.errorRatePercent() > config.maxErrorRatePercent()) {
+        regressions.add(String.format("%s: error rate %.2f%% exceeds %.2f%%",
+                endpoint, stats.errorRatePercent(), config.maxErrorRatePercent()));
+      }
+
+      LoadTestReport.EndpointStats reference = baseline.endpoints().get(endpoint);
+      if (reference == null) {
+        return;
+      }
+
+      double p99Change = percentChange(reference.p99(), stats.p99());
+      if (p99Change > config.maxP99RegressionPercent()) {
+        regressions.add(String.format("%s: p99 %.2fms vs baseline %.2fms (+%.1f%%, limit %.1f%%)",
+                endpoint, stats.p99(), reference.p99(), p99Change, config.maxP99RegressionPercent()));
+      }
+
+      double throughputChange = -percentChange(reference.throughput(), stats.throughput());
+      if (throughputChange > config.maxThroughputDropPercent()) {
+        regressions.add(String.format("%s: throughput %.1f req/s vs baseline %.1f req/s (-%.1f%%, limit %.1f%%)",
+                endpoint, stats.throughput(), reference.throughput(), throughputChange, config.maxThroughputDropPercent()));
+      }
+    });
+
+    return regressions;
+  }
+
+  private static double percentChange(double reference, double value) {
+    return reference == 0 ? 0.0 : (value - reference) * 100.0 / reference;
+  }
+}
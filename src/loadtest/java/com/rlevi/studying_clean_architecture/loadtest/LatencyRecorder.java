@@ -0,0 +1,57 @@
+package com.rlevi.studying_clean_architecture.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint latency histograms (microseconds, 3 significant digits) and error counters.
+ */
+public class LatencyRecorder {
+  private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+  private final Map<String, ConcurrentHistogram> histograms = new ConcurrentHashMap<>();
+  private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+  private volatile long startedAt = System.nanoTime();
+
+  public void record(String endpoint, long elapsedNanos, boolean success) {
+    long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), HIGHEST_TRACKABLE_MICROS);
+    histograms.computeIfAbsent(endpoint, key -> new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3))
+            .recordValue(micros);
+    if (!success) {
+      errors.computeIfAbsent(endpoint, key -> new LongAdder()).increment();
+    }
+  }
+
+  // Drops everything recorded so far, used at the end of the warmup
+  public void reset() {
+    histograms.values().forEach(Histogram::reset);
+    errors.values().forEach(LongAdder::reset);
+    startedAt = System.nanoTime();
+  }
+
+  public LoadTestReport report() {
+    double elapsedSeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+    Map<String, LoadTestReport.EndpointStats> endpoints = new TreeMap<>();
+    histograms.forEach((endpoint, histogram) -> {
+      Histogram copy = histogram.copy();
+      long count = copy.getTotalCount();
+      LongAdder errorCount = errors.get(endpoint);
+      endpoints.put(endpoint, new LoadTestReport.EndpointStats(
+              count,
+              errorCount == null ? 0 : errorCount.sum(),
+              count / elapsedSeconds,
+              copy.getValueAtPercentile(50.0) / 1000.0,
+              copy.getValueAtPercentile(99.0) / 1000.0,
+              copy.getValueAtPercentile(99.9) / 1000.0,
+              copy.getMaxValue() / 1000.0
+      ));
+    });
+    return new LoadTestReport(elapsedSeconds, endpoints);
+  }
+}
@@ -0,0 +1,40 @@
+package com.rlevi.studying_clean_architecture.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Load test settings, read from {@code loadtest.*} system properties.
+ */
+public record LoadTestConfig(
+        int users,
+        Duration warmup,
+        Duration duration,
+        int meRequestsPerFlow,
+        Path baseline,
+        Path report,
+        boolean updateBaseline,
+        double maxP99RegressionPercent,
+        double maxThroughputDropPercent,
+        double maxErrorRatePercent
+) {
+  public static LoadTestConfig fromSystemProperties() {
+    return new LoadTestConfig(
+            Integer.getInteger("loadtest.users", 16),
+            Duration.ofSeconds(Long.getLong("loadtest.warmup", 10L)),
+            Duration.ofSeconds(Long.getLong("loadtest.duration", 30L)),
+            Integer.getInteger("loadtest.me-requests-per-flow", 5),
+            Path.of(System.getProperty("loadtest.baseline", "src/loadtest/resources/loadtest-baseline.json")),
+            Path.of(System.getProperty("loadtest.report", "target/loadtest-result.json")),
+            Boolean.getBoolean("loadtest.update-baseline"),
+            doubleProperty("loadtest.max-p99-regression", 25.0),
+            doubleProperty("loadtest.max-throughput-drop", 20.0),
+            doubleProperty("loadtest.max-error-rate", 0.0)
+    );
+  }
+
+  private static double doubleProperty(String name, double defaultValue) {
+    String value = System.getProperty(name);
+    return value == null || value.isBlank() ? defaultValue : Double.parseDouble(value);
+  }
+}
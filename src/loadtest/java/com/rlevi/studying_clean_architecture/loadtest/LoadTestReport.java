@@ -0,0 +1,23 @@
+package com.rlevi.studying_clean_architecture.loadtest;
+
+import java.util.Map;
+
+/**
+ * Result of one measured run. Latencies are in milliseconds, throughput in requests per second.
+ */
+public record LoadTestReport(double durationSeconds, Map<String, EndpointStats> endpoints) {
+
+  public record EndpointStats(
+          long requests,
+          long errors,
+          double throughput,
+          double p50,
+          double p99,
+          double p999,
+          double max
+  ) {
+    public double errorRatePercent() {
+      return requests == 0 ? 0.0 : errors * 100.0 / requests;
+    }
+  }
+}
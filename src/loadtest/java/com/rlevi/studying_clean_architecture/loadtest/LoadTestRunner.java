@@ -0,0 +1,123 @@
+package com.rlevi.studying_clean_architecture.loadtest;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.rlevi.studying_clean_architecture.StudyingCleanArchitectureApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Boots the application on the h2 profile with a random port, drives {@link AuthFlowScenario}
+ * from {@code loadtest.users} concurrent clients and compares the measured window against the baseline.
+ * <p>
+ * Exits with status 1 when a threshold is exceeded. Run with {@code -Dloadtest.update-baseline=true}
+ * to store the current numbers as the new baseline.
+ */
+public class LoadTestRunner {
+
+  public static void main(String[] args) throws Exception {
+    LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+    ObjectMapper objectMapper = new ObjectMapper()
+            .enable(SerializationFeature.INDENT_OUTPUT)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    ConfigurableApplicationContext context = new SpringApplicationBuilder(StudyingCleanArchitectureApplication.class)
+            .profiles("h2")
+            .properties(Map.of(
+                    "server.port", "0",
+                    "JWT_SECRET", "loadtest-secret-key-that-is-long-enough-for-hs512-signing-0123456789",
+                    "logging.level.root", "WARN"
+            ))
+            .run(args);
+
+    LoadTestReport report;
+    try {
+      int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+      report = run(config, objectMapper, "http://localhost:" + port + "/api/v1");
+    } finally {
+      context.close();
+    }
+
+    Files.createDirectories(config.report().toAbsolutePath().getParent());
+    objectMapper.writeValue(config.report().toFile(), report);
+    print(report);
+    System.out.println("Report written to " + config.report());
+
+    if (config.updateBaseline()) {
+      objectMapper.writeValue(config.baseline().toFile(), report);
+      System.out.println("Baseline updated at " + config.baseline());
+      return;
+    }
+
+    if (!Files.exists(config.baseline())) {
+      System.out.println("No baseline at " + config.baseline() + ", skipping comparison");
+      return;
+    }
+
+    LoadTestReport baseline = objectMapper.readValue(config.baseline().toFile(), LoadTestReport.class);
+    List<String> regressions = new BaselineComparator(config).findRegressions(baseline, report);
+    if (regressions.isEmpty()) {
+      System.out.println("No regressions against " + config.baseline());
+      return;
+    }
+
+    regressions.forEach(regression -> System.out.println("REGRESSION " + regression));
+    System.exit(1);
+  }
+
+  private static LoadTestReport run(LoadTestConfig config, ObjectMapper objectMapper, String baseUrl) throws Exception {
+    HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    LatencyRecorder recorder = new LatencyRecorder();
+    AuthFlowScenario scenario = new AuthFlowScenario(httpClient, objectMapper, recorder, baseUrl, config.meRequestsPerFlow());
+
+    long deadline = System.nanoTime() + config.warmup().plus(config.duration()).toNanos();
+    ExecutorService clients = Executors.newFixedThreadPool(config.users());
+    List<Future<?>> futures = new ArrayList<>();
+    for (int i = 0; i < config.users(); i++) {
+      futures.add(clients.submit(() -> {
+        while (System.nanoTime() < deadline) {
+          scenario.run();
+        }
+        return null;
+      }));
+    }
+
+    System.out.printf("Warming up for %ds with %d users%n", config.warmup().toSeconds(), config.users());
+    Thread.sleep(config.warmup().toMillis());
+    recorder.reset();
+    System.out.printf("Measuring for %ds%n", config.duration().toSeconds());
+
+    for (Future<?> future : futures) {
+      future.get();
+    }
+    LoadTestReport report = recorder.report();
+
+    clients.shutdown();
+    clients.awaitTermination(10, TimeUnit.SECONDS);
+    return report;
+  }
+
+  private static void print(LoadTestReport report) {
+    System.out.printf("%n%-26s %9s %7s %10s %9s %9s %9s %9s%n",
+            "Endpoint", "Requests", "Errors", "Req/s", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)");
+    report.endpoints().forEach((endpoint, stats) -> System.out.printf("%-26s %9d %7d %10.1f %9.2f %9.2f %9.2f %9.2f%n",
+            endpoint, stats.requests(), stats.errors(), stats.throughput(), stats.p50(), stats.p99(), stats.p999(), stats.max()));
+    System.out.println();
+  }
+}
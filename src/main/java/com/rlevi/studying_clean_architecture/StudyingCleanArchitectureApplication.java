@@ -1,10 +1,13 @@
 package com.rlevi.studying_clean_architecture;
 
+import com.rlevi.studying_clean_architecture.infrastructure.config.NativeRuntimeHints;
 import io.github.cdimascio.dotenv.Dotenv;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @SpringBootApplication
+@ImportRuntimeHints(NativeRuntimeHints.class)
 public class StudyingCleanArchitectureApplication {
 
   public static void main(String[] args) {
@@ -0,0 +1,9 @@
+package com.rlevi.studying_clean_architecture.core.entities;
+
+import java.time.Instant;
+
+public record TokenClaims(
+        String subject,
+        Instant expiresAt
+) {
+}
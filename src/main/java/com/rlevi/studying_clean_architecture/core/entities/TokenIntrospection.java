@@ -0,0 +1,14 @@
+package com.rlevi.studying_clean_architecture.core.entities;
+
+import java.time.Instant;
+
+public record TokenIntrospection(
+        boolean active,
+        String subject,
+        Instant expiresAt,
+        Long userId
+) {
+  public static TokenIntrospection inactive() {
+    return new TokenIntrospection(false, null, null, null);
+  }
+}
@@ -0,0 +1,32 @@
+package com.rlevi.studying_clean_architecture.core.entities;
+
+/**
+ * Outcome of a use case whose expected failures (wrong credentials, an email already in use, a reused refresh
+ * token, an unknown user) are part of its contract.
+ * <p>
+ * Those failures are returned rather than thrown, so rejecting a request costs no stack trace; the adapters map
+ * each {@link Reason} to their own response. Unexpected errors are still thrown.
+ */
+public sealed interface UseCaseResult<T> permits UseCaseResult.Success, UseCaseResult.Failure {
+
+  static <T> UseCaseResult<T> success(T value) {
+    return new Success<>(value);
+  }
+
+  static <T> UseCaseResult<T> failure(Reason reason, String message) {
+    return new Failure<>(reason, message);
+  }
+
+  record Success<T>(T value) implements UseCaseResult<T> {
+  }
+
+  record Failure<T>(Reason reason, String message) implements UseCaseResult<T> {
+  }
+
+  enum Reason {
+    INVALID_CREDENTIALS,
+    EMAIL_ALREADY_IN_USE,
+    INVALID_REFRESH_TOKEN,
+    USER_NOT_FOUND
+  }
+}
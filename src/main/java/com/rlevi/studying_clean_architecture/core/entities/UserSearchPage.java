@@ -0,0 +1,10 @@
+package com.rlevi.studying_clean_architecture.core.entities;
+
+import java.util.List;
+
+// nextCursor is the id to pass as the cursor of the following page, null on the last page
+public record UserSearchPage(
+        List<User> users,
+        Long nextCursor
+) {
+}
@@ -1,12 +1,13 @@
 package com.rlevi.studying_clean_architecture.core.exception;
 
+// Stackless: domain rules are broken by bad input, not by bugs, so a stack trace would only cost CPU
 public class DomainException extends RuntimeException {
 
     public DomainException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 
     public DomainException(String message, Throwable cause) {
-        super(message, cause);
+        super(message, cause, false, false);
     }
 }
@@ -1,10 +1,16 @@
 package com.rlevi.studying_clean_architecture.core.gateway;
 
+import com.rlevi.studying_clean_architecture.core.entities.TokenClaims;
+
 import java.time.Instant;
+import java.util.Optional;
 
 public interface TokenGateway {
     String generateAccessToken(String email);
     String generateRefreshToken(String email);
     Instant extractExpiration(String token);
     String extractUsername(String token);
+
+    // Empty when the token is malformed or its signature does not match; expired tokens still return their claims
+    Optional<TokenClaims> verify(String token);
 }
@@ -2,6 +2,7 @@ package com.rlevi.studying_clean_architecture.core.gateway;
 
 import com.rlevi.studying_clean_architecture.core.entities.User;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,7 +11,11 @@ public interface UserGateway {
   User updateUser(User user);
   Optional<User> findUserById(Long id);
   Optional<User> findUserByEmail(String email);
+  // Only the users that exist, in no particular order
+  List<User> findUsersByIds(Collection<Long> ids);
   List<User> findAllUsers();
+  // Users whose name or email matches the query (case-insensitive), ordered by id and starting after the cursor id
+  List<User> searchUsers(String query, int limit, Long cursor);
   boolean verifyExistsByEmail(String email);
   void deleteUser(Long id);
 }
@@ -2,8 +2,8 @@ package com.rlevi.studying_clean_architecture.core.usecases.createuser;
 
 import com.rlevi.studying_clean_architecture.core.entities.AuthResult;
 import com.rlevi.studying_clean_architecture.core.entities.RefreshToken;
+import com.rlevi.studying_clean_architecture.core.entities.UseCaseResult;
 import com.rlevi.studying_clean_architecture.core.entities.User;
-import com.rlevi.studying_clean_architecture.core.exception.UserAlreadyExistsException;
 import com.rlevi.studying_clean_architecture.core.gateway.RefreshTokenGateway;
 import com.rlevi.studying_clean_architecture.core.gateway.TokenGateway;
 import com.rlevi.studying_clean_architecture.core.gateway.UserGateway;
@@ -13,6 +13,9 @@ import com.rlevi.studying_clean_architecture.core.utils.DomainValidator;
 import java.time.Instant;
 
 public class CreateUserUseCaseImpl implements CreateUserUseCase {
+  private static final UseCaseResult<AuthResult> EMAIL_ALREADY_IN_USE =
+          UseCaseResult.failure(UseCaseResult.Reason.EMAIL_ALREADY_IN_USE, "The email provided is already in use. Please use another email or log in.");
+
   private final UserGateway userGateway;
   private final PasswordEncoderGateway passwordEncoderGateway;
   private final TokenGateway tokenGateway;
@@ -26,12 +29,12 @@ public class CreateUserUseCaseImpl implements CreateUserUseCase {
   }
 
   @Override
-  public AuthResult execute(User user) {
+  public UseCaseResult<AuthResult> execute(User user) {
     DomainValidator.validateEmail(user.email());
     DomainValidator.validateName(user.name());
 
     if (userGateway.verifyExistsByEmail(user.email())) {
-      throw new UserAlreadyExistsException("The email provided is already in use. Please use another email or log in.");
+      return EMAIL_ALREADY_IN_USE;
     }
 
     String encryptedPassword = passwordEncoderGateway.encode(user.passwordHash());
@@ -64,6 +67,6 @@ public class CreateUserUseCaseImpl implements CreateUserUseCase {
     );
     refreshTokenGateway.save(refreshToken);
 
-    return new AuthResult(createdUser, accessToken, refreshTokenValue);
+    return UseCaseResult.success(new AuthResult(createdUser, accessToken, refreshTokenValue));
   }
 }
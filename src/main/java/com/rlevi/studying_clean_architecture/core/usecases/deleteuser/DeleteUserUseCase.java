@@ -1,5 +1,7 @@
 package com.rlevi.studying_clean_architecture.core.usecases.deleteuser;
 
+import com.rlevi.studying_clean_architecture.core.entities.UseCaseResult;
+
 public interface DeleteUserUseCase {
-  void execute(Long id);
+  UseCaseResult<Void> execute(Long id);
 }
@@ -1,5 +1,6 @@
 package com.rlevi.studying_clean_architecture.core.usecases.deleteuser;
 
+import com.rlevi.studying_clean_architecture.core.entities.UseCaseResult;
 import com.rlevi.studying_clean_architecture.core.gateway.UserGateway;
 
 public class DeleteUserUseCaseImpl implements DeleteUserUseCase {
@@ -10,13 +11,14 @@ public class DeleteUserUseCaseImpl implements DeleteUserUseCase {
   }
 
   @Override
-  public void execute(Long id) {
+  public UseCaseResult<Void> execute(Long id) {
     if (id == null) {
       throw new IllegalArgumentException("Id cannot be null.");
     } else if (userGateway.findUserById(id).isEmpty()) {
-      throw new IllegalArgumentException("User not found with ID: " + id);
+      return UseCaseResult.failure(UseCaseResult.Reason.USER_NOT_FOUND, "User not found with ID: " + id);
     }
 
     userGateway.deleteUser(id);
+    return UseCaseResult.success(null);
   }
 }
@@ -0,0 +1,11 @@
+package com.rlevi.studying_clean_architecture.core.usecases.findusersbyids;
+
+import com.rlevi.studying_clean_architecture.core.entities.User;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface FindUsersByIdsUseCase {
+  // One entry per requested id, in the same order; empty where no user has that id
+  List<Optional<User>> execute(List<Long> ids);
+}
@@ -0,0 +1,35 @@
+package com.rlevi.studying_clean_architecture.core.usecases.findusersbyids;
+
+import com.rlevi.studying_clean_architecture.core.entities.User;
+import com.rlevi.studying_clean_architecture.core.gateway.UserGateway;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class FindUsersByIdsUseCaseImpl implements FindUsersByIdsUseCase {
+  private final UserGateway userGateway;
+
+  public FindUsersByIdsUseCaseImpl(UserGateway userGateway) {
+    this.userGateway = userGateway;
+  }
+
+  @Override
+  public List<Optional<User>> execute(List<Long> ids) {
+    if (ids == null || ids.contains(null)) {
+      throw new IllegalArgumentException("User IDs cannot be null.");
+    }
+
+    Set<Long> distinctIds = new LinkedHashSet<>(ids);
+    Map<Long, User> usersById = userGateway.findUsersByIds(distinctIds).stream()
+            .collect(Collectors.toMap(User::id, Function.identity()));
+
+    return ids.stream()
+            .map(id -> Optional.ofNullable(usersById.get(id)))
+            .toList();
+  }
+}
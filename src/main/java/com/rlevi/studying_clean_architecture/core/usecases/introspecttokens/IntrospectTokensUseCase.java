@@ -0,0 +1,10 @@
+package com.rlevi.studying_clean_architecture.core.usecases.introspecttokens;
+
+import com.rlevi.studying_clean_architecture.core.entities.TokenIntrospection;
+
+import java.util.List;
+
+public interface IntrospectTokensUseCase {
+    // One result per token, in the same order
+    List<TokenIntrospection> execute(List<String> tokens);
+}
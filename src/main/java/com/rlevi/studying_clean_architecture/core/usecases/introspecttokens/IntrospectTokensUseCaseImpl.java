@@ -0,0 +1,66 @@
+package com.rlevi.studying_clean_architecture.core.usecases.introspecttokens;
+
+import com.rlevi.studying_clean_architecture.core.entities.TokenClaims;
+import com.rlevi.studying_clean_architecture.core.entities.TokenIntrospection;
+import com.rlevi.studying_clean_architecture.core.entities.User;
+import com.rlevi.studying_clean_architecture.core.gateway.TokenGateway;
+import com.rlevi.studying_clean_architecture.core.gateway.UserGateway;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+public class IntrospectTokensUseCaseImpl implements IntrospectTokensUseCase {
+  private final TokenGateway tokenGateway;
+  private final UserGateway userGateway;
+  private final Executor verificationExecutor;
+
+  public IntrospectTokensUseCaseImpl(TokenGateway tokenGateway, UserGateway userGateway, Executor verificationExecutor) {
+    this.tokenGateway = tokenGateway;
+    this.userGateway = userGateway;
+    this.verificationExecutor = verificationExecutor;
+  }
+
+  @Override
+  public List<TokenIntrospection> execute(List<String> tokens) {
+    Instant now = Instant.now();
+
+    // 1. Verify each distinct token signature in parallel
+    Map<String, CompletableFuture<Optional<TokenClaims>>> verifications = new LinkedHashMap<>();
+    for (String token : tokens) {
+      verifications.computeIfAbsent(token,
+              t -> CompletableFuture.supplyAsync(() -> tokenGateway.verify(t), verificationExecutor));
+    }
+
+    // 2. Look up each subject once, on the calling thread, so deleted users come back inactive
+    Map<String, Optional<User>> usersBySubject = new HashMap<>();
+    List<TokenIntrospection> results = new ArrayList<>(tokens.size());
+    for (String token : tokens) {
+      Optional<TokenClaims> claims = join(verifications.get(token))
+              .filter(verified -> verified.expiresAt().isAfter(now));
+      results.add(claims
+              .flatMap(verified -> usersBySubject.computeIfAbsent(verified.subject(), userGateway::findUserByEmail)
+                      .map(user -> new TokenIntrospection(true, verified.subject(), verified.expiresAt(), user.id())))
+              .orElseGet(TokenIntrospection::inactive));
+    }
+    return results;
+  }
+
+  private static <T> T join(CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+}
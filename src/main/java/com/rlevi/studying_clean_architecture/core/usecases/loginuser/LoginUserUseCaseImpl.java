@@ -2,16 +2,20 @@ package com.rlevi.studying_clean_architecture.core.usecases.loginuser;
 
 import com.rlevi.studying_clean_architecture.core.entities.AuthResult;
 import com.rlevi.studying_clean_architecture.core.entities.RefreshToken;
+import com.rlevi.studying_clean_architecture.core.entities.UseCaseResult;
 import com.rlevi.studying_clean_architecture.core.entities.User;
 import com.rlevi.studying_clean_architecture.core.gateway.RefreshTokenGateway;
 import com.rlevi.studying_clean_architecture.core.gateway.TokenGateway;
-import com.rlevi.studying_clean_architecture.infrastructure.exception.AuthenticationException;
 import com.rlevi.studying_clean_architecture.core.gateway.UserGateway;
 import com.rlevi.studying_clean_architecture.core.gateway.PasswordEncoderGateway;
 
 import java.time.Instant;
 
 public class LoginUserUseCaseImpl implements LoginUserUseCase {
+  // Every rejection looks the same to the caller, so one shared instance serves them all
+  private static final UseCaseResult<AuthResult> INVALID_CREDENTIALS =
+          UseCaseResult.failure(UseCaseResult.Reason.INVALID_CREDENTIALS, "Invalid email or password. Please try again.");
+
   private final UserGateway userGateway;
   private final PasswordEncoderGateway passwordEncoderGateway;
   private final RefreshTokenGateway refreshTokenGateway;
@@ -25,16 +29,18 @@ public class LoginUserUseCaseImpl implements LoginUserUseCase {
   }
 
   @Override
-  public AuthResult execute(User user) {
+  public UseCaseResult<AuthResult> execute(User user) {
     if (user == null || user.email() == null || user.passwordHash() == null || user.passwordHash().isBlank()) {
-      throw new AuthenticationException("Invalid email or password. Please try again.");
+      return INVALID_CREDENTIALS;
     }
 
-    User foundUser = userGateway.findUserByEmail(user.email())
-      .orElseThrow(() -> new AuthenticationException("Invalid email or password. Please try again."));
+    User foundUser = userGateway.findUserByEmail(user.email()).orElse(null);
+    if (foundUser == null) {
+      return INVALID_CREDENTIALS;
+    }
 
     if (!passwordEncoderGateway.matches(user.passwordHash(), foundUser.passwordHash())) {
-      throw new AuthenticationException("Invalid email or password. Please try again.");
+      return INVALID_CREDENTIALS;
     }
 
     // Generate tokens
@@ -54,6 +60,6 @@ public class LoginUserUseCaseImpl implements LoginUserUseCase {
     );
     refreshTokenGateway.save(refreshToken);
 
-    return new AuthResult(foundUser, accessToken, refreshTokenValue);
+    return UseCaseResult.success(new AuthResult(foundUser, accessToken, refreshTokenValue));
   }
 }
@@ -1,7 +1,8 @@
 package com.rlevi.studying_clean_architecture.core.usecases.refreshtoken;
 
 import com.rlevi.studying_clean_architecture.core.entities.AuthResult;
+import com.rlevi.studying_clean_architecture.core.entities.UseCaseResult;
 
 public interface RefreshTokenUseCase {
-    AuthResult execute(String refreshToken);
+    UseCaseResult<AuthResult> execute(String refreshToken);
 }
@@ -2,8 +2,8 @@ package com.rlevi.studying_clean_architecture.core.usecases.refreshtoken;
 
 import com.rlevi.studying_clean_architecture.core.entities.AuthResult;
 import com.rlevi.studying_clean_architecture.core.entities.RefreshToken;
+import com.rlevi.studying_clean_architecture.core.entities.UseCaseResult;
 import com.rlevi.studying_clean_architecture.core.entities.User;
-import com.rlevi.studying_clean_architecture.core.exception.DomainException;
 import com.rlevi.studying_clean_architecture.core.gateway.RefreshTokenGateway;
 import com.rlevi.studying_clean_architecture.core.gateway.TokenGateway;
 import com.rlevi.studying_clean_architecture.core.gateway.UserGateway;
@@ -23,15 +23,17 @@ public class RefreshTokenUseCaseImpl implements RefreshTokenUseCase {
   }
 
   @Override
-  public AuthResult execute(String refreshToken) {
+  public UseCaseResult<AuthResult> execute(String refreshToken) {
     // 1. Find refresh token in the database (only if not revoked)
-    RefreshToken currentToken = refreshTokenGateway.findByTokenAndRevokedFalse(refreshToken)
-            .orElseThrow(() -> new InvalidRefreshTokenException("Refresh token not found or already revoked."));
+    RefreshToken currentToken = refreshTokenGateway.findByTokenAndRevokedFalse(refreshToken).orElse(null);
+    if (currentToken == null) {
+      return invalid("Refresh token not found or already revoked.");
+    }
 
     // 2. Check if the physical token (JWT) is expired
     if (currentToken.expiryDate().isBefore(Instant.now())) {
       refreshTokenGateway.revokeByToken(refreshToken, null);
-      throw new InvalidRefreshTokenException("Refresh token has expired. Please login again.");
+      return invalid("Refresh token has expired. Please login again.");
     }
 
     // 3. Validate token integrity (optional, as it's already in DB, but good for security)
@@ -43,16 +45,18 @@ public class RefreshTokenUseCaseImpl implements RefreshTokenUseCase {
     } catch (Exception jwtException) {
       // Revoke the current token since it's malformed/invalid
       refreshTokenGateway.revokeByToken(refreshToken, null);
-      throw new InvalidRefreshTokenException("Invalid or malformed refresh token. Please login again.");
+      return invalid("Invalid or malformed refresh token. Please login again.");
     }
 
     // 4. Find the associated user
-    User user = userGateway.findUserByEmail(email)
-            .orElseThrow(() -> new DomainException("User associated with token not found."));
+    User user = userGateway.findUserByEmail(email).orElse(null);
+    if (user == null) {
+      return invalid("User associated with token not found.");
+    }
 
     // 5. Validate if the token belongs to the found user
     if (!currentToken.userId().equals(user.id())) {
-      throw new InvalidRefreshTokenException("Token mismatch: Refresh token does not belong to this user.");
+      return invalid("Token mismatch: Refresh token does not belong to this user.");
     }
 
     // 6. ROTATION: Generate new Refresh Token and Access Token (atomic operation)
@@ -71,8 +75,18 @@ public class RefreshTokenUseCaseImpl implements RefreshTokenUseCase {
     );
 
     // 7. ATOMIC ROTATION: Save new token AND revoke old token in single transaction
-    RefreshToken savedRefreshToken = refreshTokenGateway.rotate(refreshToken, newRefreshToken);
+    // A concurrent request may have rotated the same token first; the gateway reports that as already revoked
+    RefreshToken savedRefreshToken;
+    try {
+      savedRefreshToken = refreshTokenGateway.rotate(refreshToken, newRefreshToken);
+    } catch (InvalidRefreshTokenException alreadyRevoked) {
+      return invalid(alreadyRevoked.getMessage());
+    }
+
+    return UseCaseResult.success(new AuthResult(user, newAccessToken, savedRefreshToken.token()));
+  }
 
-    return new AuthResult(user, newAccessToken, savedRefreshToken.token());
+  private static UseCaseResult<AuthResult> invalid(String message) {
+    return UseCaseResult.failure(UseCaseResult.Reason.INVALID_REFRESH_TOKEN, message);
   }
 }
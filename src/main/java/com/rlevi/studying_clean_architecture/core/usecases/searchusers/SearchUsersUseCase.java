@@ -0,0 +1,8 @@
+package com.rlevi.studying_clean_architecture.core.usecases.searchusers;
+
+import com.rlevi.studying_clean_architecture.core.entities.UserSearchPage;
+
+public interface SearchUsersUseCase {
+  // cursor is the nextCursor of the previous page, null for the first one
+  UserSearchPage execute(String query, int limit, Long cursor);
+}
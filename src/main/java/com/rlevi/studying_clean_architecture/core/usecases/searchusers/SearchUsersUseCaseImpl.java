@@ -0,0 +1,33 @@
+package com.rlevi.studying_clean_architecture.core.usecases.searchusers;
+
+import com.rlevi.studying_clean_architecture.core.entities.User;
+import com.rlevi.studying_clean_architecture.core.entities.UserSearchPage;
+import com.rlevi.studying_clean_architecture.core.gateway.UserGateway;
+
+import java.util.List;
+
+public class SearchUsersUseCaseImpl implements SearchUsersUseCase {
+  private final UserGateway userGateway;
+
+  public SearchUsersUseCaseImpl(UserGateway userGateway) {
+    this.userGateway = userGateway;
+  }
+
+  @Override
+  public UserSearchPage execute(String query, int limit, Long cursor) {
+    if (query == null || query.isBlank()) {
+      throw new IllegalArgumentException("Search query cannot be blank.");
+    } else if (limit < 1) {
+      throw new IllegalArgumentException("Search limit must be positive.");
+    }
+
+    // One extra row tells whether another page exists, without a count query
+    List<User> users = userGateway.searchUsers(query.trim(), limit + 1, cursor);
+    if (users.size() <= limit) {
+      return new UserSearchPage(users, null);
+    }
+
+    List<User> page = List.copyOf(users.subList(0, limit));
+    return new UserSearchPage(page, page.get(limit - 1).id());
+  }
+}
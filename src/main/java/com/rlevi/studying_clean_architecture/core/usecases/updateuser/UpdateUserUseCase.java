@@ -1,7 +1,8 @@
 package com.rlevi.studying_clean_architecture.core.usecases.updateuser;
 
+import com.rlevi.studying_clean_architecture.core.entities.UseCaseResult;
 import com.rlevi.studying_clean_architecture.core.entities.User;
 
 public interface UpdateUserUseCase {
-  User execute(User user);
+  UseCaseResult<User> execute(User user);
 }
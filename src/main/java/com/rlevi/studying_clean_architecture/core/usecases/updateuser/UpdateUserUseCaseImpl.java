@@ -1,7 +1,7 @@
 package com.rlevi.studying_clean_architecture.core.usecases.updateuser;
 
+import com.rlevi.studying_clean_architecture.core.entities.UseCaseResult;
 import com.rlevi.studying_clean_architecture.core.entities.User;
-import com.rlevi.studying_clean_architecture.core.exception.UserNotFoundException;
 import com.rlevi.studying_clean_architecture.core.gateway.UserGateway;
 import com.rlevi.studying_clean_architecture.core.gateway.PasswordEncoderGateway;
 
@@ -16,15 +16,17 @@ public class UpdateUserUseCaseImpl implements UpdateUserUseCase {
   }
 
   @Override
-  public User execute(User user) {
+  public UseCaseResult<User> execute(User user) {
     if (user == null) {
-      throw new UserNotFoundException("User cannot be null.");
+      throw new IllegalArgumentException("User cannot be null.");
     } else if (user.id() == null) {
-      throw new UserNotFoundException("User ID is required for update");
+      throw new IllegalArgumentException("User ID is required for update");
     }
 
-    var existingUser = userGateway.findUserById(user.id())
-            .orElseThrow(() -> new UserNotFoundException("User not found with ID: " + user.id()));
+    var existingUser = userGateway.findUserById(user.id()).orElse(null);
+    if (existingUser == null) {
+      return UseCaseResult.failure(UseCaseResult.Reason.USER_NOT_FOUND, "User not found with ID: " + user.id());
+    }
 
     String name = existingUser.name();
     if (user.name() != null && !user.name().isBlank()) {
@@ -50,6 +52,6 @@ public class UpdateUserUseCaseImpl implements UpdateUserUseCase {
             existingUser.updatedAt()
     );
 
-    return userGateway.updateUser(updatedUser);
+    return UseCaseResult.success(userGateway.updateUser(updatedUser));
   }
 }
@@ -5,34 +5,11 @@ import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 
 import java.util.Map;
-import java.util.UUID;
 
 public class LoggerUtils {
     
-    private static final String REQUEST_ID_KEY = "requestId";
-    private static final String USER_EMAIL_KEY = "userEmail";
-    private static final String ENDPOINT_KEY = "endpoint";
     private static final String EXECUTION_TIME_KEY = "executionTime";
 
-    /**
-     * Starts logging a request, configuring MDC with contextual information.
-     *
-     * @param logger SLF4J logger
-     * @param endpoint Request endpoint (e.g., "POST /api/v1/users/register")
-     * @param userEmail User email (can be null for public endpoints)
-     */
-    public static void startRequest(Logger logger, String endpoint, String userEmail) {
-        String requestId = UUID.randomUUID().toString();
-        
-        MDC.put(REQUEST_ID_KEY, requestId);
-        MDC.put(ENDPOINT_KEY, endpoint);
-        if (userEmail != null) {
-            MDC.put(USER_EMAIL_KEY, userEmail);
-        }
-        
-        logger.info("Request started - {}", endpoint);
-    }
-    
     /**
      * Records the start of an operation.
      *
@@ -107,21 +84,6 @@ public class LoggerUtils {
         }
     }
     
-    /**
-     * Ends request logging, clearing the MDC.
-     *
-     * @param logger SLF4J logger
-     */
-    public static void endRequest(Logger logger) {
-        String requestId = MDC.get(REQUEST_ID_KEY);
-        String endpoint = MDC.get(ENDPOINT_KEY);
-        
-        logger.info("Request completed - {}", endpoint);
-        
-        // Limpa o MDC
-        MDC.clear();
-    }
-    
     /**
      * Records the execution time of an operation.
      *
@@ -1,5 +1,7 @@
 package com.rlevi.studying_clean_architecture.infrastructure.beans;
 
+import com.rlevi.studying_clean_architecture.core.entities.UseCaseResult;
+import com.rlevi.studying_clean_architecture.core.entities.User;
 import com.rlevi.studying_clean_architecture.core.gateway.TokenGateway;
 import com.rlevi.studying_clean_architecture.core.gateway.UserGateway;
 import com.rlevi.studying_clean_architecture.core.gateway.PasswordEncoderGateway;
@@ -13,78 +15,237 @@ import com.rlevi.studying_clean_architecture.core.usecases.finduserbyemail.FindU
 import com.rlevi.studying_clean_architecture.core.usecases.finduserbyemail.FindUserByEmailUseCaseImpl;
 import com.rlevi.studying_clean_architecture.core.usecases.finduserbyid.FindUserByIdUseCase;
 import com.rlevi.studying_clean_architecture.core.usecases.finduserbyid.FindUserByIdUseCaseImpl;
+import com.rlevi.studying_clean_architecture.core.usecases.findusersbyids.FindUsersByIdsUseCase;
+import com.rlevi.studying_clean_architecture.core.usecases.findusersbyids.FindUsersByIdsUseCaseImpl;
+import com.rlevi.studying_clean_architecture.core.usecases.searchusers.SearchUsersUseCase;
+import com.rlevi.studying_clean_architecture.core.usecases.searchusers.SearchUsersUseCaseImpl;
 import com.rlevi.studying_clean_architecture.core.usecases.updateuser.UpdateUserUseCase;
 import com.rlevi.studying_clean_architecture.core.usecases.updateuser.UpdateUserUseCaseImpl;
 import com.rlevi.studying_clean_architecture.core.usecases.verifyexistsbyemail.VerifyExistsByEmailUseCase;
 import com.rlevi.studying_clean_architecture.core.usecases.verifyexistsbyemail.VerifyExistsByEmailUseCaseImpl;
+import com.rlevi.studying_clean_architecture.core.usecases.introspecttokens.IntrospectTokensUseCase;
+import com.rlevi.studying_clean_architecture.core.usecases.introspecttokens.IntrospectTokensUseCaseImpl;
 import com.rlevi.studying_clean_architecture.core.usecases.loginuser.LoginUserUseCase;
 import com.rlevi.studying_clean_architecture.core.usecases.loginuser.LoginUserUseCaseImpl;
 import com.rlevi.studying_clean_architecture.core.usecases.refreshtoken.RefreshTokenUseCase;
 import com.rlevi.studying_clean_architecture.core.usecases.refreshtoken.RefreshTokenUseCaseImpl;
 import com.rlevi.studying_clean_architecture.core.gateway.RefreshTokenGateway;
+import com.rlevi.studying_clean_architecture.infrastructure.cache.CacheConfiguration;
+import com.rlevi.studying_clean_architecture.infrastructure.cache.CacheInvalidatingUserGateway;
+import com.rlevi.studying_clean_architecture.infrastructure.cache.CacheInvalidationBus;
+import com.rlevi.studying_clean_architecture.infrastructure.cache.CachingTokenGateway;
+import com.rlevi.studying_clean_architecture.infrastructure.cache.InvalidatedCache;
 import com.rlevi.studying_clean_architecture.infrastructure.gateway.BCryptPasswordEncoderGateway;
+import com.rlevi.studying_clean_architecture.infrastructure.gateway.ExecutorPasswordEncoderGateway;
+import com.rlevi.studying_clean_architecture.infrastructure.gateway.RefreshTokenRepositoryGateway;
+import com.rlevi.studying_clean_architecture.infrastructure.gateway.UserRepositoryGateway;
+import com.rlevi.studying_clean_architecture.infrastructure.metrics.MeteredPasswordEncoderGateway;
+import com.rlevi.studying_clean_architecture.infrastructure.metrics.MeteredRefreshTokenGateway;
+import com.rlevi.studying_clean_architecture.infrastructure.metrics.MeteredTokenGateway;
+import com.rlevi.studying_clean_architecture.infrastructure.metrics.MeteredUserGateway;
+import com.rlevi.studying_clean_architecture.infrastructure.metrics.OperationMetrics;
+import com.rlevi.studying_clean_architecture.infrastructure.persistence.routing.ReplicaRouting;
+import com.rlevi.studying_clean_architecture.infrastructure.search.IndexedUserGateway;
+import com.rlevi.studying_clean_architecture.infrastructure.search.UserSearchIndex;
 import com.rlevi.studying_clean_architecture.infrastructure.security.CustomUserDetailsService;
 import com.rlevi.studying_clean_architecture.infrastructure.security.JwtUtil;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.Function;
+
 @Configuration
+@Profile("!reactive")
 public class BeanConfiguration {
 
   @Bean
-  public CreateUserUseCase createUserUseCase(UserGateway userGateway, PasswordEncoderGateway passwordEncoderGateway, TokenGateway tokenGateway, RefreshTokenGateway refreshTokenGateway) {
-    return new CreateUserUseCaseImpl(userGateway, passwordEncoderGateway, tokenGateway, refreshTokenGateway);
+  public CreateUserUseCase createUserUseCase(UserGateway userGateway, PasswordEncoderGateway passwordEncoderGateway, TokenGateway tokenGateway, RefreshTokenGateway refreshTokenGateway, ObservationRegistry observationRegistry, ReplicaRouting replicaRouting) {
+    CreateUserUseCase useCase = new CreateUserUseCaseImpl(userGateway, passwordEncoderGateway, tokenGateway, refreshTokenGateway);
+    OperationMetrics metrics = OperationMetrics.forUseCase(observationRegistry, CreateUserUseCase.class);
+    return user -> metrics.record("execute", () -> replicaRouting.write(user.email(), () -> useCase.execute(user)));
+  }
+
+  @Bean
+  public LoginUserUseCase loginUserUseCase(UserGateway userGateway, PasswordEncoderGateway passwordEncoderGateway, RefreshTokenGateway refreshTokenGateway, TokenGateway tokenGateway, ObservationRegistry observationRegistry) {
+    LoginUserUseCase useCase = new LoginUserUseCaseImpl(userGateway, passwordEncoderGateway, refreshTokenGateway, tokenGateway);
+    OperationMetrics metrics = OperationMetrics.forUseCase(observationRegistry, LoginUserUseCase.class);
+    return user -> metrics.record("execute", () -> useCase.execute(user));
+  }
+
+  @Bean
+  public UpdateUserUseCase updateUserUseCase(UserGateway userGateway, PasswordEncoderGateway passwordEncoderGateway, ObservationRegistry observationRegistry, ReplicaRouting replicaRouting) {
+    UpdateUserUseCase useCase = new UpdateUserUseCaseImpl(userGateway, passwordEncoderGateway);
+    OperationMetrics metrics = OperationMetrics.forUseCase(observationRegistry, UpdateUserUseCase.class);
+    // Keyed on the updated user, who may not be the caller, so their next reads see the change
+    Function<UseCaseResult<User>, String> updatedEmail = result ->
+            result instanceof UseCaseResult.Success<User> success ? success.value().email() : null;
+    return user -> metrics.record("execute", () -> replicaRouting.write(updatedEmail, () -> useCase.execute(user)));
+  }
+
+  @Bean
+  public FindUserByIdUseCase findUserByIdUseCase(UserGateway userGateway, ObservationRegistry observationRegistry, ReplicaRouting replicaRouting) {
+    FindUserByIdUseCase useCase = new FindUserByIdUseCaseImpl(userGateway);
+    OperationMetrics metrics = OperationMetrics.forUseCase(observationRegistry, FindUserByIdUseCase.class);
+    return id -> metrics.record("execute", () -> replicaRouting.read(() -> useCase.execute(id)));
+  }
+
+  @Bean
+  public FindUsersByIdsUseCase findUsersByIdsUseCase(UserGateway userGateway, ObservationRegistry observationRegistry, ReplicaRouting replicaRouting) {
+    FindUsersByIdsUseCase useCase = new FindUsersByIdsUseCaseImpl(userGateway);
+    OperationMetrics metrics = OperationMetrics.forUseCase(observationRegistry, FindUsersByIdsUseCase.class);
+    return ids -> metrics.record("execute", () -> replicaRouting.read(() -> useCase.execute(ids)));
+  }
+
+  @Bean
+  public SearchUsersUseCase searchUsersUseCase(UserGateway userGateway, ObservationRegistry observationRegistry, ReplicaRouting replicaRouting) {
+    SearchUsersUseCase useCase = new SearchUsersUseCaseImpl(userGateway);
+    OperationMetrics metrics = OperationMetrics.forUseCase(observationRegistry, SearchUsersUseCase.class);
+    return (query, limit, cursor) -> metrics.record("execute", () -> replicaRouting.read(() -> useCase.execute(query, limit, cursor)));
+  }
+
+  @Bean
+  public FindUserByEmailUseCase findUserByEmailUseCase(UserGateway userGateway, ObservationRegistry observationRegistry, ReplicaRouting replicaRouting) {
+    FindUserByEmailUseCase useCase = new FindUserByEmailUseCaseImpl(userGateway);
+    OperationMetrics metrics = OperationMetrics.forUseCase(observationRegistry, FindUserByEmailUseCase.class);
+    return email -> metrics.record("execute", () -> replicaRouting.read(() -> useCase.execute(email)));
+  }
+
+  @Bean
+  public FindAllUsersUseCase findAllUsersUseCase(UserGateway userGateway, ObservationRegistry observationRegistry, ReplicaRouting replicaRouting) {
+    FindAllUsersUseCase useCase = new FindAllUsersUseCaseImpl(userGateway);
+    OperationMetrics metrics = OperationMetrics.forUseCase(observationRegistry, FindAllUsersUseCase.class);
+    return () -> metrics.record("execute", () -> replicaRouting.read(useCase::execute));
   }
 
   @Bean
-  public LoginUserUseCase loginUserUseCase(UserGateway userGateway, PasswordEncoderGateway passwordEncoderGateway, RefreshTokenGateway refreshTokenGateway, TokenGateway tokenGateway) {
-    return new LoginUserUseCaseImpl(userGateway, passwordEncoderGateway, refreshTokenGateway, tokenGateway);
+  public VerifyExistsByEmailUseCase verifyExistsByEmailUseCase(UserGateway userGateway, ObservationRegistry observationRegistry, ReplicaRouting replicaRouting) {
+    VerifyExistsByEmailUseCase useCase = new VerifyExistsByEmailUseCaseImpl(userGateway);
+    OperationMetrics metrics = OperationMetrics.forUseCase(observationRegistry, VerifyExistsByEmailUseCase.class);
+    return email -> metrics.record("execute", () -> replicaRouting.read(() -> useCase.execute(email)));
   }
 
   @Bean
-  public UpdateUserUseCase updateUserUseCase(UserGateway userGateway, PasswordEncoderGateway passwordEncoderGateway) {
-    return new UpdateUserUseCaseImpl(userGateway, passwordEncoderGateway);
+  public DeleteUserUseCase deleteUserUseCase(UserGateway userGateway, ObservationRegistry observationRegistry, ReplicaRouting replicaRouting) {
+    DeleteUserUseCase useCase = new DeleteUserUseCaseImpl(userGateway);
+    OperationMetrics metrics = OperationMetrics.forUseCase(observationRegistry, DeleteUserUseCase.class);
+    return id -> metrics.record("execute", () -> replicaRouting.write(() -> useCase.execute(id)));
   }
 
   @Bean
-  public FindUserByIdUseCase findUserByIdUseCase(UserGateway userGateway) {
-    return new FindUserByIdUseCaseImpl(userGateway);
+  public RefreshTokenUseCase refreshTokenUseCase(UserGateway userGateway, TokenGateway tokenGateway, RefreshTokenGateway refreshTokenGateway, ObservationRegistry observationRegistry) {
+    RefreshTokenUseCase useCase = new RefreshTokenUseCaseImpl(userGateway, tokenGateway, refreshTokenGateway);
+    OperationMetrics metrics = OperationMetrics.forUseCase(observationRegistry, RefreshTokenUseCase.class);
+    return refreshToken -> metrics.record("execute", () -> useCase.execute(refreshToken));
   }
 
+  // Signature checks are CPU-bound: one daemon thread per core, and the request thread helps out once the queue is full.
+  // Tasks run in the caller's observation scope, so the verify spans stay in the request's trace
   @Bean
-  public FindUserByEmailUseCase findUserByEmailUseCase(UserGateway userGateway) {
-    return new FindUserByEmailUseCaseImpl(userGateway);
+  public ThreadPoolTaskExecutor tokenVerificationExecutor(
+          @Value("${token-introspection.parallelism:0}") int parallelism,
+          @Value("${token-introspection.queue-capacity:1000}") int queueCapacity) {
+    int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(threads);
+    executor.setMaxPoolSize(threads);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setThreadNamePrefix("token-introspection-");
+    executor.setDaemon(true);
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+    executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+    return executor;
   }
 
   @Bean
-  public FindAllUsersUseCase findAllUsersUseCase(UserGateway userGateway) {
-    return new FindAllUsersUseCaseImpl(userGateway);
+  public IntrospectTokensUseCase introspectTokensUseCase(
+          UserGateway userGateway,
+          TokenGateway tokenGateway,
+          CacheInvalidationBus cacheInvalidationBus,
+          ObservationRegistry observationRegistry,
+          ReplicaRouting replicaRouting,
+          ThreadPoolTaskExecutor tokenVerificationExecutor,
+          @Value("${token-introspection.cache.ttl:5m}") Duration cacheTtl,
+          @Value("${token-introspection.cache.max-size:10000}") int cacheMaxSize) {
+    TokenGateway cachingTokenGateway = new CachingTokenGateway(tokenGateway,
+            new InvalidatedCache<>(CacheConfiguration.TOKEN_CLAIMS_CACHE, cacheInvalidationBus, cacheTtl, cacheMaxSize));
+    IntrospectTokensUseCase useCase = new IntrospectTokensUseCaseImpl(cachingTokenGateway, userGateway, tokenVerificationExecutor);
+    OperationMetrics metrics = OperationMetrics.forUseCase(observationRegistry, IntrospectTokensUseCase.class);
+    return tokens -> metrics.record("execute", () -> replicaRouting.read(() -> useCase.execute(tokens)));
   }
 
   @Bean
-  public VerifyExistsByEmailUseCase verifyExistsByEmailUseCase(UserGateway userGateway) {
-    return new VerifyExistsByEmailUseCaseImpl(userGateway);
+  public PasswordEncoderGateway passwordEncoderGateway(
+          PasswordEncoder passwordEncoder,
+          @Value("${password-encoder.executor.enabled:false}") boolean executorEnabled,
+          @Value("${password-encoder.executor.pool-size:0}") int poolSize,
+          @Value("${password-encoder.executor.queue-capacity:256}") int queueCapacity,
+          ObservationRegistry observationRegistry) {
+    PasswordEncoderGateway passwordEncoderGateway = new BCryptPasswordEncoderGateway(passwordEncoder);
+    if (executorEnabled) {
+      int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+      passwordEncoderGateway = new ExecutorPasswordEncoderGateway(passwordEncoderGateway, threads, queueCapacity);
+    }
+
+    return new MeteredPasswordEncoderGateway(passwordEncoderGateway,
+            OperationMetrics.forGateway(observationRegistry, PasswordEncoderGateway.class));
   }
 
+  // Metered views of the @Component gateways, injected wherever the core ports are requested
   @Bean
-  public DeleteUserUseCase deleteUserUseCase(UserGateway userGateway) {
-    return new DeleteUserUseCaseImpl(userGateway);
+  @Primary
+  public UserGateway meteredUserGateway(UserRepositoryGateway userRepositoryGateway, CacheInvalidationBus cacheInvalidationBus, ObjectProvider<UserSearchIndex> userSearchIndex, ObservationRegistry observationRegistry) {
+    UserGateway userGateway = new CacheInvalidatingUserGateway(userRepositoryGateway, cacheInvalidationBus, CacheConfiguration.PRINCIPAL_CACHE);
+    UserSearchIndex index = userSearchIndex.getIfAvailable();
+    if (index != null) {
+      userGateway = new IndexedUserGateway(userGateway, index, cacheInvalidationBus);
+    }
+    return new MeteredUserGateway(userGateway, OperationMetrics.forGateway(observationRegistry, UserGateway.class));
   }
 
   @Bean
-  public RefreshTokenUseCase refreshTokenUseCase(UserGateway userGateway, TokenGateway tokenGateway, RefreshTokenGateway refreshTokenGateway) {
-    return new RefreshTokenUseCaseImpl(userGateway, tokenGateway, refreshTokenGateway);
+  @Primary
+  public RefreshTokenGateway meteredRefreshTokenGateway(RefreshTokenRepositoryGateway refreshTokenRepositoryGateway, ObservationRegistry observationRegistry) {
+    return new MeteredRefreshTokenGateway(refreshTokenRepositoryGateway, OperationMetrics.forGateway(observationRegistry, RefreshTokenGateway.class));
   }
 
   @Bean
-  public PasswordEncoderGateway passwordEncoderGateway(PasswordEncoder passwordEncoder) {
-    return new BCryptPasswordEncoderGateway(passwordEncoder);
+  @Primary
+  public TokenGateway meteredTokenGateway(JwtUtil jwtUtil, ObservationRegistry observationRegistry) {
+    return new MeteredTokenGateway(jwtUtil, OperationMetrics.forGateway(observationRegistry, TokenGateway.class));
   }
 
   @Bean
-  public UserDetailsService userDetailsService(UserGateway userGateway) {
-    return new CustomUserDetailsService(userGateway);
+  public UserDetailsService userDetailsService(
+          UserGateway userGateway,
+          ReplicaRouting replicaRouting,
+          CacheInvalidationBus cacheInvalidationBus,
+          @Value("${principal-cache.enabled:true}") boolean cacheEnabled,
+          @Value("${principal-cache.max-staleness:30s}") Duration maxStaleness,
+          @Value("${principal-cache.max-size:10000}") int maxSize,
+          @Value("${token-introspection.clients:}") Set<String> introspectionClients) {
+    UserDetailsService userDetailsService = new CustomUserDetailsService(userGateway, introspectionClients);
+    UserDetailsService routedUserDetailsService = email -> replicaRouting.read(email, () -> userDetailsService.loadUserByUsername(email));
+    if (!cacheEnabled) {
+      return routedUserDetailsService;
+    }
+
+    // Copies are handed out because Spring Security may erase the credentials of the returned instance
+    InvalidatedCache<UserDetails> cache = new InvalidatedCache<>(CacheConfiguration.PRINCIPAL_CACHE, cacheInvalidationBus, maxStaleness, maxSize);
+    return email -> org.springframework.security.core.userdetails.User
+            .withUserDetails(cache.get(email, () -> routedUserDetailsService.loadUserByUsername(email)))
+            .build();
   }
 }
@@ -0,0 +1,124 @@
+package com.rlevi.studying_clean_architecture.infrastructure.cache;
+
+import com.rlevi.studying_clean_architecture.core.utils.LoggerUtils;
+import org.slf4j.Logger;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Collects invalidations for {@code batchWindow} and sends them as one batch, with repeated keys
+ * coalesced. A cache with more than {@code maxKeysPerCache} pending keys is sent as
+ * {@link CacheInvalidationBus#ALL_KEYS} instead.
+ */
+public abstract class BatchingCacheInvalidationBus implements CacheInvalidationBus, AutoCloseable {
+  private static final Logger logger = LoggerUtils.getLogger(BatchingCacheInvalidationBus.class);
+
+  protected final String nodeId = Long.toString(ThreadLocalRandom.current().nextLong(Long.MAX_VALUE), 36);
+
+  private final Map<String, List<CacheInvalidationListener>> listeners = new ConcurrentHashMap<>();
+  private final int maxKeysPerCache;
+  private final ScheduledExecutorService flusher;
+  // A lock rather than synchronized, which would pin the carrier thread when requests run on virtual threads
+  private final ReentrantLock pendingLock = new ReentrantLock();
+  private Map<String, Set<String>> pending = new HashMap<>();
+
+  protected BatchingCacheInvalidationBus(Duration batchWindow, int maxKeysPerCache) {
+    this.maxKeysPerCache = maxKeysPerCache;
+    this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "cache-invalidation-flusher");
+      thread.setDaemon(true);
+      return thread;
+    });
+    long windowMillis = Math.max(1, batchWindow.toMillis());
+    flusher.scheduleWithFixedDelay(this::flush, windowMillis, windowMillis, TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public void invalidate(String cache, String key) {
+    deliver(cache, Set.of(key));
+    pendingLock.lock();
+    try {
+      Set<String> keys = pending.computeIfAbsent(cache, name -> new HashSet<>());
+      if (keys.contains(ALL_KEYS)) {
+        return;
+      }
+      keys.add(key);
+      if (keys.size() > maxKeysPerCache) {
+        keys.clear();
+        keys.add(ALL_KEYS);
+      }
+    } finally {
+      pendingLock.unlock();
+    }
+  }
+
+  @Override
+  public void subscribe(String cache, CacheInvalidationListener listener) {
+    listeners.computeIfAbsent(cache, name -> new CopyOnWriteArrayList<>()).add(listener);
+  }
+
+  public void flush() {
+    Map<String, Set<String>> batch;
+    pendingLock.lock();
+    try {
+      if (pending.isEmpty()) {
+        return;
+      }
+      batch = pending;
+      pending = new HashMap<>();
+    } finally {
+      pendingLock.unlock();
+    }
+
+    try {
+      send(batch);
+    } catch (RuntimeException e) {
+      // Other instances fall back on entry expiry for these keys
+      LoggerUtils.logWarning(logger, "Cache invalidation batch dropped",
+              Map.of("caches", batch.keySet(), "cause", String.valueOf(e.getMessage())));
+    }
+  }
+
+  @Override
+  public void close() {
+    flusher.shutdown();
+    flush();
+  }
+
+  protected abstract void send(Map<String, Set<String>> batch);
+
+  // Applies a batch received from another instance
+  protected void receive(Map<String, Set<String>> batch) {
+    batch.forEach(this::deliver);
+  }
+
+  protected void invalidateAllCaches() {
+    listeners.values().forEach(cacheListeners -> cacheListeners.forEach(CacheInvalidationListener::invalidateAll));
+  }
+
+  private void deliver(String cache, Set<String> keys) {
+    List<CacheInvalidationListener> cacheListeners = listeners.get(cache);
+    if (cacheListeners == null) {
+      return;
+    }
+    for (CacheInvalidationListener listener : cacheListeners) {
+      if (keys.contains(ALL_KEYS)) {
+        listener.invalidateAll();
+      } else {
+        listener.invalidate(keys);
+      }
+    }
+  }
+}
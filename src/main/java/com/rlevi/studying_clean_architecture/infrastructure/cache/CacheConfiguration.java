@@ -0,0 +1,55 @@
+package com.rlevi.studying_clean_architecture.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.SharedCacheMode;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+@Configuration
+@Profile("!reactive")
+public class CacheConfiguration {
+  public static final String PRINCIPAL_CACHE = "principals";
+  public static final String TOKEN_CLAIMS_CACHE = "token-claims";
+
+  @Bean
+  @ConditionalOnProperty(name = "cache.invalidation.bus", havingValue = "postgres")
+  public CacheInvalidationBus postgresCacheInvalidationBus(
+          DataSource dataSource,
+          DataSourceProperties dataSourceProperties,
+          ObjectMapper objectMapper,
+          @Value("${cache.invalidation.batch-window:50ms}") Duration batchWindow,
+          @Value("${cache.invalidation.max-keys-per-batch:1000}") int maxKeysPerBatch,
+          @Value("${cache.invalidation.channel:cache_invalidation}") String channel) {
+    return new PostgresCacheInvalidationBus(batchWindow, maxKeysPerBatch, dataSource,
+            dataSourceProperties.determineUrl(), dataSourceProperties.determineUsername(),
+            dataSourceProperties.determinePassword(), channel, objectMapper);
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "cache.invalidation.bus", havingValue = "in-memory", matchIfMissing = true)
+  public CacheInvalidationBus inMemoryCacheInvalidationBus(
+          @Value("${cache.invalidation.batch-window:50ms}") Duration batchWindow,
+          @Value("${cache.invalidation.max-keys-per-batch:1000}") int maxKeysPerBatch) {
+    return new InMemoryCacheInvalidationBus(batchWindow, maxKeysPerBatch);
+  }
+
+  // UserEntity carries its cache annotations either way, and with JCache on the classpath Hibernate would otherwise
+  // cache users in unbounded regions that nothing invalidates across instances
+  @Bean
+  @ConditionalOnProperty(name = "hibernate-cache.enabled", havingValue = "false", matchIfMissing = true)
+  public HibernatePropertiesCustomizer secondLevelCacheDisabled() {
+    return properties -> {
+      properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, false);
+      properties.put(AvailableSettings.JAKARTA_SHARED_CACHE_MODE, SharedCacheMode.NONE);
+    };
+  }
+}
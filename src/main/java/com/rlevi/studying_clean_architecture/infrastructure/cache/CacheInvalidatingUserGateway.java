@@ -0,0 +1,74 @@
+package com.rlevi.studying_clean_architecture.infrastructure.cache;
+
+import com.rlevi.studying_clean_architecture.core.entities.User;
+import com.rlevi.studying_clean_architecture.core.gateway.UserGateway;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Publishes an invalidation for every email whose user row changed, once the write has returned.
+ */
+public class CacheInvalidatingUserGateway implements UserGateway {
+  private final UserGateway delegate;
+  private final CacheInvalidationBus bus;
+  private final String cache;
+
+  public CacheInvalidatingUserGateway(UserGateway delegate, CacheInvalidationBus bus, String cache) {
+    this.delegate = delegate;
+    this.bus = bus;
+    this.cache = cache;
+  }
+
+  @Override
+  public User createUser(User user) {
+    return delegate.createUser(user);
+  }
+
+  @Override
+  public User updateUser(User user) {
+    Optional<User> previous = delegate.findUserById(user.id());
+    User updated = delegate.updateUser(user);
+    previous.ifPresent(existing -> bus.invalidate(cache, existing.email()));
+    bus.invalidate(cache, updated.email());
+    return updated;
+  }
+
+  @Override
+  public Optional<User> findUserById(Long id) {
+    return delegate.findUserById(id);
+  }
+
+  @Override
+  public Optional<User> findUserByEmail(String email) {
+    return delegate.findUserByEmail(email);
+  }
+
+  @Override
+  public List<User> findUsersByIds(Collection<Long> ids) {
+    return delegate.findUsersByIds(ids);
+  }
+
+  @Override
+  public List<User> findAllUsers() {
+    return delegate.findAllUsers();
+  }
+
+  @Override
+  public List<User> searchUsers(String query, int limit, Long cursor) {
+    return delegate.searchUsers(query, limit, cursor);
+  }
+
+  @Override
+  public boolean verifyExistsByEmail(String email) {
+    return delegate.verifyExistsByEmail(email);
+  }
+
+  @Override
+  public void deleteUser(Long id) {
+    Optional<User> previous = delegate.findUserById(id);
+    delegate.deleteUser(id);
+    previous.ifPresent(existing -> bus.invalidate(cache, existing.email()));
+  }
+}
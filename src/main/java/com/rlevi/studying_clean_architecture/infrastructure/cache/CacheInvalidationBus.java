@@ -0,0 +1,16 @@
+package com.rlevi.studying_clean_architecture.infrastructure.cache;
+
+/**
+ * Propagates cache invalidations to every instance of the application.
+ * <p>
+ * Listeners on the publishing instance are invalidated immediately; other instances receive the key
+ * in a later batch. Delivery is best effort, so caches fed by the bus must also expire their entries
+ * (see {@link InvalidatedCache}).
+ */
+public interface CacheInvalidationBus {
+  String ALL_KEYS = "*";
+
+  void invalidate(String cache, String key);
+
+  void subscribe(String cache, CacheInvalidationListener listener);
+}
@@ -0,0 +1,10 @@
+package com.rlevi.studying_clean_architecture.infrastructure.cache;
+
+import java.util.Set;
+
+public interface CacheInvalidationListener {
+  void invalidate(Set<String> keys);
+
+  // Called when messages may have been lost, e.g. after the bus reconnects
+  void invalidateAll();
+}
@@ -0,0 +1,47 @@
+package com.rlevi.studying_clean_architecture.infrastructure.cache;
+
+import com.rlevi.studying_clean_architecture.core.entities.TokenClaims;
+import com.rlevi.studying_clean_architecture.core.gateway.TokenGateway;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Remembers the claims of tokens whose signature has already been verified. A token's claims never
+ * change, so entries only need to be bounded; expiry is still checked by the caller on every use.
+ * Tokens that fail verification are not cached, so garbage input cannot push out good entries.
+ */
+public class CachingTokenGateway implements TokenGateway {
+  private final TokenGateway delegate;
+  private final InvalidatedCache<TokenClaims> cache;
+
+  public CachingTokenGateway(TokenGateway delegate, InvalidatedCache<TokenClaims> cache) {
+    this.delegate = delegate;
+    this.cache = cache;
+  }
+
+  @Override
+  public String generateAccessToken(String email) {
+    return delegate.generateAccessToken(email);
+  }
+
+  @Override
+  public String generateRefreshToken(String email) {
+    return delegate.generateRefreshToken(email);
+  }
+
+  @Override
+  public Instant extractExpiration(String token) {
+    return delegate.extractExpiration(token);
+  }
+
+  @Override
+  public String extractUsername(String token) {
+    return delegate.extractUsername(token);
+  }
+
+  @Override
+  public Optional<TokenClaims> verify(String token) {
+    return Optional.ofNullable(cache.get(token, () -> delegate.verify(token).orElse(null)));
+  }
+}
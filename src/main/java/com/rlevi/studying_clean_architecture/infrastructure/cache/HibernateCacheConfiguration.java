@@ -0,0 +1,70 @@
+package com.rlevi.studying_clean_architecture.infrastructure.cache;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.rlevi.studying_clean_architecture.infrastructure.persistence.UserEntity;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.time.Duration;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate second-level cache for {@link UserEntity}, enabled with {@code hibernate-cache.enabled=true}.
+ * <p>
+ * The entity and natural-id (email) regions are bounded Caffeine caches. Other instances learn about
+ * user writes through the {@link CacheInvalidationBus}, and {@code hibernate-cache.expire-after-write}
+ * bounds how long a lost invalidation leaves stale rows, as for the principal cache. When disabled,
+ * {@link CacheConfiguration} switches the second-level cache off entirely.
+ */
+@Configuration
+@Profile("!reactive")
+@ConditionalOnProperty(name = "hibernate-cache.enabled", havingValue = "true")
+public class HibernateCacheConfiguration {
+
+  @Bean(destroyMethod = "close")
+  public CacheManager hibernateCacheManager(
+          @Value("${hibernate-cache.max-entries:10000}") long maxEntries,
+          @Value("${hibernate-cache.expire-after-write:10m}") Duration expireAfterWrite) {
+    CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+    for (String region : new String[]{UserEntity.CACHE_REGION, UserEntity.NATURAL_ID_CACHE_REGION}) {
+      CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+      configuration.setMaximumSize(OptionalLong.of(maxEntries));
+      configuration.setExpireAfterWrite(OptionalLong.of(expireAfterWrite.toNanos()));
+      configuration.setStatisticsEnabled(true);
+      if (cacheManager.getCache(region) == null) {
+        cacheManager.createCache(region, configuration);
+      }
+    }
+    return cacheManager;
+  }
+
+  @Bean
+  public HibernatePropertiesCustomizer secondLevelCacheProperties(CacheManager hibernateCacheManager) {
+    return properties -> {
+      properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+      properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+      properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+      properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+      // Feeds the hibernate.second.level.cache.* and hibernate.cache.natural.id.* meters
+      properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+    };
+  }
+
+  @Bean
+  public UserEntityCacheEvictor userEntityCacheEvictor(EntityManagerFactory entityManagerFactory,
+                                                       CacheInvalidationBus cacheInvalidationBus) {
+    UserEntityCacheEvictor evictor = new UserEntityCacheEvictor(entityManagerFactory);
+    cacheInvalidationBus.subscribe(CacheConfiguration.PRINCIPAL_CACHE, evictor);
+    return evictor;
+  }
+}
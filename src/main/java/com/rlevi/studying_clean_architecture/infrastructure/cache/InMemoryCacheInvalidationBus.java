@@ -0,0 +1,39 @@
+package com.rlevi.studying_clean_architecture.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Delivers batches to the other buses of the same in-JVM cluster. A single instance (the default)
+ * only invalidates its own caches; tests put several buses in one cluster to stand in for several nodes.
+ */
+public class InMemoryCacheInvalidationBus extends BatchingCacheInvalidationBus {
+  private final Set<InMemoryCacheInvalidationBus> cluster;
+
+  public InMemoryCacheInvalidationBus(Duration batchWindow, int maxKeysPerCache) {
+    this(batchWindow, maxKeysPerCache, ConcurrentHashMap.newKeySet());
+  }
+
+  public InMemoryCacheInvalidationBus(Duration batchWindow, int maxKeysPerCache, Set<InMemoryCacheInvalidationBus> cluster) {
+    super(batchWindow, maxKeysPerCache);
+    this.cluster = cluster;
+    cluster.add(this);
+  }
+
+  @Override
+  protected void send(Map<String, Set<String>> batch) {
+    for (InMemoryCacheInvalidationBus node : cluster) {
+      if (node != this) {
+        node.receive(batch);
+      }
+    }
+  }
+
+  @Override
+  public void close() {
+    super.close();
+    cluster.remove(this);
+  }
+}
@@ -0,0 +1,76 @@
+package com.rlevi.studying_clean_architecture.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Small in-process cache kept in sync through a {@link CacheInvalidationBus}.
+ * <p>
+ * Entries expire after {@code maxStaleness}, which bounds how long another instance's write can go
+ * unseen if its invalidation is lost. When {@code maxSize} is reached, expired entries are purged and,
+ * if that is not enough, the cache starts over.
+ */
+public class InvalidatedCache<V> implements CacheInvalidationListener {
+  private final long maxStalenessNanos;
+  private final int maxSize;
+  private final Map<String, Entry<V>> entries = new ConcurrentHashMap<>();
+  private final AtomicLong generation = new AtomicLong();
+
+  public InvalidatedCache(String name, CacheInvalidationBus bus, Duration maxStaleness, int maxSize) {
+    this.maxStalenessNanos = maxStaleness.toNanos();
+    this.maxSize = maxSize;
+    bus.subscribe(name, this);
+  }
+
+  public V get(String key, Supplier<V> loader) {
+    long now = System.nanoTime();
+    Entry<V> entry = entries.get(key);
+    if (entry != null && now - entry.loadedAt() < maxStalenessNanos) {
+      return entry.value();
+    }
+
+    long generationAtLoad = generation.get();
+    V value = loader.get();
+    if (value != null) {
+      if (entries.size() >= maxSize) {
+        evict(now);
+      }
+      entries.put(key, new Entry<>(value, now));
+      // An invalidation that arrived while loading may describe a write the loader did not see
+      if (generation.get() != generationAtLoad) {
+        entries.remove(key);
+      }
+    }
+    return value;
+  }
+
+  @Override
+  public void invalidate(Set<String> keys) {
+    generation.incrementAndGet();
+    keys.forEach(entries::remove);
+  }
+
+  @Override
+  public void invalidateAll() {
+    generation.incrementAndGet();
+    entries.clear();
+  }
+
+  public int size() {
+    return entries.size();
+  }
+
+  private void evict(long now) {
+    entries.values().removeIf(entry -> now - entry.loadedAt() >= maxStalenessNanos);
+    if (entries.size() >= maxSize) {
+      entries.clear();
+    }
+  }
+
+  private record Entry<V>(V value, long loadedAt) {
+  }
+}
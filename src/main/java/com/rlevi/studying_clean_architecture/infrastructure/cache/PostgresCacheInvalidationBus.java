@@ -0,0 +1,162 @@
+package com.rlevi.studying_clean_architecture.infrastructure.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rlevi.studying_clean_architecture.core.utils.LoggerUtils;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Sends batches with {@code pg_notify} and receives them with {@code LISTEN} on a dedicated connection
+ * that is kept out of the pool.
+ * <p>
+ * Notifications sent while the listener is disconnected are lost, so every reconnect clears all
+ * subscribed caches.
+ */
+public class PostgresCacheInvalidationBus extends BatchingCacheInvalidationBus {
+  private static final Logger logger = LoggerUtils.getLogger(PostgresCacheInvalidationBus.class);
+  private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]*");
+  // NOTIFY payloads must stay below 8000 bytes
+  private static final int MAX_PAYLOAD_BYTES = 7000;
+  private static final int POLL_TIMEOUT_MILLIS = 1000;
+  private static final long RECONNECT_DELAY_MILLIS = 1000;
+
+  private final DataSource dataSource;
+  private final String url;
+  private final String username;
+  private final String password;
+  private final String channel;
+  private final ObjectMapper objectMapper;
+  private final Thread listenerThread;
+  private volatile boolean running = true;
+
+  public PostgresCacheInvalidationBus(Duration batchWindow, int maxKeysPerCache, DataSource dataSource,
+                                      String url, String username, String password, String channel,
+                                      ObjectMapper objectMapper) {
+    super(batchWindow, maxKeysPerCache);
+    if (!CHANNEL_NAME.matcher(channel).matches()) {
+      throw new IllegalArgumentException("Invalid notification channel: " + channel);
+    }
+    this.dataSource = dataSource;
+    this.url = url;
+    this.username = username;
+    this.password = password;
+    this.channel = channel;
+    this.objectMapper = objectMapper;
+    this.listenerThread = new Thread(this::listen, "cache-invalidation-listener");
+    this.listenerThread.setDaemon(true);
+    this.listenerThread.start();
+  }
+
+  @Override
+  protected void send(Map<String, Set<String>> batch) {
+    try (Connection connection = dataSource.getConnection();
+         PreparedStatement statement = connection.prepareStatement("SELECT pg_notify(?, ?)")) {
+      for (String payload : payloads(batch)) {
+        statement.setString(1, channel);
+        statement.setString(2, payload);
+        statement.execute();
+      }
+    } catch (SQLException | JsonProcessingException e) {
+      throw new IllegalStateException("Could not publish cache invalidation", e);
+    }
+  }
+
+  @Override
+  public void close() {
+    super.close();
+    running = false;
+    listenerThread.interrupt();
+  }
+
+  private List<String> payloads(Map<String, Set<String>> batch) throws JsonProcessingException {
+    List<String> payloads = new ArrayList<>();
+    for (Map.Entry<String, Set<String>> entry : batch.entrySet()) {
+      List<String> keys = new ArrayList<>();
+      int size = 0;
+      for (String key : entry.getValue()) {
+        if (size + key.length() > MAX_PAYLOAD_BYTES && !keys.isEmpty()) {
+          payloads.add(payload(entry.getKey(), keys));
+          keys = new ArrayList<>();
+          size = 0;
+        }
+        keys.add(key);
+        size += key.length() + 3;
+      }
+      payloads.add(payload(entry.getKey(), keys));
+    }
+    return payloads;
+  }
+
+  private String payload(String cache, List<String> keys) throws JsonProcessingException {
+    return objectMapper.writeValueAsString(new InvalidationMessage(nodeId, cache, keys));
+  }
+
+  private void listen() {
+    boolean reconnecting = false;
+    while (running) {
+      try (Connection connection = DriverManager.getConnection(url, username, password)) {
+        try (Statement statement = connection.createStatement()) {
+          statement.execute("LISTEN " + channel);
+        }
+        if (reconnecting) {
+          invalidateAllCaches();
+          LoggerUtils.logWarning(logger, "Cache invalidation listener reconnected, local caches cleared",
+                  Map.of("channel", channel));
+        }
+        reconnecting = true;
+
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        while (running) {
+          PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MILLIS);
+          if (notifications != null) {
+            for (PGNotification notification : notifications) {
+              handle(notification.getParameter());
+            }
+          }
+        }
+      } catch (SQLException e) {
+        if (!running) {
+          return;
+        }
+        reconnecting = true;
+        LoggerUtils.logWarning(logger, "Cache invalidation listener disconnected",
+                Map.of("channel", channel, "cause", String.valueOf(e.getMessage())));
+        try {
+          Thread.sleep(RECONNECT_DELAY_MILLIS);
+        } catch (InterruptedException interrupted) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+      }
+    }
+  }
+
+  private void handle(String payload) {
+    try {
+      InvalidationMessage message = objectMapper.readValue(payload, InvalidationMessage.class);
+      if (!nodeId.equals(message.origin())) {
+        receive(Map.of(message.cache(), Set.copyOf(message.keys())));
+      }
+    } catch (JsonProcessingException e) {
+      LoggerUtils.logWarning(logger, "Ignoring malformed cache invalidation", Map.of("channel", channel));
+    }
+  }
+
+  private record InvalidationMessage(String origin, String cache, List<String> keys) {
+  }
+}
@@ -0,0 +1,33 @@
+package com.rlevi.studying_clean_architecture.infrastructure.cache;
+
+import com.rlevi.studying_clean_architecture.infrastructure.persistence.UserEntity;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+
+import java.util.Set;
+
+/**
+ * Drops the {@link UserEntity} second-level cache regions when a user changes on any instance.
+ * <p>
+ * Invalidation keys are emails, which cannot be mapped to entity ids without a query, so both the
+ * entity and the natural-id region are evicted as a whole. User writes are rare next to lookups.
+ */
+public class UserEntityCacheEvictor implements CacheInvalidationListener {
+  private final EntityManagerFactory entityManagerFactory;
+
+  public UserEntityCacheEvictor(EntityManagerFactory entityManagerFactory) {
+    this.entityManagerFactory = entityManagerFactory;
+  }
+
+  @Override
+  public void invalidate(Set<String> keys) {
+    invalidateAll();
+  }
+
+  @Override
+  public void invalidateAll() {
+    org.hibernate.Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    cache.evictEntityData(UserEntity.class);
+    cache.evictNaturalIdData(UserEntity.class);
+  }
+}
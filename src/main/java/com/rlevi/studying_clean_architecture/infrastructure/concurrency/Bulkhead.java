@@ -0,0 +1,66 @@
+package com.rlevi.studying_clean_architecture.infrastructure.concurrency;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fixed share of request threads: at most {@code maxConcurrent} requests run, at most {@code maxQueue} wait
+ * for a slot, and none waits longer than {@code maxWait}.
+ */
+public class Bulkhead {
+  private final Semaphore slots;
+  private final int maxConcurrent;
+  private final int maxQueue;
+  private final long maxWaitNanos;
+  private final AtomicInteger queued = new AtomicInteger();
+  private final AtomicLong rejected = new AtomicLong();
+
+  public Bulkhead(int maxConcurrent, int maxQueue, long maxWait, TimeUnit unit) {
+    this.slots = new Semaphore(maxConcurrent, true);
+    this.maxConcurrent = maxConcurrent;
+    this.maxQueue = maxQueue;
+    this.maxWaitNanos = unit.toNanos(maxWait);
+  }
+
+  /**
+   * Takes a slot, waiting for one if the queue has room. Every {@code true} must be paired with {@link #release}.
+   */
+  public boolean tryAcquire() throws InterruptedException {
+    if (slots.tryAcquire()) {
+      return true;
+    }
+    if (queued.incrementAndGet() > maxQueue) {
+      queued.decrementAndGet();
+      return reject();
+    }
+    try {
+      return slots.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS) || reject();
+    } finally {
+      queued.decrementAndGet();
+    }
+  }
+
+  public void release() {
+    slots.release();
+  }
+
+  // Counts a request turned away without trying, e.g. to make room for a higher priority
+  public boolean reject() {
+    rejected.incrementAndGet();
+    return false;
+  }
+
+  public int getInFlight() {
+    return maxConcurrent - slots.availablePermits();
+  }
+
+  public int getQueued() {
+    return queued.get();
+  }
+
+  public long getRejected() {
+    return rejected.get();
+  }
+}
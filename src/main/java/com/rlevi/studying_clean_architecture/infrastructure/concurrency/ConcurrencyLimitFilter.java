@@ -0,0 +1,110 @@
+package com.rlevi.studying_clean_architecture.infrastructure.concurrency;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admits API requests under a {@link GradientConcurrencyLimit} per {@link RouteGroup} and answers the rest with
+ * an immediate 503, so a slow database sheds load instead of tying up every request thread.
+ * <p>
+ * Runs after {@link com.rlevi.studying_clean_architecture.infrastructure.logging.AccessLogFilter}, so rejections
+ * are logged, and after {@link RequestPriorityFilter}, so requests shed by priority never take a slot here. It runs
+ * ahead of the security chain, whose principal lookup may itself hit the database.
+ * Responses with status 500 or above, and exceptions, count as failures and back the limit off.
+ */
+@Component
+@Profile("!reactive")
+@Order(Ordered.HIGHEST_PRECEDENCE + 4)
+@ConditionalOnProperty(name = "concurrency-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter implements MeterBinder {
+  private final Map<RouteGroup, GradientConcurrencyLimit> limits = new EnumMap<>(RouteGroup.class);
+
+  public ConcurrencyLimitFilter(
+          @Value("${concurrency-limit.initial-limit:50}") int initialLimit,
+          @Value("${concurrency-limit.min-limit:10}") int minLimit,
+          @Value("${concurrency-limit.max-limit:500}") int maxLimit,
+          @Value("${concurrency-limit.tolerance:1.5}") double tolerance,
+          @Value("${concurrency-limit.backoff-ratio:0.9}") double backoffRatio,
+          @Value("${concurrency-limit.max-queue:50}") int maxQueue,
+          @Value("${concurrency-limit.max-queue-wait:50ms}") Duration maxQueueWait) {
+    for (RouteGroup group : RouteGroup.values()) {
+      limits.put(group, new GradientConcurrencyLimit(initialLimit, minLimit, maxLimit, tolerance, backoffRatio,
+              maxQueue, maxQueueWait.toNanos(), TimeUnit.NANOSECONDS));
+    }
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return RouteGroup.of(request.getRequestURI()) == null;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+    GradientConcurrencyLimit limit = limits.get(RouteGroup.of(request.getRequestURI()));
+    if (!acquire(limit)) {
+      ServiceUnavailableResponse.write(response);
+      return;
+    }
+
+    long start = System.nanoTime();
+    boolean failed = true;
+    try {
+      filterChain.doFilter(request, response);
+      failed = response.getStatus() >= HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+    } finally {
+      limit.release(System.nanoTime() - start, failed);
+    }
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    limits.forEach((group, limit) -> {
+      String tag = group.name().toLowerCase(Locale.ROOT);
+      Gauge.builder("concurrency.limit", limit, GradientConcurrencyLimit::getLimit)
+              .description("Requests the route group currently admits at once")
+              .tag("group", tag)
+              .register(registry);
+      Gauge.builder("concurrency.in-flight", limit, GradientConcurrencyLimit::getInFlight)
+              .description("Requests of the route group being handled")
+              .tag("group", tag)
+              .register(registry);
+      Gauge.builder("concurrency.queue.size", limit, GradientConcurrencyLimit::getWaiting)
+              .description("Requests of the route group waiting for a slot")
+              .tag("group", tag)
+              .register(registry);
+      FunctionCounter.builder("concurrency.rejections", limit, GradientConcurrencyLimit::getRejected)
+              .description("Requests of the route group rejected with 503")
+              .tag("group", tag)
+              .register(registry);
+    });
+  }
+
+  private static boolean acquire(GradientConcurrencyLimit limit) {
+    try {
+      return limit.tryAcquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+}
@@ -0,0 +1,219 @@
+package com.rlevi.studying_clean_architecture.infrastructure.concurrency;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Concurrency limit that adapts to latency, after the gradient algorithm of Netflix's concurrency-limits.
+ * <p>
+ * Completed requests are grouped into windows of at least 100 ms and 10 requests. Once per window, the
+ * window's average latency is compared with the baseline, a long average over the last 600 windows. While it
+ * stays within {@code tolerance} of the baseline the limit grows by about its square root; once requests queue
+ * up downstream and latency rises, the limit shrinks by the ratio of the two, down to half per window. A window
+ * with a failed request shrinks it by {@code backoffRatio} instead. The limit only grows while at least half
+ * of it was in use, so an idle period does not leave it inflated.
+ * <p>
+ * A request over the limit waits up to {@code maxQueueWait} for a slot, with at most {@code maxQueue} waiting;
+ * otherwise it is rejected at once.
+ */
+public class GradientConcurrencyLimit {
+  private static final long WINDOW_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+  private static final int MIN_WINDOW_SAMPLES = 10;
+  private static final int LONG_WINDOWS = 600;
+  private static final double LIMIT_SMOOTHING = 0.2;
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final double tolerance;
+  private final double backoffRatio;
+  private final int maxQueue;
+  private final long maxQueueWaitNanos;
+  private final LongSupplier nanoTime;
+
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final AtomicInteger waiting = new AtomicInteger();
+  private final AtomicLong rejected = new AtomicLong();
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition released = lock.newCondition();
+  // A lock rather than synchronized, which would pin the carrier thread when requests run on virtual threads
+  private final ReentrantLock updateLock = new ReentrantLock();
+
+  private volatile int limit;
+  // Guarded by updateLock
+  private double estimatedLimit;
+  private double longRttNanos;
+  private long windows;
+  private long windowStart;
+  private long windowRttSum;
+  private int windowSamples;
+  private int windowMaxInFlight;
+  private boolean windowFailed;
+
+  public GradientConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double tolerance, double backoffRatio,
+                                  int maxQueue, long maxQueueWait, TimeUnit unit) {
+    this(initialLimit, minLimit, maxLimit, tolerance, backoffRatio, maxQueue, maxQueueWait, unit, System::nanoTime);
+  }
+
+  // Windows are timed with nanoTime, so tests can drive them without sleeping
+  GradientConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double tolerance, double backoffRatio,
+                           int maxQueue, long maxQueueWait, TimeUnit unit, LongSupplier nanoTime) {
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.tolerance = tolerance;
+    this.backoffRatio = backoffRatio;
+    this.maxQueue = maxQueue;
+    this.maxQueueWaitNanos = unit.toNanos(maxQueueWait);
+    this.limit = initialLimit;
+    this.estimatedLimit = initialLimit;
+    this.nanoTime = nanoTime;
+    this.windowStart = nanoTime.getAsLong();
+  }
+
+  /**
+   * Takes a slot, waiting for one if the queue has room. Every {@code true} must be paired with {@link #release}.
+   */
+  public boolean tryAcquire() throws InterruptedException {
+    if (tryIncrement()) {
+      return true;
+    }
+    if (maxQueueWaitNanos <= 0 || waiting.get() >= maxQueue) {
+      rejected.incrementAndGet();
+      return false;
+    }
+
+    lock.lock();
+    try {
+      if (waiting.incrementAndGet() > maxQueue) {
+        rejected.incrementAndGet();
+        return false;
+      }
+      long remaining = maxQueueWaitNanos;
+      while (!tryIncrement()) {
+        if (remaining <= 0) {
+          rejected.incrementAndGet();
+          return false;
+        }
+        remaining = released.awaitNanos(remaining);
+      }
+      return true;
+    } finally {
+      waiting.decrementAndGet();
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Frees the slot and feeds the request into the limit. {@code rttNanos} excludes time spent waiting for the slot.
+   */
+  public void release(long rttNanos, boolean failed) {
+    int inFlightAtRelease = inFlight.getAndDecrement();
+    if (waiting.get() > 0) {
+      lock.lock();
+      try {
+        released.signal();
+      } finally {
+        lock.unlock();
+      }
+    }
+    update(rttNanos, inFlightAtRelease, failed);
+  }
+
+  public int getLimit() {
+    return limit;
+  }
+
+  public int getInFlight() {
+    return inFlight.get();
+  }
+
+  public int getWaiting() {
+    return waiting.get();
+  }
+
+  public long getRejected() {
+    return rejected.get();
+  }
+
+  private boolean tryIncrement() {
+    while (true) {
+      int current = inFlight.get();
+      if (current >= limit) {
+        return false;
+      }
+      if (inFlight.compareAndSet(current, current + 1)) {
+        return true;
+      }
+    }
+  }
+
+  private void update(long rttNanos, int inFlightAtRelease, boolean failed) {
+    updateLock.lock();
+    try {
+      updateLocked(rttNanos, inFlightAtRelease, failed);
+    } finally {
+      updateLock.unlock();
+    }
+  }
+
+  private void updateLocked(long rttNanos, int inFlightAtRelease, boolean failed) {
+    long now = nanoTime.getAsLong();
+    windowMaxInFlight = Math.max(windowMaxInFlight, inFlightAtRelease);
+    if (failed) {
+      windowFailed = true;
+    } else {
+      windowRttSum += rttNanos;
+      windowSamples++;
+    }
+    if (now - windowStart < WINDOW_NANOS || (windowSamples < MIN_WINDOW_SAMPLES && !windowFailed)) {
+      return;
+    }
+
+    double shortRttNanos = windowSamples == 0 ? 0 : (double) windowRttSum / windowSamples;
+    boolean appLimited = windowMaxInFlight * 2 < estimatedLimit;
+    boolean backOff = windowFailed;
+    windowStart = now;
+    windowRttSum = 0;
+    windowSamples = 0;
+    windowMaxInFlight = 0;
+    windowFailed = false;
+
+    if (backOff) {
+      estimatedLimit = Math.max(minLimit, estimatedLimit * backoffRatio);
+      setLimit();
+      return;
+    }
+
+    // Plain average over the first windows, exponential average over the last LONG_WINDOWS after that
+    windows++;
+    longRttNanos += (shortRttNanos - longRttNanos) / Math.min(windows, LONG_WINDOWS);
+    // After a sustained slowdown the baseline would take a long time to come back down; pull it halfway instead
+    if (longRttNanos / shortRttNanos > 2) {
+      longRttNanos = (longRttNanos + shortRttNanos) / 2;
+    }
+    if (appLimited) {
+      return;
+    }
+
+    double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRttNanos / shortRttNanos));
+    double target = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+    estimatedLimit = Math.max(minLimit, Math.min(maxLimit, estimatedLimit * (1 - LIMIT_SMOOTHING) + target * LIMIT_SMOOTHING));
+    setLimit();
+  }
+
+  private void setLimit() {
+    int previous = limit;
+    limit = (int) estimatedLimit;
+    if (limit > previous && waiting.get() > 0) {
+      lock.lock();
+      try {
+        released.signalAll();
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+}
@@ -0,0 +1,112 @@
+package com.rlevi.studying_clean_architecture.infrastructure.concurrency;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Caps how many pooled connections requests of each {@link RequestPriority} may hold at once, so that admin
+ * traffic cannot drain the pool that sign-ins and refreshes need. Priorities without a cap, and work outside
+ * requests (migrations, background jobs), take connections from the pool as usual.
+ * <p>
+ * A request over its cap waits up to {@code maxWait} for one of its own connections to be closed, then fails
+ * the way an exhausted pool would. Closing it closes the target pool.
+ */
+public class PriorityPartitionedDataSource extends DelegatingDataSource implements AutoCloseable {
+  private final Map<RequestPriority, Semaphore> partitions = new EnumMap<>(RequestPriority.class);
+  private final long maxWaitNanos;
+
+  public PriorityPartitionedDataSource(DataSource target, Map<RequestPriority, Integer> maxConnections, long maxWait, TimeUnit unit) {
+    super(target);
+    maxConnections.forEach((priority, max) -> partitions.put(priority, new Semaphore(max, true)));
+    this.maxWaitNanos = unit.toNanos(maxWait);
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    Semaphore partition = acquirePartition();
+    if (partition == null) {
+      return super.getConnection();
+    }
+    try {
+      return releasingOnClose(super.getConnection(), partition);
+    } catch (SQLException | RuntimeException e) {
+      partition.release();
+      throw e;
+    }
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    Semaphore partition = acquirePartition();
+    if (partition == null) {
+      return super.getConnection(username, password);
+    }
+    try {
+      return releasingOnClose(super.getConnection(username, password), partition);
+    } catch (SQLException | RuntimeException e) {
+      partition.release();
+      throw e;
+    }
+  }
+
+  // Lets code holding only this datasource shut the pool down; the container closes the pool bean itself
+  @Override
+  public void close() throws Exception {
+    if (obtainTargetDataSource() instanceof AutoCloseable closeable) {
+      closeable.close();
+    }
+  }
+
+  private Semaphore acquirePartition() throws SQLException {
+    RequestPriority priority = RequestPriorityContext.current();
+    Semaphore partition = priority == null ? null : partitions.get(priority);
+    if (partition == null) {
+      return null;
+    }
+
+    try {
+      if (partition.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+        return partition;
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    throw new SQLTransientConnectionException("No connection available for " + priority + " priority requests");
+  }
+
+  private static Connection releasingOnClose(Connection connection, Semaphore partition) {
+    AtomicBoolean released = new AtomicBoolean();
+    return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+            (proxy, method, args) -> {
+              switch (method.getName()) {
+                case "equals":
+                  return proxy == args[0];
+                case "hashCode":
+                  return System.identityHashCode(proxy);
+                case "close":
+                  if (released.compareAndSet(false, true)) {
+                    partition.release();
+                  }
+                  break;
+                default:
+                  break;
+              }
+              try {
+                return method.invoke(connection, args);
+              } catch (InvocationTargetException e) {
+                throw e.getCause();
+              }
+            });
+  }
+}
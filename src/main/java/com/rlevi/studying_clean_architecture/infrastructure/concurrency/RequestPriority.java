@@ -0,0 +1,29 @@
+package com.rlevi.studying_clean_architecture.infrastructure.concurrency;
+
+import java.util.Set;
+
+/**
+ * How much a request matters to end users, from most to least. Each priority gets its own {@link Bulkhead}
+ * and share of database connections, and lower ones are shed first.
+ */
+public enum RequestPriority {
+  // Keeping users signed in: a timed-out refresh logs them out
+  CRITICAL,
+  NORMAL,
+  // Admin listings and bulk reads
+  LOW;
+
+  private static final Set<String> CRITICAL_PATHS = Set.of("/api/v1/auth/refresh", "/api/v1/auth/login", "/api/v1/users/me");
+  private static final Set<String> LOW_PATHS = Set.of("/api/v1/users/all", "/api/v1/users/batch");
+  private static final String API_PREFIX = "/api/v1/";
+
+  // Null for paths outside the API (actuator, Swagger, errors), which are never throttled
+  public static RequestPriority of(String path) {
+    if (CRITICAL_PATHS.contains(path)) {
+      return CRITICAL;
+    } else if (LOW_PATHS.contains(path)) {
+      return LOW;
+    }
+    return path.startsWith(API_PREFIX) ? NORMAL : null;
+  }
+}
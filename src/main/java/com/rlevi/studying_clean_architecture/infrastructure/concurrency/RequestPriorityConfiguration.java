@@ -0,0 +1,95 @@
+package com.rlevi.studying_clean_architecture.infrastructure.concurrency;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulkheads and connection partitions per {@link RequestPriority}, configured under
+ * {@code request-priority.<priority>.*} and disabled with {@code request-priority.enabled=false}.
+ * <p>
+ * Only the primary datasource is partitioned. It is then exposed as a {@link PriorityPartitionedDataSource}, so it
+ * must be injected as a {@link DataSource}; {@code unwrap} reaches the pool behind it.
+ */
+@Configuration
+@Profile("!reactive")
+@ConditionalOnProperty(name = "request-priority.enabled", havingValue = "true", matchIfMissing = true)
+public class RequestPriorityConfiguration {
+
+  @Bean
+  public RequestPriorityFilter requestPriorityFilter(Environment environment, MeterRegistry meterRegistry) {
+    Map<RequestPriority, Bulkhead> bulkheads = new EnumMap<>(RequestPriority.class);
+    bulkheads.put(RequestPriority.CRITICAL, bulkhead(environment, RequestPriority.CRITICAL, 100, 100, Duration.ofSeconds(1)));
+    bulkheads.put(RequestPriority.NORMAL, bulkhead(environment, RequestPriority.NORMAL, 80, 50, Duration.ofMillis(500)));
+    bulkheads.put(RequestPriority.LOW, bulkhead(environment, RequestPriority.LOW, 10, 10, Duration.ofMillis(200)));
+    return new RequestPriorityFilter(bulkheads, meterRegistry);
+  }
+
+  // Static so that it does not pull this configuration into early initialization
+  @Bean
+  public static BeanPostProcessor priorityPartitionedDataSourcePostProcessor(Environment environment,
+                                                                             ConfigurableListableBeanFactory beanFactory) {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource dataSource) || bean instanceof PriorityPartitionedDataSource
+                || !isPrimaryDataSource(beanFactory, beanName)) {
+          return bean;
+        }
+
+        Map<RequestPriority, Integer> maxConnections = new EnumMap<>(RequestPriority.class);
+        for (RequestPriority priority : RequestPriority.values()) {
+          int max = environment.getProperty(key(priority, "max-connections"), Integer.class, defaultMaxConnections(priority));
+          if (max > 0) {
+            maxConnections.put(priority, max);
+          }
+        }
+        Duration maxWait = environment.getProperty("request-priority.connection-max-wait", Duration.class, Duration.ofSeconds(2));
+        return maxConnections.isEmpty() ? bean
+                : new PriorityPartitionedDataSource(dataSource, maxConnections, maxWait.toNanos(), TimeUnit.NANOSECONDS);
+      }
+    };
+  }
+
+  // The only datasource, or the one marked @Primary among several
+  private static boolean isPrimaryDataSource(ConfigurableListableBeanFactory beanFactory, String beanName) {
+    String[] names = beanFactory.getBeanNamesForType(DataSource.class, true, false);
+    if (names.length == 1) {
+      return names[0].equals(beanName);
+    }
+    return beanFactory.containsBeanDefinition(beanName) && beanFactory.getBeanDefinition(beanName).isPrimary();
+  }
+
+  private static Bulkhead bulkhead(Environment environment, RequestPriority priority, int maxConcurrent, int maxQueue, Duration maxWait) {
+    return new Bulkhead(
+            environment.getProperty(key(priority, "max-concurrent"), Integer.class, maxConcurrent),
+            environment.getProperty(key(priority, "max-queue"), Integer.class, maxQueue),
+            environment.getProperty(key(priority, "max-wait"), Duration.class, maxWait).toNanos(),
+            TimeUnit.NANOSECONDS);
+  }
+
+  // Together, normal and low requests hold at most 8 of the default pool's 10 connections, leaving two for critical ones
+  private static int defaultMaxConnections(RequestPriority priority) {
+    return switch (priority) {
+      case CRITICAL -> 0;
+      case NORMAL -> 6;
+      case LOW -> 2;
+    };
+  }
+
+  private static String key(RequestPriority priority, String setting) {
+    return "request-priority." + priority.name().toLowerCase(Locale.ROOT) + "." + setting;
+  }
+}
@@ -0,0 +1,23 @@
+package com.rlevi.studying_clean_architecture.infrastructure.concurrency;
+
+/**
+ * Holds the priority of the request being handled on the current thread; null outside requests.
+ */
+public final class RequestPriorityContext {
+  private static final ThreadLocal<RequestPriority> CURRENT = new ThreadLocal<>();
+
+  private RequestPriorityContext() {
+  }
+
+  public static RequestPriority current() {
+    return CURRENT.get();
+  }
+
+  static void set(RequestPriority priority) {
+    CURRENT.set(priority);
+  }
+
+  static void clear() {
+    CURRENT.remove();
+  }
+}
@@ -0,0 +1,104 @@
+package com.rlevi.studying_clean_architecture.infrastructure.concurrency;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs each API request inside the {@link Bulkhead} of its {@link RequestPriority}, so admin traffic can only
+ * take its own share of request threads, and records the priority for {@link PriorityPartitionedDataSource}.
+ * <p>
+ * While requests of a higher priority are waiting for a slot, lower-priority requests are turned away at once,
+ * so the lowest priority is the first to queue and the first to get a 503. Runs right after
+ * {@link com.rlevi.studying_clean_architecture.infrastructure.logging.AccessLogFilter}, ahead of the
+ * adaptive {@link ConcurrencyLimitFilter}.
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE + 3)
+public class RequestPriorityFilter extends OncePerRequestFilter {
+  private final Map<RequestPriority, Bulkhead> bulkheads;
+  private final Map<RequestPriority, Timer> queueTimes = new EnumMap<>(RequestPriority.class);
+
+  public RequestPriorityFilter(Map<RequestPriority, Bulkhead> bulkheads, MeterRegistry registry) {
+    this.bulkheads = new EnumMap<>(bulkheads);
+    this.bulkheads.forEach((priority, bulkhead) -> {
+      String tag = priority.name().toLowerCase(Locale.ROOT);
+      queueTimes.put(priority, Timer.builder("request.priority.queue.time")
+              .description("Time requests of the priority waited for a bulkhead slot")
+              .tag("priority", tag)
+              .register(registry));
+      Gauge.builder("request.priority.in-flight", bulkhead, Bulkhead::getInFlight)
+              .description("Requests of the priority being handled")
+              .tag("priority", tag)
+              .register(registry);
+      Gauge.builder("request.priority.queue.size", bulkhead, Bulkhead::getQueued)
+              .description("Requests of the priority waiting for a bulkhead slot")
+              .tag("priority", tag)
+              .register(registry);
+      FunctionCounter.builder("request.priority.rejections", bulkhead, Bulkhead::getRejected)
+              .description("Requests of the priority rejected with 503")
+              .tag("priority", tag)
+              .register(registry);
+    });
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return RequestPriority.of(request.getRequestURI()) == null;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+    RequestPriority priority = RequestPriority.of(request.getRequestURI());
+    Bulkhead bulkhead = bulkheads.get(priority);
+    long start = System.nanoTime();
+    boolean admitted = higherPriorityWaiting(priority) ? bulkhead.reject() : acquire(bulkhead);
+    if (!admitted) {
+      ServiceUnavailableResponse.write(response);
+      return;
+    }
+
+    queueTimes.get(priority).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    RequestPriorityContext.set(priority);
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      RequestPriorityContext.clear();
+      bulkhead.release();
+    }
+  }
+
+  private boolean higherPriorityWaiting(RequestPriority priority) {
+    for (RequestPriority higher : RequestPriority.values()) {
+      if (higher == priority) {
+        return false;
+      }
+      if (bulkheads.get(higher).getQueued() > 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean acquire(Bulkhead bulkhead) {
+    try {
+      return bulkhead.tryAcquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+}
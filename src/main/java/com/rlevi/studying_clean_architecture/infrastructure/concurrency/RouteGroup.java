@@ -0,0 +1,26 @@
+package com.rlevi.studying_clean_architecture.infrastructure.concurrency;
+
+/**
+ * API areas that get their own concurrency limit, so a slow one cannot take every request thread from the other.
+ */
+public enum RouteGroup {
+  AUTH("/api/v1/auth/"),
+  USERS("/api/v1/users/"),
+  TOKENS("/api/v1/tokens/");
+
+  private final String pathPrefix;
+
+  RouteGroup(String pathPrefix) {
+    this.pathPrefix = pathPrefix;
+  }
+
+  // Null for paths outside the API (actuator, Swagger, errors), which are never limited
+  public static RouteGroup of(String path) {
+    for (RouteGroup group : values()) {
+      if (path.startsWith(group.pathPrefix)) {
+        return group;
+      }
+    }
+    return null;
+  }
+}
@@ -0,0 +1,26 @@
+package com.rlevi.studying_clean_architecture.infrastructure.concurrency;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+// The 503 both load-shedding filters answer with, written straight to the response ahead of Spring MVC
+final class ServiceUnavailableResponse {
+  // The body never changes, so it is serialized once
+  private static final byte[] BODY =
+          "{\"error\":\"Service Unavailable\",\"message\":\"The server is busy, please retry shortly.\",\"status\":503}"
+                  .getBytes(StandardCharsets.UTF_8);
+
+  private ServiceUnavailableResponse() {}
+
+  static void write(HttpServletResponse response) throws IOException {
+    response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+    response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    response.setContentLength(BODY.length);
+    response.getOutputStream().write(BODY);
+  }
+}
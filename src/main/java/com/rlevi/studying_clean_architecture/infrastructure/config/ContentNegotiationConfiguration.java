@@ -0,0 +1,46 @@
+package com.rlevi.studying_clean_architecture.infrastructure.config;
+
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.rlevi.studying_clean_architecture.infrastructure.mapper.ProtobufResponseMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Binary encodings for service-to-service callers, chosen by {@code Accept}: {@code application/cbor}
+ * (requests and responses) and {@code application/x-protobuf} (user and auth responses).
+ * JSON stays the default for clients that accept anything.
+ */
+@Configuration
+@Profile("!reactive")
+public class ContentNegotiationConfiguration implements WebMvcConfigurer {
+  private final ProtobufResponseMapper protobufResponseMapper;
+
+  public ContentNegotiationConfiguration(ProtobufResponseMapper protobufResponseMapper) {
+    this.protobufResponseMapper = protobufResponseMapper;
+  }
+
+  // Replaces Spring's default CBOR converter so CBOR gets the same modules and buffer pool as JSON
+  @Bean
+  public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(
+          Jackson2ObjectMapperBuilder jackson2ObjectMapperBuilder,
+          @Value("${json.buffer-pool-size:64}") int bufferPoolSize) {
+    CBORFactory cborFactory = CBORFactory.builder()
+            .recyclerPool(JsonRecyclerPools.newBoundedPool(bufferPoolSize))
+            .build();
+    return new MappingJackson2CborHttpMessageConverter(jackson2ObjectMapperBuilder.factory(cborFactory).build());
+  }
+
+  @Override
+  public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+    converters.add(new ProtobufResponseHttpMessageConverter(protobufResponseMapper));
+  }
+}
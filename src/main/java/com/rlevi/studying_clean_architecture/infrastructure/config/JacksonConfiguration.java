@@ -0,0 +1,34 @@
+package com.rlevi.studying_clean_architecture.infrastructure.config;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Tuning for the application-wide {@code ObjectMapper} built by Spring Boot. Everything that serializes
+ * objects to JSON should inject that mapper instead of creating its own; the security handlers skip it
+ * and write pre-serialized bodies.
+ */
+@Configuration
+public class JacksonConfiguration {
+
+  // Replaces reflective getter/constructor calls on the DTO records with generated lambdas
+  @Bean
+  @ConditionalOnProperty(name = "json.blackbird.enabled", havingValue = "true", matchIfMissing = true)
+  public BlackbirdModule blackbirdModule() {
+    return new BlackbirdModule();
+  }
+
+  // Jackson's default buffer recycling is per thread, which never reuses anything with virtual threads
+  @Bean
+  public Jackson2ObjectMapperBuilderCustomizer pooledJsonBuffers(@Value("${json.buffer-pool-size:64}") int bufferPoolSize) {
+    return builder -> builder.factory(JsonFactory.builder()
+            .recyclerPool(JsonRecyclerPools.newBoundedPool(bufferPoolSize))
+            .build());
+  }
+}
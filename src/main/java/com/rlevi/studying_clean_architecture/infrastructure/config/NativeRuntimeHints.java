@@ -0,0 +1,67 @@
+package com.rlevi.studying_clean_architecture.infrastructure.config;
+
+import com.rlevi.studying_clean_architecture.infrastructure.persistence.RefreshTokenEntity;
+import com.rlevi.studying_clean_architecture.infrastructure.persistence.UserEntity;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+import java.util.List;
+
+/**
+ * Reachability metadata for the native image that Spring AOT cannot infer on its own.
+ * <p>
+ * jjwt-api finds its implementation classes by name (Jwts, Jwks, Keys), the Flyway locations are
+ * not the default {@code db/migration}, and the Swagger UI is served from webjar resources.
+ */
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+  private static final List<String> JJWT_REFLECTIVE_TYPES = List.of(
+          "io.jsonwebtoken.impl.DefaultClaimsBuilder",
+          "io.jsonwebtoken.impl.DefaultJwtBuilder",
+          "io.jsonwebtoken.impl.DefaultJwtHeaderBuilder",
+          "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+          "io.jsonwebtoken.impl.io.StandardCompressionAlgorithms",
+          "io.jsonwebtoken.impl.security.DefaultDynamicJwkBuilder",
+          "io.jsonwebtoken.impl.security.DefaultJwkParserBuilder",
+          "io.jsonwebtoken.impl.security.DefaultJwkSetBuilder",
+          "io.jsonwebtoken.impl.security.DefaultJwkSetParserBuilder",
+          "io.jsonwebtoken.impl.security.DefaultKeyOperationBuilder",
+          "io.jsonwebtoken.impl.security.DefaultKeyOperationPolicyBuilder",
+          "io.jsonwebtoken.impl.security.JwksBridge",
+          "io.jsonwebtoken.impl.security.KeysBridge",
+          "io.jsonwebtoken.impl.security.StandardCurves",
+          "io.jsonwebtoken.impl.security.StandardEncryptionAlgorithms",
+          "io.jsonwebtoken.impl.security.StandardHashAlgorithms",
+          "io.jsonwebtoken.impl.security.StandardKeyAlgorithms",
+          "io.jsonwebtoken.impl.security.StandardKeyOperations",
+          "io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms",
+          "io.jsonwebtoken.jackson.io.JacksonSerializer",
+          "io.jsonwebtoken.jackson.io.JacksonDeserializer"
+  );
+
+  @Override
+  public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+    for (String type : JJWT_REFLECTIVE_TYPES) {
+      hints.reflection().registerType(TypeReference.of(type),
+              MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+              MemberCategory.INVOKE_DECLARED_METHODS);
+    }
+    hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.io.Serializer");
+    hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.io.Deserializer");
+
+    for (Class<?> entity : List.of(UserEntity.class, RefreshTokenEntity.class)) {
+      hints.reflection().registerType(entity,
+              MemberCategory.DECLARED_FIELDS,
+              MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+              MemberCategory.INVOKE_DECLARED_METHODS);
+    }
+
+    hints.resources().registerPattern("db/migration/h2/*.sql");
+    hints.resources().registerPattern("db/migration/postgresql/*.sql");
+
+    hints.resources().registerPattern("META-INF/resources/webjars/swagger-ui/**");
+    hints.resources().registerPattern("META-INF/maven/org.webjars/swagger-ui/pom.properties");
+  }
+}
@@ -0,0 +1,91 @@
+package com.rlevi.studying_clean_architecture.infrastructure.config;
+
+import com.rlevi.studying_clean_architecture.infrastructure.dto.ErrorResponse;
+import com.rlevi.studying_clean_architecture.infrastructure.dto.ErrorValidation;
+import com.rlevi.studying_clean_architecture.infrastructure.dto.introspect.TokenIntrospectionResponse;
+import com.rlevi.studying_clean_architecture.infrastructure.dto.login.UserLoginResponse;
+import com.rlevi.studying_clean_architecture.infrastructure.dto.refreshtoken.RefreshTokenResponse;
+import com.rlevi.studying_clean_architecture.infrastructure.dto.response.UserResponse;
+import com.rlevi.studying_clean_architecture.infrastructure.mapper.ProtobufResponseMapper;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Writes the user, auth and error response records as protobuf when the caller asks for
+ * {@code application/x-protobuf}. Request bodies stay JSON or CBOR.
+ * <p>
+ * Must come after the JSON converter, otherwise it would also answer wildcard {@code Accept} headers.
+ */
+public class ProtobufResponseHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+  public static final MediaType PROTOBUF = new MediaType("application", "x-protobuf");
+
+  private static final Set<Class<?>> SUPPORTED_TYPES = Set.of(
+          UserResponse.class, UserLoginResponse.class, RefreshTokenResponse.class,
+          TokenIntrospectionResponse.class, ErrorResponse.class, ErrorValidation.class);
+
+  private final ProtobufResponseMapper protobufResponseMapper;
+
+  public ProtobufResponseHttpMessageConverter(ProtobufResponseMapper protobufResponseMapper) {
+    super(PROTOBUF);
+    this.protobufResponseMapper = protobufResponseMapper;
+  }
+
+  @Override
+  protected boolean supports(Class<?> clazz) {
+    return SUPPORTED_TYPES.contains(clazz);
+  }
+
+  // List<UserResponse> is only recognisable from the declared return type
+  @Override
+  public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+    if (!canWrite(mediaType)) {
+      return false;
+    }
+    if (supports(clazz)) {
+      return true;
+    }
+    ResolvableType resolved = type != null ? ResolvableType.forType(type) : ResolvableType.forClass(clazz);
+    return List.class.isAssignableFrom(resolved.toClass())
+            && resolved.getGeneric(0).toClass() == UserResponse.class;
+  }
+
+  // Asked with the raw value class while listing producible types; canWrite(Type, ...) has already checked the element type
+  @Override
+  public List<MediaType> getSupportedMediaTypes(Class<?> clazz) {
+    return supports(clazz) || List.class.isAssignableFrom(clazz) ? getSupportedMediaTypes() : List.of();
+  }
+
+  @Override
+  public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+    return false;
+  }
+
+  @Override
+  protected boolean canRead(MediaType mediaType) {
+    return false;
+  }
+
+  @Override
+  protected void writeInternal(Object body, Type type, HttpOutputMessage outputMessage) throws IOException {
+    protobufResponseMapper.toMessage(body).writeTo(outputMessage.getBody());
+  }
+
+  @Override
+  public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) {
+    throw new HttpMessageNotReadableException("Protobuf request bodies are not supported", inputMessage);
+  }
+
+  @Override
+  protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+    throw new HttpMessageNotReadableException("Protobuf request bodies are not supported", inputMessage);
+  }
+}
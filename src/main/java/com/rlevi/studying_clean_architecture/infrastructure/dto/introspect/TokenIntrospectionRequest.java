@@ -0,0 +1,19 @@
+package com.rlevi.studying_clean_architecture.infrastructure.dto.introspect;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "Batch of access tokens to introspect")
+public record TokenIntrospectionRequest(
+        @NotEmpty(message = "At least one token is required.")
+        @Size(max = TokenIntrospectionRequest.MAX_TOKENS, message = "At most " + TokenIntrospectionRequest.MAX_TOKENS + " tokens per request.")
+        @ArraySchema(schema = @Schema(description = "Access token", example = "eyJhbGciOiJIUzI1NiJ9..."), maxItems = TokenIntrospectionRequest.MAX_TOKENS)
+        List<@NotBlank(message = "Token must not be blank.") String> tokens
+) {
+  public static final int MAX_TOKENS = 100;
+}
@@ -0,0 +1,11 @@
+package com.rlevi.studying_clean_architecture.infrastructure.dto.introspect;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Introspection results, in the same order as the requested tokens")
+public record TokenIntrospectionResponse(
+        List<TokenIntrospectionResult> results
+) {
+}
@@ -0,0 +1,28 @@
+package com.rlevi.studying_clean_architecture.infrastructure.dto.introspect;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.rlevi.studying_clean_architecture.core.entities.TokenIntrospection;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+
+@Schema(description = "Introspection result for one token; inactive tokens carry no other fields")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TokenIntrospectionResult(
+        @Schema(description = "Whether the token is signed by this service, unexpired and its user still exists", example = "true")
+        boolean active,
+
+        @Schema(description = "Email of the token owner", example = "john.doe@email.com")
+        String subject,
+
+        @Schema(description = "Token expiry", example = "2024-01-01T12:15:00Z")
+        Instant expiresAt,
+
+        @Schema(description = "ID of the token owner", example = "1")
+        Long userId
+) {
+  public static TokenIntrospectionResult from(TokenIntrospection introspection) {
+    return new TokenIntrospectionResult(introspection.active(), introspection.subject(),
+            introspection.expiresAt(), introspection.userId());
+  }
+}
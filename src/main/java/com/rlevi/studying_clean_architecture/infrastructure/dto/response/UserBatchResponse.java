@@ -0,0 +1,15 @@
+package com.rlevi.studying_clean_architecture.infrastructure.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Users for a list of IDs")
+public record UserBatchResponse(
+        @Schema(description = "One entry per requested ID, in request order; null where the user does not exist")
+        List<UserResponse> users,
+
+        @Schema(description = "Requested IDs with no matching user", example = "[42]")
+        List<Long> missingIds
+) {
+}
@@ -0,0 +1,15 @@
+package com.rlevi.studying_clean_architecture.infrastructure.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "One page of user search results")
+public record UserSearchResponse(
+        @Schema(description = "Matching users, ordered by ID")
+        List<UserResponse> users,
+
+        @Schema(description = "Cursor for the next page; null on the last page", example = "1042")
+        Long nextCursor
+) {
+}
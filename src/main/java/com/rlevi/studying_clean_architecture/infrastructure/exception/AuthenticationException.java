@@ -1,11 +1,12 @@
 package com.rlevi.studying_clean_architecture.infrastructure.exception;
 
+// Stackless: rejected credentials are expected traffic, and filling in a stack trace for each is measurable under attack
 public class AuthenticationException extends RuntimeException {
   public AuthenticationException(String message) {
-    super(message);
+    super(message, null, false, false);
   }
 
   public AuthenticationException(String message, Throwable cause) {
-    super(message, cause);
+    super(message, cause, false, false);
   }
 }
@@ -1,30 +1,46 @@
 package com.rlevi.studying_clean_architecture.infrastructure.exception;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.rlevi.studying_clean_architecture.infrastructure.security.AuthRejectionMetrics;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.web.access.AccessDeniedHandler;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 
 @Component
+@Profile("!reactive")
 public class CustomAccessDeniedHandler implements AccessDeniedHandler {
+  // Everything but the request path is serialized once
+  private static final byte[] BODY_PREFIX =
+          "{\"error\":\"Access denied\",\"message\":\"You do not have permission to access this resource.\",\"path\":\""
+                  .getBytes(StandardCharsets.UTF_8);
+  private static final byte[] BODY_SUFFIX = "\"}".getBytes(StandardCharsets.UTF_8);
+
+  private final AuthRejectionMetrics rejectionMetrics;
+
+  public CustomAccessDeniedHandler(AuthRejectionMetrics rejectionMetrics) {
+    this.rejectionMetrics = rejectionMetrics;
+  }
+
   @Override
   public void handle(HttpServletRequest request, HttpServletResponse response, AccessDeniedException accessDeniedException) throws IOException, ServletException {
-    response.setStatus(HttpServletResponse.SC_FORBIDDEN);
-    response.setContentType("application/json");
-
-    Map<String, Object> responseBody = new HashMap<>();
-    responseBody.put("error", "Access denied");
-    responseBody.put("message", "You do not have permission to access this resource.");
-    responseBody.put("path", request.getRequestURI());
+    rejectionMetrics.increment(AuthRejectionMetrics.Reason.ACCESS_DENIED);
+    byte[] path = JsonStringEncoder.getInstance().quoteAsUTF8(request.getRequestURI());
 
-    ObjectMapper mapper = new ObjectMapper();
-    response.getWriter().write(mapper.writeValueAsString(responseBody));
+    response.setStatus(HttpServletResponse.SC_FORBIDDEN);
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    response.setContentLength(BODY_PREFIX.length + path.length + BODY_SUFFIX.length);
+    OutputStream body = response.getOutputStream();
+    body.write(BODY_PREFIX);
+    body.write(path);
+    body.write(BODY_SUFFIX);
   }
 }
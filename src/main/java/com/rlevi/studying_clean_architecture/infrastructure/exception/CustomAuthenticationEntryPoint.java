@@ -1,30 +1,38 @@
 package com.rlevi.studying_clean_architecture.infrastructure.exception;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rlevi.studying_clean_architecture.infrastructure.security.AuthRejectionMetrics;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.AuthenticationEntryPoint;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
+import java.nio.charset.StandardCharsets;
 
 @Component
+@Profile("!reactive")
 public class CustomAuthenticationEntryPoint implements AuthenticationEntryPoint {
+  // The body never changes, so it is serialized once
+  private static final byte[] BODY =
+          "{\"error\":\"Not authenticated\",\"message\":\"You need to be logged in to access this feature.\",\"status\":401}"
+                  .getBytes(StandardCharsets.UTF_8);
+
+  private final AuthRejectionMetrics rejectionMetrics;
+
+  public CustomAuthenticationEntryPoint(AuthRejectionMetrics rejectionMetrics) {
+    this.rejectionMetrics = rejectionMetrics;
+  }
+
   @Override
   public void commence(HttpServletRequest request, HttpServletResponse response, AuthenticationException authException) throws IOException, ServletException {
+    rejectionMetrics.increment(AuthRejectionMetrics.Reason.MISSING_CREDENTIALS);
     response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-    response.setContentType("application/json");
-
-    Map<String, Object> responseBody = new HashMap<>();
-    responseBody.put("error", "Not authenticated");
-    responseBody.put("message", "You need to be logged in to access this feature.");
-    responseBody.put("status", 401);
-
-    ObjectMapper mapper = new ObjectMapper();
-    response.getWriter().write(mapper.writeValueAsString(responseBody));
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    response.setContentLength(BODY.length);
+    response.getOutputStream().write(BODY);
   }
 }
@@ -0,0 +1,81 @@
+package com.rlevi.studying_clean_architecture.infrastructure.gateway;
+
+import com.rlevi.studying_clean_architecture.core.gateway.PasswordEncoderGateway;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs password hashing on a bounded pool of platform threads.
+ * <p>
+ * With virtual threads enabled, BCrypt would otherwise occupy a carrier thread for the whole hash.
+ * The calling thread only parks while waiting for the result. When the queue is full the task is
+ * rejected with a {@link java.util.concurrent.RejectedExecutionException}.
+ */
+public class ExecutorPasswordEncoderGateway implements PasswordEncoderGateway, AutoCloseable {
+
+  private final PasswordEncoderGateway delegate;
+  private final ExecutorService executor;
+
+  public ExecutorPasswordEncoderGateway(PasswordEncoderGateway delegate, int poolSize, int queueCapacity) {
+    this.delegate = delegate;
+    this.executor = new ThreadPoolExecutor(
+            poolSize,
+            poolSize,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(queueCapacity),
+            new HashingThreadFactory(),
+            new ThreadPoolExecutor.AbortPolicy()
+    );
+  }
+
+  @Override
+  public String encode(String rawPassword) {
+    return submit(() -> delegate.encode(rawPassword));
+  }
+
+  @Override
+  public boolean matches(String rawPassword, String encodedPassword) {
+    return submit(() -> delegate.matches(rawPassword, encodedPassword));
+  }
+
+  @Override
+  public void close() {
+    executor.shutdown();
+  }
+
+  private <T> T submit(Callable<T> task) {
+    Future<T> future = executor.submit(task);
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException("Password hashing failed", e.getCause());
+    }
+  }
+
+  private static final class HashingThreadFactory implements ThreadFactory {
+    private final AtomicInteger counter = new AtomicInteger();
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+      Thread thread = new Thread(runnable, "password-hasher-" + counter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+}
@@ -8,6 +8,7 @@ import com.rlevi.studying_clean_architecture.infrastructure.persistence.RefreshT
 import com.rlevi.studying_clean_architecture.infrastructure.persistence.RefreshTokenRepository;
 import com.rlevi.studying_clean_architecture.infrastructure.persistence.UserEntity;
 import com.rlevi.studying_clean_architecture.infrastructure.persistence.UserRepository;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,6 +16,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Component
+@Profile("!reactive")
 @Transactional
 public class RefreshTokenRepositoryGateway implements RefreshTokenGateway {
   private final RefreshTokenRepository refreshTokenRepository;
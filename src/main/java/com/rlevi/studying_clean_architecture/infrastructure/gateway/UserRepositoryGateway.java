@@ -5,19 +5,34 @@ import com.rlevi.studying_clean_architecture.core.gateway.UserGateway;
 import com.rlevi.studying_clean_architecture.infrastructure.mapper.UserMapper;
 import com.rlevi.studying_clean_architecture.infrastructure.persistence.UserEntity;
 import com.rlevi.studying_clean_architecture.infrastructure.persistence.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
 @Component
+@Profile("!reactive")
 public class UserRepositoryGateway implements UserGateway {
+  // Trigrams need three characters; shorter queries only match prefixes, which the btree indexes serve
+  private static final int MIN_CONTAINS_LENGTH = 3;
+
   private final UserRepository userRepository;
   private final UserMapper userMapper;
+  private final boolean naturalIdLookup;
+  private final int idBatchSize;
 
-  public UserRepositoryGateway(UserRepository userRepository, UserMapper userMapper) {
+  public UserRepositoryGateway(UserRepository userRepository, UserMapper userMapper,
+                               @Value("${hibernate-cache.enabled:false}") boolean naturalIdLookup,
+                               @Value("${users.batch.query-chunk-size:500}") int idBatchSize) {
     this.userRepository = userRepository;
     this.userMapper = userMapper;
+    this.naturalIdLookup = naturalIdLookup;
+    this.idBatchSize = idBatchSize;
   }
 
   @Override
@@ -54,8 +69,21 @@ public class UserRepositoryGateway implements UserGateway {
       return Optional.empty();
     }
 
-    return userRepository.findByEmail(email)
-            .map(userMapper::toDomain);
+    Optional<UserEntity> userEntity = naturalIdLookup
+            ? userRepository.findByNaturalIdEmail(email)
+            : userRepository.findByEmail(email);
+    return userEntity.map(userMapper::toDomain);
+  }
+
+  @Override
+  public List<User> findUsersByIds(Collection<Long> ids) {
+    if (ids == null || ids.isEmpty()) {
+      return List.of();
+    }
+
+    return userRepository.findAllByIdInBatches(ids, idBatchSize).stream()
+            .map(userMapper::toDomain)
+            .toList();
   }
 
   @Override
@@ -65,6 +93,19 @@ public class UserRepositoryGateway implements UserGateway {
             .toList();
   }
 
+  @Override
+  public List<User> searchUsers(String query, int limit, Long cursor) {
+    if (query == null || query.isBlank() || limit < 1) {
+      return List.of();
+    }
+
+    String term = query.trim().toLowerCase(Locale.ROOT);
+    String pattern = term.length() < MIN_CONTAINS_LENGTH ? escapeLike(term) + "%" : "%" + escapeLike(term) + "%";
+    return userRepository.searchByNameOrEmail(pattern, cursor == null ? 0L : cursor, Limit.of(limit)).stream()
+            .map(userMapper::toDomain)
+            .toList();
+  }
+
   @Override
   public boolean verifyExistsByEmail(String email) {
     if (email == null || email.isBlank()) {
@@ -82,4 +123,9 @@ public class UserRepositoryGateway implements UserGateway {
 
     userRepository.deleteById(id);
   }
+
+  // '!' is declared as the escape character in UserRepository.searchByNameOrEmail
+  private static String escapeLike(String value) {
+    return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+  }
 }
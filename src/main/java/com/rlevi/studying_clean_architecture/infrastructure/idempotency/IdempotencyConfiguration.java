@@ -0,0 +1,21 @@
+package com.rlevi.studying_clean_architecture.infrastructure.idempotency;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.time.Duration;
+
+@Configuration
+@Profile("!reactive")
+public class IdempotencyConfiguration {
+
+  @Bean
+  public IdempotencyStore idempotencyStore(
+          @Value("${idempotency.ttl:10m}") Duration ttl,
+          @Value("${idempotency.in-flight-timeout:10s}") Duration inFlightTimeout,
+          @Value("${idempotency.max-keys:100000}") int maxKeys) {
+    return new IdempotencyStore(ttl, inFlightTimeout, maxKeys);
+  }
+}
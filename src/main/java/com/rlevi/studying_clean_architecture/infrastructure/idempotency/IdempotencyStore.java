@@ -0,0 +1,168 @@
+package com.rlevi.studying_clean_architecture.infrastructure.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.rlevi.studying_clean_architecture.infrastructure.exception.BusinessException;
+import com.rlevi.studying_clean_architecture.infrastructure.exception.DuplicateResourceException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Remembers the responses of requests sent with an {@code Idempotency-Key}, so a retried request gets the
+ * original response instead of running again.
+ * <p>
+ * A key is bound to a fingerprint of the request it came with; reusing it for a different request is rejected,
+ * which also keeps one client's response from being replayed to another. A duplicate that arrives while the
+ * original is still running waits up to {@code inFlightTimeout} for its result. Only successful responses are
+ * kept, for {@code ttl} after the key was first seen; after a failure the key is released and a retry runs again.
+ * Beyond {@code maxSize} keys the least useful ones are dropped early. Keys live in this instance only.
+ * <p>
+ * The stored register and login responses carry live access and refresh tokens, which therefore stay on the heap
+ * for up to {@code ttl}. Keep {@code ttl} short, no longer than a client would reasonably retry.
+ */
+public class IdempotencyStore implements MeterBinder {
+  public static final String HEADER = "Idempotency-Key";
+  public static final int MAX_KEY_LENGTH = 255;
+
+  private final long inFlightTimeoutNanos;
+  private final Cache<String, Entry> cache;
+  private final ConcurrentMap<String, Entry> entries;
+  private final AtomicLong replays = new AtomicLong();
+  private final AtomicLong evicted = new AtomicLong();
+
+  public IdempotencyStore(Duration ttl, Duration inFlightTimeout, int maxSize) {
+    this(ttl, inFlightTimeout, maxSize, Ticker.systemTicker());
+  }
+
+  IdempotencyStore(Duration ttl, Duration inFlightTimeout, int maxSize, Ticker ticker) {
+    this.inFlightTimeoutNanos = inFlightTimeout.toNanos();
+    this.cache = Caffeine.newBuilder()
+            .expireAfterWrite(ttl)
+            .maximumSize(maxSize)
+            .ticker(ticker)
+            .evictionListener((String key, Entry entry, RemovalCause cause) -> {
+              if (cause == RemovalCause.SIZE) {
+                evicted.incrementAndGet();
+              }
+            })
+            .build();
+    this.entries = cache.asMap();
+  }
+
+  /**
+   * Runs {@code action} once per {@code scope} and {@code key}, returning the stored result to later calls with
+   * the same fingerprint. A null key runs the action as usual. {@code isSuccess} decides which results are kept.
+   */
+  public <T> T execute(String scope, String key, String fingerprint, Supplier<T> action, Predicate<T> isSuccess) {
+    if (key == null) {
+      return action.get();
+    }
+    if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+      throw new BusinessException("Idempotency-Key must have between 1 and " + MAX_KEY_LENGTH + " characters");
+    }
+
+    String storeKey = scope + ':' + key;
+    Entry entry = new Entry(fingerprint, new CompletableFuture<>());
+    while (true) {
+      Entry existing = entries.putIfAbsent(storeKey, entry);
+      if (existing == null) {
+        return runAndStore(storeKey, entry, action, isSuccess);
+      }
+      if (!existing.fingerprint().equals(fingerprint)) {
+        throw new BusinessException("Idempotency-Key was already used for a different request");
+      }
+      T result = await(existing);
+      if (result != null) {
+        replays.incrementAndGet();
+        return result;
+      }
+      // The original failed and released the key, so this request runs on its own
+    }
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    FunctionCounter.builder("idempotency.replays", replays, AtomicLong::get)
+            .description("Requests answered with the stored response of an earlier request with the same Idempotency-Key")
+            .register(registry);
+    FunctionCounter.builder("idempotency.evicted", evicted, AtomicLong::get)
+            .description("Keys dropped before their ttl because max-keys was reached")
+            .register(registry);
+    Gauge.builder("idempotency.keys", cache, Cache::estimatedSize)
+            .description("Idempotency keys held, in flight or completed")
+            .register(registry);
+  }
+
+  // Hex SHA-256 of the parts, so the store holds no request bodies (or passwords)
+  public static String fingerprint(String... parts) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      for (String part : parts) {
+        digest.update(String.valueOf(part).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+      }
+      StringBuilder hex = new StringBuilder();
+      for (byte b : digest.digest()) {
+        hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+      }
+      return hex.toString();
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+
+  private <T> T runAndStore(String storeKey, Entry entry, Supplier<T> action, Predicate<T> isSuccess) {
+    T result;
+    try {
+      result = action.get();
+    } catch (RuntimeException | Error e) {
+      entries.remove(storeKey, entry);
+      entry.result().complete(null);
+      throw e;
+    }
+
+    if (isSuccess.test(result)) {
+      entry.result().complete(result);
+    } else {
+      entries.remove(storeKey, entry);
+      entry.result().complete(null);
+    }
+    return result;
+  }
+
+  // Null when the original request failed
+  @SuppressWarnings("unchecked")
+  private <T> T await(Entry entry) {
+    try {
+      return (T) entry.result().get(inFlightTimeoutNanos, TimeUnit.NANOSECONDS);
+    } catch (TimeoutException e) {
+      throw new DuplicateResourceException("A request with this Idempotency-Key is still in progress");
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new DuplicateResourceException("A request with this Idempotency-Key is still in progress");
+    } catch (ExecutionException e) {
+      // Not expected: entries are only ever completed normally
+      return null;
+    }
+  }
+
+  private record Entry(String fingerprint, CompletableFuture<Object> result) {
+  }
+}
@@ -0,0 +1,76 @@
+package com.rlevi.studying_clean_architecture.infrastructure.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Opens the request context for everything logged while handling a request and writes one
+ * access-log line when it finishes.
+ * <p>
+ * Runs just inside the HTTP observation filter (so the line carries the trace id) and ahead of the
+ * security chain, so rejected requests (401/403) are logged too. Lines for
+ * requests with status below 400 are sampled with {@code logging.access.success-sample-rate};
+ * errors are always logged.
+ */
+@Component
+@Profile("!reactive")
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+public class AccessLogFilter extends OncePerRequestFilter {
+  public static final String REQUEST_ID_KEY = "requestId";
+  public static final String ENDPOINT_KEY = "endpoint";
+  public static final String USER_EMAIL_KEY = "userEmail";
+  public static final String REQUEST_ID_HEADER = "X-Request-Id";
+
+  private static final Logger accessLogger = LoggerFactory.getLogger("access");
+
+  private final RequestIdGenerator requestIdGenerator = new RequestIdGenerator();
+  private final double successSampleRate;
+
+  public AccessLogFilter(@Value("${logging.access.success-sample-rate:1.0}") double successSampleRate) {
+    this.successSampleRate = successSampleRate;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+    long start = System.nanoTime();
+    String requestId = requestIdGenerator.next();
+
+    MDC.put(REQUEST_ID_KEY, requestId);
+    MDC.put(ENDPOINT_KEY, request.getMethod() + " " + request.getRequestURI());
+    response.setHeader(REQUEST_ID_HEADER, requestId);
+
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      int status = response.getStatus();
+      if (status >= 400 || shouldSampleSuccess()) {
+        long durationMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+        accessLogger.info("method={} path={} status={} durationMs={}",
+                request.getMethod(), request.getRequestURI(), status, durationMicros / 1000.0);
+      }
+      MDC.remove(REQUEST_ID_KEY);
+      MDC.remove(ENDPOINT_KEY);
+      MDC.remove(USER_EMAIL_KEY);
+    }
+  }
+
+  private boolean shouldSampleSuccess() {
+    return successSampleRate >= 1.0
+            || (successSampleRate > 0.0 && ThreadLocalRandom.current().nextDouble() < successSampleRate);
+  }
+}
@@ -0,0 +1,39 @@
+package com.rlevi.studying_clean_architecture.infrastructure.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Logback {@link AsyncAppender} that counts the events it drops.
+ * <p>
+ * Once the queue has less than {@code discardingThreshold} free slots, events at INFO and below are discarded.
+ * With {@code neverBlock}, WARN/ERROR events that find the queue full are dropped as well instead of blocking
+ * the caller. That second count is taken just before the offer, so it is approximate under contention.
+ */
+public class CountingAsyncAppender extends AsyncAppender {
+  private final LongAdder droppedEvents = new LongAdder();
+
+  @Override
+  protected boolean isDiscardable(ILoggingEvent event) {
+    boolean discardable = super.isDiscardable(event);
+    if (discardable) {
+      droppedEvents.increment();
+    }
+    return discardable;
+  }
+
+  @Override
+  protected void append(ILoggingEvent event) {
+    if (isNeverBlock() && getRemainingCapacity() == 0 && event.getLevel().isGreaterOrEqual(Level.WARN)) {
+      droppedEvents.increment();
+    }
+    super.append(event);
+  }
+
+  public long getDroppedEvents() {
+    return droppedEvents.sum();
+  }
+}
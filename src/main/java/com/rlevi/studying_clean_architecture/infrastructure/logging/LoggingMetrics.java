@@ -0,0 +1,44 @@
+package com.rlevi.studying_clean_architecture.infrastructure.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+
+/**
+ * Publishes {@code logging.events.dropped} and {@code logging.queue.size} for every
+ * {@link CountingAsyncAppender} attached to the root logger.
+ */
+@Component
+public class LoggingMetrics implements MeterBinder {
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext loggerContext)) {
+      return;
+    }
+
+    Logger root = loggerContext.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+    Iterator<Appender<ILoggingEvent>> appenders = root.iteratorForAppenders();
+    while (appenders.hasNext()) {
+      if (appenders.next() instanceof CountingAsyncAppender appender) {
+        FunctionCounter.builder("logging.events.dropped", appender, CountingAsyncAppender::getDroppedEvents)
+                .description("Log events discarded because the async queue was full")
+                .tag("appender", appender.getName())
+                .register(registry);
+        Gauge.builder("logging.queue.size", appender, CountingAsyncAppender::getNumberOfElementsInQueue)
+                .description("Log events waiting in the async queue")
+                .tag("appender", appender.getName())
+                .register(registry);
+      }
+    }
+  }
+}
@@ -0,0 +1,23 @@
+package com.rlevi.studying_clean_architecture.infrastructure.logging;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cheap request ids: a per-instance random prefix plus a monotonic counter, e.g. {@code 3k9xq2-1f}.
+ * <p>
+ * Unique within an instance and unlikely to collide across instances, without the SecureRandom
+ * cost of {@code UUID.randomUUID()} on every request.
+ */
+public class RequestIdGenerator {
+  private final String prefix;
+  private final AtomicLong counter = new AtomicLong();
+
+  public RequestIdGenerator() {
+    this.prefix = Long.toString(ThreadLocalRandom.current().nextLong(36L * 36 * 36 * 36 * 36, 36L * 36 * 36 * 36 * 36 * 36), 36);
+  }
+
+  public String next() {
+    return prefix + '-' + Long.toString(counter.incrementAndGet(), 36);
+  }
+}
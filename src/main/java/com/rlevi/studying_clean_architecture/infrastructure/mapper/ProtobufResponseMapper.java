@@ -0,0 +1,147 @@
+package com.rlevi.studying_clean_architecture.infrastructure.mapper;
+
+import com.google.protobuf.Message;
+import com.google.protobuf.Timestamp;
+import com.rlevi.studying_clean_architecture.infrastructure.dto.ErrorResponse;
+import com.rlevi.studying_clean_architecture.infrastructure.dto.ErrorValidation;
+import com.rlevi.studying_clean_architecture.infrastructure.dto.introspect.TokenIntrospectionResponse;
+import com.rlevi.studying_clean_architecture.infrastructure.dto.introspect.TokenIntrospectionResult;
+import com.rlevi.studying_clean_architecture.infrastructure.dto.login.UserLoginResponse;
+import com.rlevi.studying_clean_architecture.infrastructure.dto.refreshtoken.RefreshTokenResponse;
+import com.rlevi.studying_clean_architecture.infrastructure.dto.response.UserResponse;
+import com.rlevi.studying_clean_architecture.infrastructure.proto.UserListResponse;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Converts the REST response records to the messages generated from {@code src/main/proto/responses.proto}.
+ * Proto3 has no null, so missing values are left unset and read back as the field default.
+ */
+@Component
+public class ProtobufResponseMapper {
+
+  public Message toMessage(Object body) {
+    if (body instanceof UserResponse user) {
+      return toProto(user);
+    }
+    if (body instanceof UserLoginResponse login) {
+      return toProto(login);
+    }
+    if (body instanceof RefreshTokenResponse refresh) {
+      return toProto(refresh);
+    }
+    if (body instanceof TokenIntrospectionResponse introspection) {
+      return toProto(introspection);
+    }
+    if (body instanceof ErrorResponse error) {
+      return toProto(error.timestamp(), error.status(), error.error(), error.message(), error.path(), Map.of());
+    }
+    if (body instanceof ErrorValidation error) {
+      return toProto(error.timestamp(), error.status(), error.error(), error.message(), error.path(), error.fieldErrors());
+    }
+    if (body instanceof List<?> list) {
+      UserListResponse.Builder builder = UserListResponse.newBuilder();
+      for (Object user : list) {
+        builder.addUsers(toProto((UserResponse) user));
+      }
+      return builder.build();
+    }
+    throw new IllegalArgumentException("No protobuf message for " + body.getClass().getName());
+  }
+
+  public com.rlevi.studying_clean_architecture.infrastructure.proto.UserResponse toProto(UserResponse user) {
+    var builder = com.rlevi.studying_clean_architecture.infrastructure.proto.UserResponse.newBuilder()
+            .setEmail(user.email())
+            .setName(user.name());
+    if (user.id() != null) {
+      builder.setId(user.id());
+    }
+    if (user.createdAt() != null) {
+      builder.setCreatedAt(toTimestamp(user.createdAt()));
+    }
+    if (user.updatedAt() != null) {
+      builder.setUpdatedAt(toTimestamp(user.updatedAt()));
+    }
+    return builder.build();
+  }
+
+  public com.rlevi.studying_clean_architecture.infrastructure.proto.UserLoginResponse toProto(UserLoginResponse login) {
+    var builder = com.rlevi.studying_clean_architecture.infrastructure.proto.UserLoginResponse.newBuilder();
+    if (login.message() != null) {
+      builder.setMessage(login.message());
+    }
+    if (login.token() != null) {
+      builder.setToken(login.token());
+    }
+    if (login.refreshToken() != null) {
+      builder.setRefreshToken(login.refreshToken());
+    }
+    return builder.build();
+  }
+
+  public com.rlevi.studying_clean_architecture.infrastructure.proto.RefreshTokenResponse toProto(RefreshTokenResponse refresh) {
+    var builder = com.rlevi.studying_clean_architecture.infrastructure.proto.RefreshTokenResponse.newBuilder();
+    if (refresh.message() != null) {
+      builder.setMessage(refresh.message());
+    }
+    if (refresh.accessToken() != null) {
+      builder.setAccessToken(refresh.accessToken());
+    }
+    if (refresh.refreshToken() != null) {
+      builder.setRefreshToken(refresh.refreshToken());
+    }
+    return builder.build();
+  }
+
+  public com.rlevi.studying_clean_architecture.infrastructure.proto.TokenIntrospectionResponse toProto(TokenIntrospectionResponse introspection) {
+    var builder = com.rlevi.studying_clean_architecture.infrastructure.proto.TokenIntrospectionResponse.newBuilder();
+    for (TokenIntrospectionResult result : introspection.results()) {
+      var resultBuilder = com.rlevi.studying_clean_architecture.infrastructure.proto.TokenIntrospectionResult.newBuilder()
+              .setActive(result.active());
+      if (result.subject() != null) {
+        resultBuilder.setSubject(result.subject());
+      }
+      if (result.expiresAt() != null) {
+        resultBuilder.setExpiresAt(toTimestamp(result.expiresAt()));
+      }
+      if (result.userId() != null) {
+        resultBuilder.setUserId(result.userId());
+      }
+      builder.addResults(resultBuilder);
+    }
+    return builder.build();
+  }
+
+  private com.rlevi.studying_clean_architecture.infrastructure.proto.ErrorResponse toProto(
+          LocalDateTime timestamp, int status, String error, String message, String path, Map<String, String> fieldErrors) {
+    var builder = com.rlevi.studying_clean_architecture.infrastructure.proto.ErrorResponse.newBuilder()
+            .setStatus(status);
+    if (timestamp != null) {
+      builder.setTimestamp(timestamp.toString());
+    }
+    if (error != null) {
+      builder.setError(error);
+    }
+    if (message != null) {
+      builder.setMessage(message);
+    }
+    if (path != null) {
+      builder.setPath(path);
+    }
+    if (fieldErrors != null) {
+      builder.putAllFieldErrors(fieldErrors);
+    }
+    return builder.build();
+  }
+
+  private Timestamp toTimestamp(Instant instant) {
+    return Timestamp.newBuilder()
+            .setSeconds(instant.getEpochSecond())
+            .setNanos(instant.getNano())
+            .build();
+  }
+}
@@ -0,0 +1,31 @@
+package com.rlevi.studying_clean_architecture.infrastructure.metrics;
+
+import com.rlevi.studying_clean_architecture.core.gateway.PasswordEncoderGateway;
+
+public class MeteredPasswordEncoderGateway implements PasswordEncoderGateway, AutoCloseable {
+  private final PasswordEncoderGateway delegate;
+  private final OperationMetrics metrics;
+
+  public MeteredPasswordEncoderGateway(PasswordEncoderGateway delegate, OperationMetrics metrics) {
+    this.delegate = delegate;
+    this.metrics = metrics;
+  }
+
+  @Override
+  public String encode(String rawPassword) {
+    return metrics.record("encode", () -> delegate.encode(rawPassword));
+  }
+
+  @Override
+  public boolean matches(String rawPassword, String encodedPassword) {
+    return metrics.record("matches", () -> delegate.matches(rawPassword, encodedPassword));
+  }
+
+  // The @Bean destroy method is inferred from this class, so shut down a wrapped executor from here
+  @Override
+  public void close() throws Exception {
+    if (delegate instanceof AutoCloseable closeable) {
+      closeable.close();
+    }
+  }
+}
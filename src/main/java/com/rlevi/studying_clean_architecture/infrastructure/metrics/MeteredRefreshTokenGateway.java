@@ -0,0 +1,52 @@
+package com.rlevi.studying_clean_architecture.infrastructure.metrics;
+
+import com.rlevi.studying_clean_architecture.core.entities.RefreshToken;
+import com.rlevi.studying_clean_architecture.core.gateway.RefreshTokenGateway;
+
+import java.util.List;
+import java.util.Optional;
+
+public class MeteredRefreshTokenGateway implements RefreshTokenGateway {
+  private final RefreshTokenGateway delegate;
+  private final OperationMetrics metrics;
+
+  public MeteredRefreshTokenGateway(RefreshTokenGateway delegate, OperationMetrics metrics) {
+    this.delegate = delegate;
+    this.metrics = metrics;
+  }
+
+  @Override
+  public RefreshToken save(RefreshToken refreshToken) {
+    return metrics.record("save", () -> delegate.save(refreshToken));
+  }
+
+  @Override
+  public Optional<RefreshToken> findByToken(String token) {
+    return metrics.record("findByToken", () -> delegate.findByToken(token));
+  }
+
+  @Override
+  public Optional<RefreshToken> findByTokenAndRevokedFalse(String token) {
+    return metrics.record("findByTokenAndRevokedFalse", () -> delegate.findByTokenAndRevokedFalse(token));
+  }
+
+  @Override
+  public List<RefreshToken> findByUserId(Long userId) {
+    return metrics.record("findByUserId", () -> delegate.findByUserId(userId));
+  }
+
+  @Override
+  public void revokeByToken(String token, String replacementToken) {
+    metrics.run("revokeByToken", () -> delegate.revokeByToken(token, replacementToken));
+  }
+
+  @Override
+  public void deleteByUserId(Long userId) {
+    metrics.run("deleteByUserId", () -> delegate.deleteByUserId(userId));
+  }
+
+  @Override
+  public RefreshToken rotate(String oldToken, RefreshToken newRefreshToken) {
+    return metrics.record("rotate", () -> delegate.rotate(oldToken, newRefreshToken));
+  }
+}
@@ -0,0 +1,42 @@
+package com.rlevi.studying_clean_architecture.infrastructure.metrics;
+
+import com.rlevi.studying_clean_architecture.core.entities.TokenClaims;
+import com.rlevi.studying_clean_architecture.core.gateway.TokenGateway;
+
+import java.time.Instant;
+import java.util.Optional;
+
+public class MeteredTokenGateway implements TokenGateway {
+  private final TokenGateway delegate;
+  private final OperationMetrics metrics;
+
+  public MeteredTokenGateway(TokenGateway delegate, OperationMetrics metrics) {
+    this.delegate = delegate;
+    this.metrics = metrics;
+  }
+
+  @Override
+  public String generateAccessToken(String email) {
+    return metrics.record("generateAccessToken", () -> delegate.generateAccessToken(email));
+  }
+
+  @Override
+  public String generateRefreshToken(String email) {
+    return metrics.record("generateRefreshToken", () -> delegate.generateRefreshToken(email));
+  }
+
+  @Override
+  public Instant extractExpiration(String token) {
+    return metrics.record("extractExpiration", () -> delegate.extractExpiration(token));
+  }
+
+  @Override
+  public String extractUsername(String token) {
+    return metrics.record("extractUsername", () -> delegate.extractUsername(token));
+  }
+
+  @Override
+  public Optional<TokenClaims> verify(String token) {
+    return metrics.record("verify", () -> delegate.verify(token));
+  }
+}
@@ -0,0 +1,63 @@
+package com.rlevi.studying_clean_architecture.infrastructure.metrics;
+
+import com.rlevi.studying_clean_architecture.core.entities.User;
+import com.rlevi.studying_clean_architecture.core.gateway.UserGateway;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public class MeteredUserGateway implements UserGateway {
+  private final UserGateway delegate;
+  private final OperationMetrics metrics;
+
+  public MeteredUserGateway(UserGateway delegate, OperationMetrics metrics) {
+    this.delegate = delegate;
+    this.metrics = metrics;
+  }
+
+  @Override
+  public User createUser(User user) {
+    return metrics.record("createUser", () -> delegate.createUser(user));
+  }
+
+  @Override
+  public User updateUser(User user) {
+    return metrics.record("updateUser", () -> delegate.updateUser(user));
+  }
+
+  @Override
+  public Optional<User> findUserById(Long id) {
+    return metrics.record("findUserById", () -> delegate.findUserById(id));
+  }
+
+  @Override
+  public Optional<User> findUserByEmail(String email) {
+    return metrics.record("findUserByEmail", () -> delegate.findUserByEmail(email));
+  }
+
+  @Override
+  public List<User> findUsersByIds(Collection<Long> ids) {
+    return metrics.record("findUsersByIds", () -> delegate.findUsersByIds(ids));
+  }
+
+  @Override
+  public List<User> findAllUsers() {
+    return metrics.record("findAllUsers", delegate::findAllUsers);
+  }
+
+  @Override
+  public List<User> searchUsers(String query, int limit, Long cursor) {
+    return metrics.record("searchUsers", () -> delegate.searchUsers(query, limit, cursor));
+  }
+
+  @Override
+  public boolean verifyExistsByEmail(String email) {
+    return metrics.record("verifyExistsByEmail", () -> delegate.verifyExistsByEmail(email));
+  }
+
+  @Override
+  public void deleteUser(Long id) {
+    metrics.run("deleteUser", () -> delegate.deleteUser(id));
+  }
+}
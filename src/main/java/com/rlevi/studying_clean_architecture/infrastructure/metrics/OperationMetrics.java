@@ -0,0 +1,73 @@
+package com.rlevi.studying_clean_architecture.infrastructure.metrics;
+
+import com.rlevi.studying_clean_architecture.core.entities.UseCaseResult;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+import java.util.function.Supplier;
+
+/**
+ * Observes calls to one component (a use case or a gateway) under a single name.
+ * <p>
+ * Each call produces a timer and, when tracing is enabled, a span named after the component and operation
+ * (e.g. {@code UserGateway findUserByEmail}). Both are tagged with the component, the operation and the
+ * outcome. Failures carry the simple name of the exception, e.g. {@code exception="InvalidRefreshTokenException"};
+ * expected failures returned as a {@link UseCaseResult.Failure} carry their reason, e.g. {@code exception="INVALID_CREDENTIALS"}.
+ */
+public class OperationMetrics {
+  public static final String USE_CASE_METRIC = "usecase.execution";
+  public static final String GATEWAY_METRIC = "gateway.call";
+
+  private final ObservationRegistry observationRegistry;
+  private final String metricName;
+  private final String componentTag;
+  private final String component;
+
+  public OperationMetrics(ObservationRegistry observationRegistry, String metricName, String componentTag, String component) {
+    this.observationRegistry = observationRegistry;
+    this.metricName = metricName;
+    this.componentTag = componentTag;
+    this.component = component;
+  }
+
+  public static OperationMetrics forUseCase(ObservationRegistry observationRegistry, Class<?> useCase) {
+    return new OperationMetrics(observationRegistry, USE_CASE_METRIC, "usecase", useCase.getSimpleName());
+  }
+
+  public static OperationMetrics forGateway(ObservationRegistry observationRegistry, Class<?> gateway) {
+    return new OperationMetrics(observationRegistry, GATEWAY_METRIC, "gateway", gateway.getSimpleName());
+  }
+
+  public <T> T record(String operation, Supplier<T> call) {
+    Observation observation = Observation.createNotStarted(metricName, observationRegistry)
+            .contextualName(component + " " + operation)
+            .lowCardinalityKeyValue(componentTag, component)
+            .lowCardinalityKeyValue("operation", operation)
+            .start();
+    try (Observation.Scope scope = observation.openScope()) {
+      T result = call.get();
+      if (result instanceof UseCaseResult.Failure<?> failure) {
+        observation.lowCardinalityKeyValue("outcome", "failure")
+                .lowCardinalityKeyValue("exception", failure.reason().name());
+      } else {
+        observation.lowCardinalityKeyValue("outcome", "success")
+                .lowCardinalityKeyValue("exception", "none");
+      }
+      return result;
+    } catch (RuntimeException e) {
+      observation.lowCardinalityKeyValue("outcome", "failure")
+              .lowCardinalityKeyValue("exception", e.getClass().getSimpleName())
+              .error(e);
+      throw e;
+    } finally {
+      observation.stop();
+    }
+  }
+
+  public void run(String operation, Runnable call) {
+    record(operation, () -> {
+      call.run();
+      return null;
+    });
+  }
+}
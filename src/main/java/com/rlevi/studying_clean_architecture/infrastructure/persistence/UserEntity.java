@@ -2,18 +2,29 @@ package com.rlevi.studying_clean_architecture.infrastructure.persistence;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.Instant;
 
 @Entity
 @Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = UserEntity.CACHE_REGION)
+@NaturalIdCache(region = UserEntity.NATURAL_ID_CACHE_REGION)
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 public class UserEntity {
+  // Second-level cache regions, only used when hibernate-cache.enabled=true
+  public static final String CACHE_REGION = "users";
+  public static final String NATURAL_ID_CACHE_REGION = "users-natural-id";
+
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY)
   private Long id;
@@ -21,6 +32,8 @@ public class UserEntity {
   @Column(nullable = false)
   private String name;
 
+  // Users can change their email, so the natural id is mutable
+  @NaturalId(mutable = true)
   @Column(nullable = false, unique = true)
   private String email;
 
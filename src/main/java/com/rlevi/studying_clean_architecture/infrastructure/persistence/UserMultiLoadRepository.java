@@ -0,0 +1,9 @@
+package com.rlevi.studying_clean_architecture.infrastructure.persistence;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface UserMultiLoadRepository {
+  // One IN query per batchSize ids; entities already in the second-level cache are not queried at all
+  List<UserEntity> findAllByIdInBatches(Collection<Long> ids, int batchSize);
+}
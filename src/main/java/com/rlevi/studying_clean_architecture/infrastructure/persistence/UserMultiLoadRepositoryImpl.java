@@ -0,0 +1,32 @@
+package com.rlevi.studying_clean_architecture.infrastructure.persistence;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+public class UserMultiLoadRepositoryImpl implements UserMultiLoadRepository {
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<UserEntity> findAllByIdInBatches(Collection<Long> ids, int batchSize) {
+    return entityManager.unwrap(Session.class)
+            .byMultipleIds(UserEntity.class)
+            // The second-level cache is only consulted with an explicit cache mode
+            .with(CacheMode.NORMAL)
+            .enableSessionCheck(true)
+            .withBatchSize(batchSize)
+            .multiLoad(List.copyOf(ids))
+            .stream()
+            .filter(Objects::nonNull)
+            .toList();
+  }
+}
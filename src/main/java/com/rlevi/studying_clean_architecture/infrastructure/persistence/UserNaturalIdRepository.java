@@ -0,0 +1,8 @@
+package com.rlevi.studying_clean_architecture.infrastructure.persistence;
+
+import java.util.Optional;
+
+public interface UserNaturalIdRepository {
+  // Resolves through Hibernate's natural-id cache instead of running a query when the second-level cache is on
+  Optional<UserEntity> findByNaturalIdEmail(String email);
+}
@@ -0,0 +1,22 @@
+package com.rlevi.studying_clean_architecture.infrastructure.persistence;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+public class UserNaturalIdRepositoryImpl implements UserNaturalIdRepository {
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  @Override
+  @Transactional(readOnly = true)
+  public Optional<UserEntity> findByNaturalIdEmail(String email) {
+    return entityManager.unwrap(Session.class)
+            .bySimpleNaturalId(UserEntity.class)
+            .loadOptional(email);
+  }
+}
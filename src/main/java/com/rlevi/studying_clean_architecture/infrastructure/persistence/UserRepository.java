@@ -1,12 +1,24 @@
 package com.rlevi.studying_clean_architecture.infrastructure.persistence;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
- import java.util.Optional;
+import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface UserRepository extends JpaRepository<UserEntity, Long> {
+public interface UserRepository extends JpaRepository<UserEntity, Long>, UserNaturalIdRepository, UserMultiLoadRepository {
   Optional<UserEntity> findByEmail(String email);
   boolean existsByEmail(String email);
+
+  // pattern must already be lowercase, with '!' escaping wildcards. On PostgreSQL the lower(name)/lower(email) prefix and
+  // trigram indexes (V7, V8) serve it; H2 has no expression indexes and scans
+  @Query("SELECT u FROM UserEntity u WHERE (LOWER(u.name) LIKE :pattern ESCAPE '!' OR LOWER(u.email) LIKE :pattern ESCAPE '!') AND u.id > :afterId ORDER BY u.id")
+  List<UserEntity> searchByNameOrEmail(@Param("pattern") String pattern, @Param("afterId") long afterId, Limit limit);
+
+  // Keyset pages over the whole table, used to load the in-memory search index
+  List<UserEntity> findByIdGreaterThanOrderByIdAsc(long id, Limit limit);
 }
@@ -0,0 +1,42 @@
+package com.rlevi.studying_clean_architecture.infrastructure.persistence.migration;
+
+import com.rlevi.studying_clean_architecture.core.utils.LoggerUtils;
+import org.flywaydb.core.Flyway;
+import org.slf4j.Logger;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * One-shot migration run: {@code --spring.profiles.active=postgres,migrate}.
+ * <p>
+ * Spring Boot's Flyway initializer has already migrated and validated the schema by the time
+ * runners are called, and a failed migration fails the context with a non-zero exit code.
+ * This runner only reports the result and shuts the JVM down.
+ */
+@Component
+@Profile("migrate")
+public class MigrationCommand implements ApplicationRunner {
+  private static final Logger logger = LoggerUtils.getLogger(MigrationCommand.class);
+
+  private final Flyway flyway;
+  private final ConfigurableApplicationContext context;
+
+  public MigrationCommand(Flyway flyway, ConfigurableApplicationContext context) {
+    this.flyway = flyway;
+    this.context = context;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) {
+    var current = flyway.info().current();
+    LoggerUtils.logSuccess(logger, "Schema migrated",
+            Map.of("version", current == null ? "none" : current.getVersion().getVersion()));
+    System.exit(SpringApplication.exit(context, () -> 0));
+  }
+}
@@ -0,0 +1,98 @@
+package com.rlevi.studying_clean_architecture.infrastructure.persistence.migration;
+
+import com.rlevi.studying_clean_architecture.core.utils.LoggerUtils;
+import org.flywaydb.core.api.MigrationVersion;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Startup check for nodes whose schema is migrated out of band by the {@code migrate} profile.
+ * <p>
+ * Instead of Flyway checksumming every script and Hibernate introspecting the schema, the node
+ * compares the newest successful version in the Flyway history table with the newest migration
+ * shipped in this artifact. A database ahead of the artifact is accepted, so an older node keeps
+ * running while a rolling deploy migrates forward.
+ */
+@Component
+@Profile("schema-check & !reactive")
+public class SchemaVersionCheck implements InitializingBean {
+  private static final Logger logger = LoggerUtils.getLogger(SchemaVersionCheck.class);
+  private static final Pattern VERSIONED_MIGRATION = Pattern.compile("^V([0-9][0-9._]*)__.*\\.sql$");
+
+  private final JdbcTemplate jdbcTemplate;
+  private final ResourcePatternResolver resourcePatternResolver;
+  private final List<String> locations;
+  private final String historyTable;
+
+  public SchemaVersionCheck(
+          JdbcTemplate jdbcTemplate,
+          ResourcePatternResolver resourcePatternResolver,
+          @Value("${spring.flyway.locations:classpath:db/migration}") List<String> locations,
+          @Value("${spring.flyway.table:flyway_schema_history}") String historyTable) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.resourcePatternResolver = resourcePatternResolver;
+    this.locations = locations;
+    this.historyTable = historyTable;
+  }
+
+  @Override
+  public void afterPropertiesSet() throws IOException {
+    MigrationVersion expected = latestShippedVersion();
+    MigrationVersion current = latestAppliedVersion();
+
+    if (current.compareTo(expected) < 0) {
+      throw new IllegalStateException("Database schema is at version " + current + " but this build needs "
+              + expected + ". Run the migrate profile before starting application nodes.");
+    }
+    LoggerUtils.logSuccess(logger, "Schema version check passed",
+            Map.of("databaseVersion", current.getVersion(), "requiredVersion", expected.getVersion()));
+  }
+
+  MigrationVersion latestShippedVersion() throws IOException {
+    MigrationVersion latest = MigrationVersion.EMPTY;
+    for (String location : locations) {
+      String pattern = location.trim().replaceFirst("^classpath:", "classpath*:") + "/V*__*.sql";
+      for (Resource resource : resourcePatternResolver.getResources(pattern)) {
+        Matcher matcher = VERSIONED_MIGRATION.matcher(Objects.requireNonNull(resource.getFilename()));
+        if (matcher.matches()) {
+          latest = max(latest, MigrationVersion.fromVersion(matcher.group(1)));
+        }
+      }
+    }
+    return latest;
+  }
+
+  // Identifiers are quoted because Flyway creates the history table in lower case, also on H2
+  private MigrationVersion latestAppliedVersion() {
+    List<String> versions;
+    try {
+      versions = jdbcTemplate.queryForList(
+              "SELECT \"version\" FROM \"" + historyTable + "\" WHERE \"success\" = TRUE AND \"version\" IS NOT NULL",
+              String.class);
+    } catch (DataAccessException e) {
+      throw new IllegalStateException("Could not read the Flyway history table " + historyTable
+              + ". Run the migrate profile before starting application nodes.", e);
+    }
+    return versions.stream()
+            .map(MigrationVersion::fromVersion)
+            .reduce(MigrationVersion.EMPTY, SchemaVersionCheck::max);
+  }
+
+  private static MigrationVersion max(MigrationVersion a, MigrationVersion b) {
+    return a.compareTo(b) >= 0 ? a : b;
+  }
+}
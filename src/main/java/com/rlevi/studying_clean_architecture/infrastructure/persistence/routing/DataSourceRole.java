@@ -0,0 +1,6 @@
+package com.rlevi.studying_clean_architecture.infrastructure.persistence.routing;
+
+public enum DataSourceRole {
+  PRIMARY,
+  REPLICA
+}
@@ -0,0 +1,32 @@
+package com.rlevi.studying_clean_architecture.infrastructure.persistence.routing;
+
+import java.util.function.Supplier;
+
+/**
+ * Holds the datasource role for the current thread. Anything that does not ask for a replica runs on the primary.
+ */
+public final class DataSourceRoutingContext {
+  private static final ThreadLocal<DataSourceRole> CURRENT_ROLE = new ThreadLocal<>();
+
+  private DataSourceRoutingContext() {
+  }
+
+  public static DataSourceRole currentRole() {
+    DataSourceRole role = CURRENT_ROLE.get();
+    return role == null ? DataSourceRole.PRIMARY : role;
+  }
+
+  public static <T> T callWith(DataSourceRole role, Supplier<T> call) {
+    DataSourceRole previous = CURRENT_ROLE.get();
+    CURRENT_ROLE.set(role);
+    try {
+      return call.get();
+    } finally {
+      if (previous == null) {
+        CURRENT_ROLE.remove();
+      } else {
+        CURRENT_ROLE.set(previous);
+      }
+    }
+  }
+}
@@ -0,0 +1,94 @@
+package com.rlevi.studying_clean_architecture.infrastructure.persistence.routing;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Decides per call whether a read may go to a replica.
+ * <p>
+ * Reads go to a replica unless the subject (the authenticated user, or the email being looked up) wrote
+ * within {@code datasource.replica.read-your-writes-window}; in that case they stay on the primary so the
+ * user sees their own change despite replication lag. Writes are tracked per instance only.
+ * Without {@code datasource.replica.enabled} the role is ignored and everything runs on the single datasource.
+ */
+@Component
+public class ReplicaRouting {
+  private static final int MAX_TRACKED_SUBJECTS = 100_000;
+
+  private final long readYourWritesWindowNanos;
+  private final Map<String, Long> recentWrites = new ConcurrentHashMap<>();
+
+  public ReplicaRouting(@Value("${datasource.replica.read-your-writes-window:5s}") Duration readYourWritesWindow) {
+    this.readYourWritesWindowNanos = readYourWritesWindow.toNanos();
+  }
+
+  public <T> T read(Supplier<T> call) {
+    return read(currentPrincipal(), call);
+  }
+
+  public <T> T read(String subject, Supplier<T> call) {
+    if (subject != null && wroteRecently(subject)) {
+      return DataSourceRoutingContext.callWith(DataSourceRole.PRIMARY, call);
+    }
+    return DataSourceRoutingContext.callWith(DataSourceRole.REPLICA, call);
+  }
+
+  public <T> T write(Supplier<T> call) {
+    return write(currentPrincipal(), call);
+  }
+
+  public <T> T write(String subject, Supplier<T> call) {
+    T result = DataSourceRoutingContext.callWith(DataSourceRole.PRIMARY, call);
+    if (subject != null) {
+      recordWrite(subject);
+    }
+    return result;
+  }
+
+  // For writes whose subject is only known from the result, e.g. the user an admin just updated
+  public <T> T write(Function<T, String> subjectOf, Supplier<T> call) {
+    T result = DataSourceRoutingContext.callWith(DataSourceRole.PRIMARY, call);
+    String subject = subjectOf.apply(result);
+    if (subject != null) {
+      recordWrite(subject);
+    }
+    return result;
+  }
+
+  private boolean wroteRecently(String subject) {
+    Long writtenAt = recentWrites.get(subject);
+    if (writtenAt == null) {
+      return false;
+    }
+    if (System.nanoTime() - writtenAt < readYourWritesWindowNanos) {
+      return true;
+    }
+    recentWrites.remove(subject, writtenAt);
+    return false;
+  }
+
+  private void recordWrite(String subject) {
+    long now = System.nanoTime();
+    if (recentWrites.size() >= MAX_TRACKED_SUBJECTS) {
+      recentWrites.values().removeIf(writtenAt -> now - writtenAt >= readYourWritesWindowNanos);
+    }
+    recentWrites.put(subject, now);
+  }
+
+  private static String currentPrincipal() {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication == null || authentication instanceof AnonymousAuthenticationToken || !authentication.isAuthenticated()) {
+      return null;
+    }
+    return authentication.getName();
+  }
+}
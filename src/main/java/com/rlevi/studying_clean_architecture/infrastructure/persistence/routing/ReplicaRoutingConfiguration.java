@@ -0,0 +1,80 @@
+package com.rlevi.studying_clean_architecture.infrastructure.persistence.routing;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replaces the auto-configured datasource with a {@link ReplicaRoutingDataSource} when
+ * {@code datasource.replica.enabled=true}. The primary keeps using {@code spring.datasource.*};
+ * replicas are listed in {@code datasource.replica.urls}. All pools share {@code spring.datasource.hikari.*}.
+ */
+@Configuration
+@Profile("!reactive")
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class ReplicaRoutingConfiguration {
+
+  // Declared as a plain DataSource: request priorities may expose it wrapped in a partitioning datasource
+  @Bean
+  @Primary
+  public DataSource dataSource(
+          DataSourceProperties dataSourceProperties,
+          Environment environment,
+          @Value("${datasource.replica.urls}") List<String> replicaUrls,
+          @Value("${datasource.replica.username:${spring.datasource.username:}}") String replicaUsername,
+          @Value("${datasource.replica.password:${spring.datasource.password:}}") String replicaPassword,
+          @Value("${datasource.replica.health-check-interval:5s}") Duration healthCheckInterval,
+          @Value("${datasource.replica.migrate:false}") boolean migrateReplicas) {
+    HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+    configurePool(primary, "primary", environment);
+
+    Map<String, DataSource> replicas = new LinkedHashMap<>();
+    for (int i = 0; i < replicaUrls.size(); i++) {
+      HikariDataSource replica = new HikariDataSource();
+      replica.setJdbcUrl(replicaUrls.get(i).trim());
+      replica.setUsername(replicaUsername);
+      replica.setPassword(replicaPassword);
+      replica.setDriverClassName(dataSourceProperties.determineDriverClassName());
+      configurePool(replica, "replica-" + i, environment);
+      replica.setReadOnly(true);
+      if (migrateReplicas) {
+        migrate(replica, environment);
+      }
+      replicas.put("replica-" + i, replica);
+    }
+
+    return new ReplicaRoutingDataSource(primary, replicas, healthCheckInterval);
+  }
+
+  private static void configurePool(HikariDataSource pool, String name, Environment environment) {
+    Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+    pool.setPoolName(name);
+  }
+
+  // Local stand-ins (two H2 databases) do not replicate, so the replica needs its own schema
+  private static void migrate(DataSource replica, Environment environment) {
+    Flyway.configure()
+            .dataSource(replica)
+            .locations(environment.getProperty("spring.flyway.locations", String[].class, new String[]{"classpath:db/migration"}))
+            .baselineOnMigrate(true)
+            .load()
+            .migrate();
+  }
+}
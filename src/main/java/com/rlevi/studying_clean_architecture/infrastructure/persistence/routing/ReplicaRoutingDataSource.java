@@ -0,0 +1,147 @@
+package com.rlevi.studying_clean_architecture.infrastructure.persistence.routing;
+
+import com.rlevi.studying_clean_architecture.core.utils.LoggerUtils;
+import org.slf4j.Logger;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends connections requested under {@link DataSourceRole#REPLICA} to a healthy replica (round robin)
+ * and everything else to the primary.
+ * <p>
+ * A replica is ejected when it fails to hand out a connection or fails the periodic
+ * {@link Connection#isValid(int)} check, and comes back once the check passes again.
+ * With no healthy replica, reads fall back to the primary.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+  private static final Logger logger = LoggerUtils.getLogger(ReplicaRoutingDataSource.class);
+  private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+  private final DataSource primary;
+  private final List<Replica> replicas;
+  private final AtomicInteger nextReplica = new AtomicInteger();
+  private final ScheduledExecutorService healthChecker;
+
+  public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, Duration healthCheckInterval) {
+    this.primary = primary;
+    this.replicas = replicas.entrySet().stream()
+            .map(entry -> new Replica(entry.getKey(), entry.getValue()))
+            .toList();
+    this.healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "replica-health-check");
+      thread.setDaemon(true);
+      return thread;
+    });
+    long intervalMillis = healthCheckInterval.toMillis();
+    healthChecker.scheduleWithFixedDelay(this::checkReplicas, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    if (DataSourceRoutingContext.currentRole() == DataSourceRole.REPLICA) {
+      Replica replica = nextHealthyReplica();
+      if (replica != null) {
+        try {
+          return replica.dataSource().getConnection();
+        } catch (SQLException e) {
+          eject(replica, e);
+        }
+      }
+    }
+    return primary.getConnection();
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    return primary.getConnection(username, password);
+  }
+
+  public int healthyReplicaCount() {
+    return (int) replicas.stream().filter(Replica::isHealthy).count();
+  }
+
+  public void checkReplicas() {
+    for (Replica replica : replicas) {
+      try (Connection connection = replica.dataSource().getConnection()) {
+        if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+          eject(replica, null);
+        } else if (!replica.isHealthy()) {
+          replica.setHealthy(true);
+          LoggerUtils.logWarning(logger, "Replica back in rotation", Map.of("replica", replica.name()));
+        }
+      } catch (SQLException e) {
+        eject(replica, e);
+      }
+    }
+  }
+
+  @Override
+  public void close() throws Exception {
+    healthChecker.shutdownNow();
+    for (Replica replica : replicas) {
+      if (replica.dataSource() instanceof AutoCloseable closeable) {
+        closeable.close();
+      }
+    }
+    if (primary instanceof AutoCloseable closeable) {
+      closeable.close();
+    }
+  }
+
+  private Replica nextHealthyReplica() {
+    int size = replicas.size();
+    int start = Math.floorMod(nextReplica.getAndIncrement(), Math.max(size, 1));
+    for (int i = 0; i < size; i++) {
+      Replica replica = replicas.get((start + i) % size);
+      if (replica.isHealthy()) {
+        return replica;
+      }
+    }
+    return null;
+  }
+
+  private void eject(Replica replica, SQLException cause) {
+    if (replica.isHealthy()) {
+      replica.setHealthy(false);
+      LoggerUtils.logWarning(logger, "Replica ejected from rotation",
+              Map.of("replica", replica.name(), "cause", cause == null ? "invalid connection" : cause.getMessage()));
+    }
+  }
+
+  private static final class Replica {
+    private final String name;
+    private final DataSource dataSource;
+    private volatile boolean healthy = true;
+
+    private Replica(String name, DataSource dataSource) {
+      this.name = name;
+      this.dataSource = dataSource;
+    }
+
+    String name() {
+      return name;
+    }
+
+    DataSource dataSource() {
+      return dataSource;
+    }
+
+    boolean isHealthy() {
+      return healthy;
+    }
+
+    void setHealthy(boolean healthy) {
+      this.healthy = healthy;
+    }
+  }
+}
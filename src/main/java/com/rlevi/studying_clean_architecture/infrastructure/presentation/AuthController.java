@@ -1,6 +1,7 @@
 package com.rlevi.studying_clean_architecture.infrastructure.presentation;
 
 import com.rlevi.studying_clean_architecture.core.entities.AuthResult;
+import com.rlevi.studying_clean_architecture.core.entities.UseCaseResult;
 import com.rlevi.studying_clean_architecture.core.entities.User;
 import com.rlevi.studying_clean_architecture.core.usecases.createuser.CreateUserUseCase;
 import com.rlevi.studying_clean_architecture.core.usecases.loginuser.LoginUserUseCase;
@@ -12,30 +13,36 @@ import com.rlevi.studying_clean_architecture.infrastructure.dto.refreshtoken.Ref
 import com.rlevi.studying_clean_architecture.infrastructure.dto.refreshtoken.RefreshTokenResponse;
 import com.rlevi.studying_clean_architecture.infrastructure.dto.register.UserRegisterRequest;
 import com.rlevi.studying_clean_architecture.infrastructure.dto.register.UserRegisterResponse;
+import com.rlevi.studying_clean_architecture.infrastructure.idempotency.IdempotencyStore;
 import com.rlevi.studying_clean_architecture.infrastructure.mapper.UserMapper;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import com.rlevi.studying_clean_architecture.infrastructure.dto.ErrorResponse;
 import com.rlevi.studying_clean_architecture.infrastructure.dto.ErrorValidation;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.Map;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/v1/auth")
 @Validated
-@Tag(name = "01 - Authentication", description = "Endpoints for user registration, login, and token refresh")
+@Tag(name = "01 - Authentication", description = "Endpoints for user registration, login and token refresh")
 public class AuthController {
   private static final Logger logger = LoggerUtils.getLogger(AuthController.class);
 
@@ -43,17 +50,20 @@ public class AuthController {
   private final CreateUserUseCase createUserUseCase;
   private final LoginUserUseCase loginUserUseCase;
   private final RefreshTokenUseCase refreshTokenUseCase;
+  private final IdempotencyStore idempotencyStore;
 
-  public AuthController(UserMapper userMapper, CreateUserUseCase createUserUseCase, LoginUserUseCase loginUserUseCase, RefreshTokenUseCase refreshTokenUseCase) {
+  public AuthController(UserMapper userMapper, CreateUserUseCase createUserUseCase, LoginUserUseCase loginUserUseCase, RefreshTokenUseCase refreshTokenUseCase, IdempotencyStore idempotencyStore) {
     this.userMapper = userMapper;
     this.createUserUseCase = createUserUseCase;
     this.loginUserUseCase = loginUserUseCase;
     this.refreshTokenUseCase = refreshTokenUseCase;
+    this.idempotencyStore = idempotencyStore;
   }
 
   // Create user
   @PostMapping("/register")
-  @Operation(summary = "Register a new user", description = "Creates a new user account and returns authentication tokens")
+  @Operation(summary = "Register a new user", description = "Creates a new user account and returns authentication tokens. "
+          + "A retry with the same Idempotency-Key and body returns the original response")
   @ApiResponses(value = {
           @ApiResponse(responseCode = "200", description = "User registered successfully", 
                   content = @Content(schema = @Schema(implementation = UserRegisterResponse.class))),
@@ -62,51 +72,68 @@ public class AuthController {
           @ApiResponse(responseCode = "409", description = "User with this email already exists", 
                   content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
   })
-  public ResponseEntity<UserRegisterResponse> registerUser(@Valid @RequestBody UserRegisterRequest request) {
-    LoggerUtils.startRequest(logger, "POST /api/v1/auth/register", request.email());
-
+  public ResponseEntity<?> registerUser(@Valid @RequestBody UserRegisterRequest request, HttpServletRequest httpRequest,
+                                        @Parameter(description = "Client-chosen key that makes retries of this request safe")
+                                        @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey) {
     // Log of entrance
     LoggerUtils.logDebug(logger, "Registering user",
             Map.of("email", request.email(), "name", request.name()));
 
+    return idempotencyStore.execute("register", idempotencyKey,
+            IdempotencyStore.fingerprint(request.name(), request.email(), request.password()),
+            () -> register(request, httpRequest), response -> response.getStatusCode().is2xxSuccessful());
+  }
+
+  private ResponseEntity<?> register(UserRegisterRequest request, HttpServletRequest httpRequest) {
     // Business logic execution
     User userToCreate = userMapper.toDomain(request);
-    AuthResult authResult = createUserUseCase.execute(userToCreate);
+    UseCaseResult<AuthResult> result = createUserUseCase.execute(userToCreate);
+    if (!(result instanceof UseCaseResult.Success<AuthResult> success)) {
+      return FailureResponses.of((UseCaseResult.Failure<AuthResult>) result, httpRequest);
+    }
+    AuthResult authResult = success.value();
 
     // Log of success
     LoggerUtils.logSuccess(logger, "User registered successfully",
             Map.of("userId", authResult.user().id(), "email", authResult.user().email()));
 
-    LoggerUtils.endRequest(logger);
-
     return ResponseEntity.ok(UserRegisterResponse.success(authResult.accessToken(), authResult.refreshToken()));
   }
 
   // User login
   @PostMapping("/login")
-  @Operation(summary = "Authenticate user", description = "Authenticates user credentials and returns JWT tokens")
+  @Operation(summary = "Authenticate user", description = "Authenticates user credentials and returns JWT tokens. "
+          + "A retry with the same Idempotency-Key and body returns the original response")
   @ApiResponses(value = {
           @ApiResponse(responseCode = "200", description = "Login successful", 
                   content = @Content(schema = @Schema(implementation = UserLoginResponse.class))),
           @ApiResponse(responseCode = "401", description = "Invalid credentials", 
                   content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
   })
-  public ResponseEntity<UserLoginResponse> loginUser(@Valid @RequestBody UserLoginRequest request) {
-    LoggerUtils.startRequest(logger, "POST /api/v1/auth/login", request.email());
-
+  public ResponseEntity<?> loginUser(@Valid @RequestBody UserLoginRequest request, HttpServletRequest httpRequest,
+                                     @Parameter(description = "Client-chosen key that makes retries of this request safe")
+                                     @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey) {
     // Log of entrance
     LoggerUtils.logDebug(logger, "Logging in user",
             Map.of("email", request.email()));
 
+    return idempotencyStore.execute("login", idempotencyKey,
+            IdempotencyStore.fingerprint(request.email(), request.password()),
+            () -> login(request, httpRequest), response -> response.getStatusCode().is2xxSuccessful());
+  }
+
+  private ResponseEntity<?> login(UserLoginRequest request, HttpServletRequest httpRequest) {
     // Business logic execution
     User userToLogin = userMapper.toDomain(request);
-    AuthResult authResult = loginUserUseCase.execute(userToLogin);
+    UseCaseResult<AuthResult> result = loginUserUseCase.execute(userToLogin);
+    if (!(result instanceof UseCaseResult.Success<AuthResult> success)) {
+      return FailureResponses.of((UseCaseResult.Failure<AuthResult>) result, httpRequest);
+    }
+    AuthResult authResult = success.value();
 
     LoggerUtils.logSuccess(logger, "User logged in successfully",
             Map.of("userId", authResult.user().id(), "email", authResult.user().email()));
 
-    LoggerUtils.endRequest(logger);
-
     return ResponseEntity.ok(UserLoginResponse.success(authResult.accessToken(), authResult.refreshToken()));
   }
 
@@ -119,21 +146,21 @@ public class AuthController {
           @ApiResponse(responseCode = "401", description = "Invalid or expired refresh token", 
                   content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
   })
-  public ResponseEntity<RefreshTokenResponse> refreshToken(@Valid @RequestBody RefreshTokenRequest request) {
-    LoggerUtils.startRequest(logger, "POST /api/v1/auth/refresh", null);
-
+  public ResponseEntity<?> refreshToken(@Valid @RequestBody RefreshTokenRequest request, HttpServletRequest httpRequest) {
     // Log of entrance
     LoggerUtils.logDebug(logger, "Refreshing token", null);
 
     // Business logic execution
-    AuthResult authResult = refreshTokenUseCase.execute(request.refreshToken());
+    UseCaseResult<AuthResult> result = refreshTokenUseCase.execute(request.refreshToken());
+    if (!(result instanceof UseCaseResult.Success<AuthResult> success)) {
+      return FailureResponses.of((UseCaseResult.Failure<AuthResult>) result, httpRequest);
+    }
+    AuthResult authResult = success.value();
 
     // Log of success
     LoggerUtils.logSuccess(logger, "Token refreshed successfully",
             Map.of("userId", authResult.user().id(), "email", authResult.user().email()));
 
-    LoggerUtils.endRequest(logger);
-
     return ResponseEntity.ok(RefreshTokenResponse.success(authResult.accessToken(), authResult.refreshToken()));
   }
 }
@@ -0,0 +1,36 @@
+package com.rlevi.studying_clean_architecture.infrastructure.presentation;
+
+import com.rlevi.studying_clean_architecture.core.entities.UseCaseResult;
+import com.rlevi.studying_clean_architecture.infrastructure.dto.ErrorResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDateTime;
+
+// Maps the expected failures returned by the use cases to the same error bodies GlobalExceptionHandler produces
+final class FailureResponses {
+  private FailureResponses() {}
+
+  static ResponseEntity<ErrorResponse> of(UseCaseResult.Failure<?> failure, HttpServletRequest request) {
+    return switch (failure.reason()) {
+      case INVALID_CREDENTIALS -> build(HttpStatus.UNAUTHORIZED, "Authentication Failed", failure.message(), request);
+      case EMAIL_ALREADY_IN_USE -> build(HttpStatus.CONFLICT, "Duplicate Resource", failure.message(), request);
+      // The detailed reason stays on the server, as it did when this was an exception
+      case INVALID_REFRESH_TOKEN -> build(HttpStatus.UNAUTHORIZED, "Invalid Refresh Token", "Invalid or expired refresh token", request);
+      case USER_NOT_FOUND -> build(HttpStatus.NOT_FOUND, "Resource Not Found", failure.message(), request);
+    };
+  }
+
+  private static ResponseEntity<ErrorResponse> build(HttpStatus status, String error, String message, HttpServletRequest request) {
+    ErrorResponse errorResponse = new ErrorResponse(
+            LocalDateTime.now(),
+            status.value(),
+            error,
+            message,
+            request.getRequestURI()
+    );
+
+    return new ResponseEntity<>(errorResponse, status);
+  }
+}
@@ -0,0 +1,69 @@
+package com.rlevi.studying_clean_architecture.infrastructure.presentation;
+
+import com.rlevi.studying_clean_architecture.core.entities.TokenIntrospection;
+import com.rlevi.studying_clean_architecture.core.usecases.introspecttokens.IntrospectTokensUseCase;
+import com.rlevi.studying_clean_architecture.core.utils.LoggerUtils;
+import com.rlevi.studying_clean_architecture.infrastructure.dto.ErrorResponse;
+import com.rlevi.studying_clean_architecture.infrastructure.dto.ErrorValidation;
+import com.rlevi.studying_clean_architecture.infrastructure.dto.introspect.TokenIntrospectionRequest;
+import com.rlevi.studying_clean_architecture.infrastructure.dto.introspect.TokenIntrospectionResponse;
+import com.rlevi.studying_clean_architecture.infrastructure.dto.introspect.TokenIntrospectionResult;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@Profile("!reactive")
+@RequestMapping("/api/v1/tokens")
+@Validated
+@Tag(name = "03 - Tokens", description = "Endpoints for services that check access tokens on behalf of others")
+public class TokenController {
+  private static final Logger logger = LoggerUtils.getLogger(TokenController.class);
+
+  private final IntrospectTokensUseCase introspectTokensUseCase;
+
+  public TokenController(IntrospectTokensUseCase introspectTokensUseCase) {
+    this.introspectTokensUseCase = introspectTokensUseCase;
+  }
+
+  // Token introspection, for the clients listed in token-introspection.clients only (see SecurityConfig)
+  @PostMapping("/introspect")
+  @Operation(summary = "Introspect access tokens", description = "Checks a batch of access tokens and returns, in request order, whether each is active and who it belongs to. "
+          + "Only callers listed in token-introspection.clients may use it")
+  @ApiResponses(value = {
+          @ApiResponse(responseCode = "200", description = "Tokens introspected",
+                  content = @Content(schema = @Schema(implementation = TokenIntrospectionResponse.class))),
+          @ApiResponse(responseCode = "400", description = "Empty batch, blank token or more than " + TokenIntrospectionRequest.MAX_TOKENS + " tokens",
+                  content = @Content(schema = @Schema(implementation = ErrorValidation.class))),
+          @ApiResponse(responseCode = "401", description = "Not authenticated",
+                  content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+          @ApiResponse(responseCode = "403", description = "Caller is not an introspection client",
+                  content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+  })
+  public ResponseEntity<TokenIntrospectionResponse> introspectTokens(@Valid @RequestBody TokenIntrospectionRequest request) {
+    // Log of entrance
+    LoggerUtils.logDebug(logger, "Introspecting tokens",
+            Map.of("count", request.tokens().size()));
+
+    // Business logic execution
+    List<TokenIntrospection> introspections = introspectTokensUseCase.execute(request.tokens());
+
+    return ResponseEntity.ok(new TokenIntrospectionResponse(
+            introspections.stream().map(TokenIntrospectionResult::from).toList()));
+  }
+}
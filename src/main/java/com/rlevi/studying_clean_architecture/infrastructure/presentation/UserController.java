@@ -1,14 +1,20 @@
 package com.rlevi.studying_clean_architecture.infrastructure.presentation;
 
+import com.rlevi.studying_clean_architecture.core.entities.UseCaseResult;
 import com.rlevi.studying_clean_architecture.core.entities.User;
+import com.rlevi.studying_clean_architecture.core.entities.UserSearchPage;
 import com.rlevi.studying_clean_architecture.core.usecases.deleteuser.DeleteUserUseCase;
 import com.rlevi.studying_clean_architecture.core.usecases.findallusers.FindAllUsersUseCase;
 import com.rlevi.studying_clean_architecture.core.usecases.finduserbyemail.FindUserByEmailUseCase;
 import com.rlevi.studying_clean_architecture.core.usecases.finduserbyid.FindUserByIdUseCase;
+import com.rlevi.studying_clean_architecture.core.usecases.findusersbyids.FindUsersByIdsUseCase;
+import com.rlevi.studying_clean_architecture.core.usecases.searchusers.SearchUsersUseCase;
 import com.rlevi.studying_clean_architecture.core.usecases.verifyexistsbyemail.VerifyExistsByEmailUseCase;
 import com.rlevi.studying_clean_architecture.core.usecases.updateuser.UpdateUserUseCase;
+import com.rlevi.studying_clean_architecture.infrastructure.dto.response.UserBatchResponse;
 import com.rlevi.studying_clean_architecture.infrastructure.dto.response.UserExistsResponse;
 import com.rlevi.studying_clean_architecture.infrastructure.dto.response.UserResponse;
+import com.rlevi.studying_clean_architecture.infrastructure.dto.response.UserSearchResponse;
 import com.rlevi.studying_clean_architecture.infrastructure.dto.update.UserUpdateRequest;
 import com.rlevi.studying_clean_architecture.infrastructure.mapper.UserMapper;
 import com.rlevi.studying_clean_architecture.core.utils.LoggerUtils;
@@ -17,26 +23,32 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import com.rlevi.studying_clean_architecture.infrastructure.dto.ErrorResponse;
 import com.rlevi.studying_clean_architecture.infrastructure.dto.ErrorValidation;
+import com.rlevi.studying_clean_architecture.infrastructure.exception.BusinessException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/v1/users")
 @Validated
 @Tag(name = "02 - Users", description = "Endpoints for user management and information retrieval")
@@ -46,27 +58,42 @@ public class UserController {
 
   private final FindAllUsersUseCase findAllUsersUseCase;
   private final FindUserByIdUseCase findUserByIdUseCase;
+  private final FindUsersByIdsUseCase findUsersByIdsUseCase;
+  private final SearchUsersUseCase searchUsersUseCase;
   private final FindUserByEmailUseCase findUserByEmailUseCase;
   private final VerifyExistsByEmailUseCase verifyExistsByEmailUseCase;
   private final DeleteUserUseCase deleteUserUseCase;
   private final UpdateUserUseCase updateUserUseCase;
   private final UserMapper userMapper;
+  private final int maxBatchIds;
+  private final int maxSearchLimit;
+  private final int maxSearchQueryLength;
 
   public UserController(
           FindAllUsersUseCase findAllUsersUseCase,
           FindUserByIdUseCase findUserByIdUseCase,
+          FindUsersByIdsUseCase findUsersByIdsUseCase,
+          SearchUsersUseCase searchUsersUseCase,
           FindUserByEmailUseCase findUserByEmailUseCase,
           VerifyExistsByEmailUseCase verifyExistsByEmailUseCase,
           DeleteUserUseCase deleteUserUseCase,
           UpdateUserUseCase updateUserUseCase,
-          UserMapper userMapper) {
+          UserMapper userMapper,
+          @Value("${users.batch.max-ids:100}") int maxBatchIds,
+          @Value("${users.search.max-limit:50}") int maxSearchLimit,
+          @Value("${users.search.max-query-length:100}") int maxSearchQueryLength) {
     this.findAllUsersUseCase = findAllUsersUseCase;
     this.findUserByIdUseCase = findUserByIdUseCase;
+    this.findUsersByIdsUseCase = findUsersByIdsUseCase;
+    this.searchUsersUseCase = searchUsersUseCase;
     this.findUserByEmailUseCase = findUserByEmailUseCase;
     this.verifyExistsByEmailUseCase = verifyExistsByEmailUseCase;
     this.deleteUserUseCase = deleteUserUseCase;
     this.updateUserUseCase = updateUserUseCase;
     this.userMapper = userMapper;
+    this.maxBatchIds = maxBatchIds;
+    this.maxSearchLimit = maxSearchLimit;
+    this.maxSearchQueryLength = maxSearchQueryLength;
   }
 
   @GetMapping("/me")
@@ -78,8 +105,6 @@ public class UserController {
   })
   public ResponseEntity<UserResponse> getCurrentUser(@AuthenticationPrincipal UserDetails userDetails) {
     String email = userDetails.getUsername();
-    LoggerUtils.startRequest(logger, "GET /api/v1/users/me", email);
-
     LoggerUtils.logDebug(logger, "Getting current user profile", Map.of("email", email));
 
     Optional<User> userOptional = findUserByEmailUseCase.execute(email);
@@ -91,11 +116,9 @@ public class UserController {
       LoggerUtils.logSuccess(logger, "Current user profile retrieved",
           Map.of("userId", user.id(), "email", user.email()));
 
-      LoggerUtils.endRequest(logger);
       return ResponseEntity.ok(userResponse);
     } else {
       LoggerUtils.logWarning(logger, "Authenticated user not found in database", Map.of("email", email));
-      LoggerUtils.endRequest(logger);
       return ResponseEntity.notFound().build();
     }
   }
@@ -109,8 +132,6 @@ public class UserController {
                   content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
   })
   public ResponseEntity<List<UserResponse>> getAllUsers() {
-    LoggerUtils.startRequest(logger, "GET /api/v1/users/all", null);
-
     // Log of init operation
     LoggerUtils.logDebug(logger, "Getting all users", null);
 
@@ -124,11 +145,73 @@ public class UserController {
     LoggerUtils.logSuccess(logger, "Users retrieved successfully",
         Map.of("count", users.size()));
 
-    LoggerUtils.endRequest(logger);
-
     return ResponseEntity.ok(response);
   }
 
+  // Get users by ids
+  @GetMapping("/batch")
+  @Operation(summary = "Get users by IDs", description = "Retrieves several users in one request; results follow the order of the requested IDs")
+  @ApiResponses(value = {
+          @ApiResponse(responseCode = "200", description = "Users retrieved; missing IDs are listed in missingIds"),
+          @ApiResponse(responseCode = "400", description = "No IDs or more IDs than allowed",
+                  content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+  })
+  public ResponseEntity<UserBatchResponse> getUsersByIds(@RequestParam("ids") List<Long> ids) {
+    if (ids.isEmpty() || ids.size() > maxBatchIds) {
+      throw new BusinessException("Between 1 and " + maxBatchIds + " user IDs are allowed per request.");
+    }
+
+    // Log of operation start
+    LoggerUtils.logDebug(logger, "Getting users by IDs", Map.of("count", ids.size()));
+
+    // Business logic execution
+    List<Optional<User>> users = findUsersByIdsUseCase.execute(ids);
+
+    List<UserResponse> response = new ArrayList<>(users.size());
+    List<Long> missingIds = new ArrayList<>();
+    for (int i = 0; i < users.size(); i++) {
+      response.add(users.get(i).map(userMapper::toResponse).orElse(null));
+      if (users.get(i).isEmpty()) {
+        missingIds.add(ids.get(i));
+      }
+    }
+
+    // Success log
+    LoggerUtils.logSuccess(logger, "Users retrieved by IDs",
+        Map.of("count", ids.size(), "missing", missingIds.size()));
+
+    return ResponseEntity.ok(new UserBatchResponse(response, missingIds));
+  }
+
+  // Search users by name or email
+  @GetMapping("/search")
+  @Operation(summary = "Search users", description = "Type-ahead search over name and email, case-insensitive. Queries shorter than three characters match prefixes, longer ones match anywhere. Pages are ordered by ID; pass nextCursor as cursor to get the next one")
+  @ApiResponses(value = {
+          @ApiResponse(responseCode = "200", description = "One page of matching users"),
+          @ApiResponse(responseCode = "400", description = "Blank or too long query, or limit out of range",
+                  content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+  })
+  public ResponseEntity<UserSearchResponse> searchUsers(
+          @RequestParam("q") String query,
+          @RequestParam(value = "limit", defaultValue = "${users.search.default-limit:20}") int limit,
+          @RequestParam(value = "cursor", required = false) Long cursor) {
+    if (query.isBlank() || query.length() > maxSearchQueryLength) {
+      throw new BusinessException("The search query must have between 1 and " + maxSearchQueryLength + " characters.");
+    } else if (limit < 1 || limit > maxSearchLimit) {
+      throw new BusinessException("Between 1 and " + maxSearchLimit + " results are allowed per page.");
+    }
+
+    // Log of operation start
+    LoggerUtils.logDebug(logger, "Searching users", Map.of("limit", limit));
+
+    // Business logic execution
+    UserSearchPage page = searchUsersUseCase.execute(query, limit, cursor);
+
+    return ResponseEntity.ok(new UserSearchResponse(
+            page.users().stream().map(userMapper::toResponse).toList(),
+            page.nextCursor()));
+  }
+
   // Get user by id
   @GetMapping("/{id}")
   @Operation(summary = "Get user by ID", description = "Retrieves a specific user using their ID")
@@ -138,8 +221,6 @@ public class UserController {
                   content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
   })
   public ResponseEntity<UserResponse> getUserById(@PathVariable Long id) {
-    LoggerUtils.startRequest(logger, "GET /api/v1/users/" + id, null);
-    
     // Log of operation start
     LoggerUtils.logDebug(logger, "Getting user by ID", Map.of("userId", id));
     
@@ -154,13 +235,11 @@ public class UserController {
       LoggerUtils.logSuccess(logger, "User found by ID",
           Map.of("userId", user.id(), "email", user.email()));
       
-      LoggerUtils.endRequest(logger);
       return ResponseEntity.ok(userResponse);
     } else {
       // User not found log
       LoggerUtils.logWarning(logger, "User not found by ID", Map.of("userId", id));
       
-      LoggerUtils.endRequest(logger);
       return ResponseEntity.notFound().build();
     }
   }
@@ -174,8 +253,6 @@ public class UserController {
                   content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
   })
   public ResponseEntity<UserResponse> getUserByEmail(@RequestParam("email") @Email(message = "Invalid email format.") String email){
-    LoggerUtils.startRequest(logger, "GET /api/v1/users?email=" + email, null);
-
     // Log of operation start
     LoggerUtils.logDebug(logger, "Getting user by email", Map.of("email", email));
 
@@ -189,13 +266,11 @@ public class UserController {
       // Success log
       LoggerUtils.logSuccess(logger, "User found by email", Map.of("userId", user.id(), "email", user.email()));
 
-      LoggerUtils.endRequest(logger);
       return ResponseEntity.ok(userResponse);
     } else {
       // User not found log
       LoggerUtils.logWarning(logger, "User not found by email", Map.of("email", email));
 
-      LoggerUtils.endRequest(logger);
       return ResponseEntity.notFound().build();
     }
   }
@@ -209,8 +284,6 @@ public class UserController {
                   content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
   })
   public ResponseEntity<UserExistsResponse> checkExists(@RequestParam("email") @Email(message = "Invalid email format.") String email){
-    LoggerUtils.startRequest(logger, "GET /api/v1/users/verify-exists", email);
-
     // Log of operation start
     LoggerUtils.logDebug(logger, "Checking if user exists by email", Map.of("email", email));
 
@@ -219,7 +292,6 @@ public class UserController {
 
     if (!exists) {
       LoggerUtils.logWarning(logger, "User does not exist", Map.of("email", email));
-      LoggerUtils.endRequest(logger);
       return ResponseEntity.notFound().build();
     }
 
@@ -232,13 +304,11 @@ public class UserController {
       // Success log
       LoggerUtils.logSuccess(logger, "User exists", Map.of("userId", user.id(), "email", user.email()));
 
-      LoggerUtils.endRequest(logger);
       return ResponseEntity.ok(new UserExistsResponse("User found", userResponse));
     } else {
       // User not found log
       LoggerUtils.logWarning(logger, "User not found after exists check", Map.of("email", email));
 
-      LoggerUtils.endRequest(logger);
       return ResponseEntity.notFound().build();
     }
   }
@@ -251,20 +321,20 @@ public class UserController {
           @ApiResponse(responseCode = "404", description = "User not found", 
                   content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
   })
-  public ResponseEntity<Map<String, String>> deleteUser(@RequestParam("id") @NotNull Long id){
-    LoggerUtils.startRequest(logger, "DELETE /api/v1/users/delete-user?id=" + id, null);
-
+  public ResponseEntity<?> deleteUser(@RequestParam("id") @NotNull Long id, HttpServletRequest httpRequest){
     // Log of operation start
     LoggerUtils.logDebug(logger, "Deleting user", Map.of("userId", id));
 
     // Business logic execution
-    deleteUserUseCase.execute(id);
+    UseCaseResult<Void> result = deleteUserUseCase.execute(id);
+    if (!(result instanceof UseCaseResult.Success<Void>)) {
+      LoggerUtils.logWarning(logger, "User not found for delete", Map.of("userId", id));
+      return FailureResponses.of((UseCaseResult.Failure<Void>) result, httpRequest);
+    }
 
     // Success log
     LoggerUtils.logSuccess(logger, "User deleted successfully", Map.of("userId", id));
 
-    LoggerUtils.endRequest(logger);
-
     return ResponseEntity.ok(Map.of("message", "User deleted successfully"));
   }
 
@@ -278,21 +348,22 @@ public class UserController {
           @ApiResponse(responseCode = "404", description = "User not found", 
                   content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
   })
-  public ResponseEntity<UserResponse> updateUser(@RequestParam("id") @NotNull Long id, @Valid @RequestBody UserUpdateRequest request) {
-    LoggerUtils.startRequest(logger, "PUT /api/v1/users/update?id=" + id, null);
-
+  public ResponseEntity<?> updateUser(@RequestParam("id") @NotNull Long id, @Valid @RequestBody UserUpdateRequest request, HttpServletRequest httpRequest) {
     // Log of operation start
     LoggerUtils.logDebug(logger, "Updating user", Map.of("userId", id));
 
     // Business logic execution
     User userToUpdate = userMapper.toDomain(id, request);
-    User updatedUser = updateUserUseCase.execute(userToUpdate);
+    UseCaseResult<User> result = updateUserUseCase.execute(userToUpdate);
+    if (!(result instanceof UseCaseResult.Success<User> success)) {
+      LoggerUtils.logWarning(logger, "User not found for update", Map.of("userId", id));
+      return FailureResponses.of((UseCaseResult.Failure<User>) result, httpRequest);
+    }
+    User updatedUser = success.value();
 
     // Success log
     LoggerUtils.logSuccess(logger, "User updated successfully", Map.of("userId", id));
 
-    LoggerUtils.endRequest(logger);
-
     return ResponseEntity.ok(userMapper.toResponse(updatedUser));
   }
 }
\ No newline at end of file
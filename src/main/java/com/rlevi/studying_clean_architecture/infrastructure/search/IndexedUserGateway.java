@@ -0,0 +1,78 @@
+package com.rlevi.studying_clean_architecture.infrastructure.search;
+
+import com.rlevi.studying_clean_architecture.core.entities.User;
+import com.rlevi.studying_clean_architecture.core.gateway.UserGateway;
+import com.rlevi.studying_clean_architecture.infrastructure.cache.CacheInvalidationBus;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Keeps the local {@link UserSearchIndex} in step with every user write and serves searches from it once it is ready.
+ * The changed id is also published on the bus, so other instances reload it (see {@link UserSearchIndexMaintainer}).
+ */
+public class IndexedUserGateway implements UserGateway {
+  private final UserGateway delegate;
+  private final UserSearchIndex index;
+  private final CacheInvalidationBus bus;
+
+  public IndexedUserGateway(UserGateway delegate, UserSearchIndex index, CacheInvalidationBus bus) {
+    this.delegate = delegate;
+    this.index = index;
+    this.bus = bus;
+  }
+
+  @Override
+  public User createUser(User user) {
+    User created = delegate.createUser(user);
+    index.upsert(created);
+    bus.invalidate(UserSearchIndexMaintainer.CACHE, String.valueOf(created.id()));
+    return created;
+  }
+
+  @Override
+  public User updateUser(User user) {
+    User updated = delegate.updateUser(user);
+    index.upsert(updated);
+    bus.invalidate(UserSearchIndexMaintainer.CACHE, String.valueOf(updated.id()));
+    return updated;
+  }
+
+  @Override
+  public Optional<User> findUserById(Long id) {
+    return delegate.findUserById(id);
+  }
+
+  @Override
+  public Optional<User> findUserByEmail(String email) {
+    return delegate.findUserByEmail(email);
+  }
+
+  @Override
+  public List<User> findUsersByIds(Collection<Long> ids) {
+    return delegate.findUsersByIds(ids);
+  }
+
+  @Override
+  public List<User> findAllUsers() {
+    return delegate.findAllUsers();
+  }
+
+  @Override
+  public List<User> searchUsers(String query, int limit, Long cursor) {
+    return index.isReady() ? index.search(query, limit, cursor) : delegate.searchUsers(query, limit, cursor);
+  }
+
+  @Override
+  public boolean verifyExistsByEmail(String email) {
+    return delegate.verifyExistsByEmail(email);
+  }
+
+  @Override
+  public void deleteUser(Long id) {
+    delegate.deleteUser(id);
+    index.remove(id);
+    bus.invalidate(UserSearchIndexMaintainer.CACHE, String.valueOf(id));
+  }
+}
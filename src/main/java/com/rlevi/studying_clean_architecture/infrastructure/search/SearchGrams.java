@@ -0,0 +1,86 @@
+package com.rlevi.studying_clean_architecture.infrastructure.search;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Grams indexed for user search, packed into longs.
+ * <p>
+ * A trigram is its three UTF-16 units in the low 48 bits. The one- and two-character prefixes of each field
+ * are flagged with bit 62 and bit 61, so they never collide with trigrams. Queries follow the same rules as
+ * the database search: under three characters only prefixes match, otherwise any substring does.
+ */
+final class SearchGrams {
+  static final int MIN_CONTAINS_LENGTH = 3;
+
+  private static final long PREFIX_1 = 1L << 62;
+  private static final long PREFIX_2 = 1L << 61;
+
+  private SearchGrams() {}
+
+  static String normalize(String value) {
+    return value == null ? "" : value.toLowerCase(Locale.ROOT);
+  }
+
+  // Distinct grams of the normalized fields, sorted
+  static long[] ofFields(String name, String email) {
+    long[] grams = new long[count(name) + count(email)];
+    int size = add(name, grams, add(email, grams, 0));
+    Arrays.sort(grams, 0, size);
+    return distinct(grams, size);
+  }
+
+  // Grams every match of the normalized query contains; prefix grams are exact, trigrams still need checking
+  static long[] ofQuery(String query) {
+    if (query.length() == 1) {
+      return new long[]{PREFIX_1 | query.charAt(0)};
+    } else if (query.length() == 2) {
+      return new long[]{PREFIX_2 | ((long) query.charAt(0) << 16) | query.charAt(1)};
+    }
+
+    long[] grams = new long[query.length() - 2];
+    for (int i = 0; i < grams.length; i++) {
+      grams[i] = trigram(query, i);
+    }
+    Arrays.sort(grams);
+    return distinct(grams, grams.length);
+  }
+
+  static boolean matches(String query, String name, String email) {
+    if (query.length() < MIN_CONTAINS_LENGTH) {
+      return name.startsWith(query) || email.startsWith(query);
+    }
+    return name.contains(query) || email.contains(query);
+  }
+
+  private static int count(String field) {
+    return Math.min(field.length(), 2) + Math.max(field.length() - 2, 0);
+  }
+
+  private static int add(String field, long[] grams, int size) {
+    if (field.length() >= 1) {
+      grams[size++] = PREFIX_1 | field.charAt(0);
+    }
+    if (field.length() >= 2) {
+      grams[size++] = PREFIX_2 | ((long) field.charAt(0) << 16) | field.charAt(1);
+    }
+    for (int i = 0; i + 2 < field.length(); i++) {
+      grams[size++] = trigram(field, i);
+    }
+    return size;
+  }
+
+  private static long trigram(String value, int start) {
+    return ((long) value.charAt(start) << 32) | ((long) value.charAt(start + 1) << 16) | value.charAt(start + 2);
+  }
+
+  private static long[] distinct(long[] sorted, int size) {
+    int unique = 0;
+    for (int i = 0; i < size; i++) {
+      if (unique == 0 || sorted[i] != sorted[unique - 1]) {
+        sorted[unique++] = sorted[i];
+      }
+    }
+    return Arrays.copyOf(sorted, unique);
+  }
+}
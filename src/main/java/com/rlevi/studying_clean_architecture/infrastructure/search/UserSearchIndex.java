@@ -0,0 +1,180 @@
+package com.rlevi.studying_clean_architecture.infrastructure.search;
+
+import com.rlevi.studying_clean_architecture.core.entities.User;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * In-memory search over user name and email, answering the same queries as {@code UserGateway.searchUsers}
+ * without touching the database.
+ * <p>
+ * Most users live in an immutable, compact {@link UserSearchSegment}. Writes are recorded as pending changes
+ * that take precedence over the segment, and {@link #compact()} periodically folds them into a new segment.
+ * Searches never take a lock: they read one consistent pair of segment and pending changes.
+ * {@link #rebuild(Consumer)} and {@link #compact()} are meant to be called from a single maintenance thread.
+ */
+public class UserSearchIndex {
+  // A lock rather than synchronized: upsert and remove run on request threads, which may be virtual
+  private final ReentrantLock writeLock = new ReentrantLock();
+  private volatile State state = new State(UserSearchSegment.EMPTY, new ConcurrentHashMap<>(), false);
+
+  // False until the first rebuild has completed; callers fall back on the database until then
+  public boolean isReady() {
+    return state.ready();
+  }
+
+  public void upsert(User user) {
+    Change change = new Change(new User(user.id(), user.email(), user.name(), null, user.createdAt(), user.updatedAt()),
+            SearchGrams.normalize(user.name()), SearchGrams.normalize(user.email()));
+    writeLock.lock();
+    try {
+      state.pending().put(user.id(), change);
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  public void remove(Long id) {
+    writeLock.lock();
+    try {
+      state.pending().put(id, Change.REMOVED);
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  // Same contract as UserGateway.searchUsers; results carry no password hash
+  public List<User> search(String query, int limit, Long cursor) {
+    if (query == null || query.isBlank() || limit < 1) {
+      return List.of();
+    }
+
+    State current = state;
+    String normalized = SearchGrams.normalize(query.trim());
+    long afterId = cursor == null ? Long.MIN_VALUE : cursor;
+    List<User> fromSegment = new ArrayList<>(Math.min(limit, 64));
+    current.segment().search(normalized, afterId, limit, current.pending().keySet(), fromSegment);
+    if (current.pending().isEmpty()) {
+      return fromSegment;
+    }
+
+    List<User> fromPending = new ArrayList<>();
+    for (Change change : current.pending().values()) {
+      if (change.user() != null && change.user().id() > afterId && SearchGrams.matches(normalized, change.name(), change.email())) {
+        fromPending.add(change.user());
+      }
+    }
+    if (fromPending.isEmpty()) {
+      return fromSegment;
+    }
+    fromPending.sort(Comparator.comparing(User::id));
+    return merge(fromSegment, fromPending, limit);
+  }
+
+  /**
+   * Replaces the whole index with what {@code source} feeds to the consumer it is given, in increasing id order.
+   * Changes recorded while the source runs are kept, since the source may have read the rows before they were written.
+   */
+  public void rebuild(Consumer<Consumer<User>> source) {
+    Map<Long, Change> applied = snapshotPending();
+    UserSearchSegment.Builder builder = new UserSearchSegment.Builder();
+    source.accept(builder::add);
+    install(builder.build(), applied);
+  }
+
+  // Folds the pending changes into a new segment
+  public void compact() {
+    State current = state;
+    Map<Long, Change> applied = snapshotPending();
+    if (applied.isEmpty()) {
+      return;
+    }
+
+    List<Map.Entry<Long, Change>> changes = new ArrayList<>(applied.entrySet());
+    changes.sort(Map.Entry.comparingByKey());
+    UserSearchSegment segment = current.segment();
+    UserSearchSegment.Builder builder = new UserSearchSegment.Builder();
+    int doc = 0;
+    for (Map.Entry<Long, Change> change : changes) {
+      for (; doc < segment.size() && segment.id(doc) < change.getKey(); doc++) {
+        builder.add(segment.user(doc));
+      }
+      if (doc < segment.size() && segment.id(doc) == change.getKey()) {
+        doc++;
+      }
+      if (change.getValue().user() != null) {
+        builder.add(change.getValue().user());
+      }
+    }
+    for (; doc < segment.size(); doc++) {
+      builder.add(segment.user(doc));
+    }
+    install(builder.build(), applied);
+  }
+
+  public int pendingChanges() {
+    return state.pending().size();
+  }
+
+  public int size() {
+    return state.segment().size();
+  }
+
+  public long sizeInBytes() {
+    return state.segment().sizeInBytes();
+  }
+
+  private Map<Long, Change> snapshotPending() {
+    writeLock.lock();
+    try {
+      return new HashMap<>(state.pending());
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  // Swaps in the new segment, keeping only the changes made after the snapshot it was built from
+  private void install(UserSearchSegment segment, Map<Long, Change> applied) {
+    writeLock.lock();
+    try {
+      ConcurrentHashMap<Long, Change> remaining = new ConcurrentHashMap<>();
+      state.pending().forEach((id, change) -> {
+        if (applied.get(id) != change) {
+          remaining.put(id, change);
+        }
+      });
+      state = new State(segment, remaining, true);
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  private static List<User> merge(List<User> first, List<User> second, int limit) {
+    List<User> merged = new ArrayList<>(Math.min(limit, first.size() + second.size()));
+    int i = 0;
+    int j = 0;
+    while (merged.size() < limit && (i < first.size() || j < second.size())) {
+      if (j == second.size() || (i < first.size() && first.get(i).id() < second.get(j).id())) {
+        merged.add(first.get(i++));
+      } else {
+        merged.add(second.get(j++));
+      }
+    }
+    return merged;
+  }
+
+  private record State(UserSearchSegment segment, ConcurrentHashMap<Long, Change> pending, boolean ready) {
+  }
+
+  // A write not yet compacted into the segment; a null user is a removal. Compared by identity on install
+  private record Change(User user, String name, String email) {
+    private static final Change REMOVED = new Change(null, null, null);
+  }
+}
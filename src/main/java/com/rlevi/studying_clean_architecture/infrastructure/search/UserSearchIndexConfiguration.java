@@ -0,0 +1,42 @@
+package com.rlevi.studying_clean_architecture.infrastructure.search;
+
+import com.rlevi.studying_clean_architecture.infrastructure.cache.CacheInvalidationBus;
+import com.rlevi.studying_clean_architecture.infrastructure.mapper.UserMapper;
+import com.rlevi.studying_clean_architecture.infrastructure.persistence.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.time.Duration;
+
+/**
+ * In-memory user search, enabled with {@code user-search.index.enabled=true}. The index is picked up by
+ * {@code BeanConfiguration}, which puts an {@link IndexedUserGateway} in front of the user repository.
+ */
+@Configuration
+@Profile("!reactive")
+@ConditionalOnProperty(name = "user-search.index.enabled", havingValue = "true")
+public class UserSearchIndexConfiguration {
+
+  @Bean
+  public UserSearchIndex userSearchIndex() {
+    return new UserSearchIndex();
+  }
+
+  @Bean(destroyMethod = "close")
+  public UserSearchIndexMaintainer userSearchIndexMaintainer(
+          UserSearchIndex userSearchIndex,
+          UserRepository userRepository,
+          UserMapper userMapper,
+          CacheInvalidationBus cacheInvalidationBus,
+          @Value("${user-search.index.load-batch-size:5000}") int loadBatchSize,
+          @Value("${user-search.index.refresh-interval:1s}") Duration refreshInterval,
+          @Value("${user-search.index.compaction-interval:30s}") Duration compactionInterval,
+          @Value("${user-search.index.max-pending-changes:10000}") int maxPendingChanges,
+          @Value("${user-search.index.rebuild-interval:1h}") Duration rebuildInterval) {
+    return new UserSearchIndexMaintainer(userSearchIndex, userRepository, userMapper, cacheInvalidationBus,
+            loadBatchSize, refreshInterval, compactionInterval, maxPendingChanges, rebuildInterval);
+  }
+}
@@ -0,0 +1,176 @@
+package com.rlevi.studying_clean_architecture.infrastructure.search;
+
+import com.rlevi.studying_clean_architecture.core.entities.User;
+import com.rlevi.studying_clean_architecture.core.utils.LoggerUtils;
+import com.rlevi.studying_clean_architecture.infrastructure.cache.CacheInvalidationBus;
+import com.rlevi.studying_clean_architecture.infrastructure.cache.CacheInvalidationListener;
+import com.rlevi.studying_clean_architecture.infrastructure.mapper.UserMapper;
+import com.rlevi.studying_clean_architecture.infrastructure.persistence.UserEntity;
+import com.rlevi.studying_clean_architecture.infrastructure.persistence.UserRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Loads the {@link UserSearchIndex} once the application is ready and keeps it fresh from a single background thread.
+ * <p>
+ * User ids published on the {@value #CACHE} bus channel, by this instance or another one, are reloaded from the
+ * database on the next tick. Pending changes are compacted into a new segment when there are
+ * {@code maxPendingChanges} of them or every {@code compactionInterval}, and the whole index is rebuilt every
+ * {@code rebuildInterval}, or as soon as the bus reports that invalidations may have been lost.
+ */
+public class UserSearchIndexMaintainer implements CacheInvalidationListener, MeterBinder, AutoCloseable {
+  public static final String CACHE = "user-search";
+
+  private static final Logger logger = LoggerUtils.getLogger(UserSearchIndexMaintainer.class);
+
+  private final UserSearchIndex index;
+  private final UserRepository userRepository;
+  private final UserMapper userMapper;
+  private final int loadBatchSize;
+  private final int maxPendingChanges;
+  private final long compactionIntervalNanos;
+  private final long rebuildIntervalNanos;
+  private final Set<Long> staleIds = ConcurrentHashMap.newKeySet();
+  private final ScheduledExecutorService maintainer;
+  private volatile boolean rebuildRequested;
+  private long lastCompaction = System.nanoTime();
+  private long lastRebuild = System.nanoTime();
+
+  public UserSearchIndexMaintainer(UserSearchIndex index, UserRepository userRepository, UserMapper userMapper,
+                                   CacheInvalidationBus bus, int loadBatchSize, Duration refreshInterval,
+                                   Duration compactionInterval, int maxPendingChanges, Duration rebuildInterval) {
+    this.index = index;
+    this.userRepository = userRepository;
+    this.userMapper = userMapper;
+    this.loadBatchSize = loadBatchSize;
+    this.maxPendingChanges = maxPendingChanges;
+    this.compactionIntervalNanos = compactionInterval.toNanos();
+    this.rebuildIntervalNanos = rebuildInterval.toNanos();
+    this.maintainer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "user-search-index");
+      thread.setDaemon(true);
+      return thread;
+    });
+    long intervalMillis = Math.max(1, refreshInterval.toMillis());
+    maintainer.scheduleWithFixedDelay(this::maintain, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    bus.subscribe(CACHE, this);
+  }
+
+  // Loading in the background keeps startup fast; searches go to the database until it is done
+  @EventListener(ApplicationReadyEvent.class)
+  public void load() {
+    rebuildRequested = true;
+    maintainer.execute(this::maintain);
+  }
+
+  @Override
+  public void invalidate(Set<String> keys) {
+    for (String key : keys) {
+      if (CacheInvalidationBus.ALL_KEYS.equals(key)) {
+        rebuildRequested = true;
+      } else {
+        staleIds.add(Long.valueOf(key));
+      }
+    }
+  }
+
+  @Override
+  public void invalidateAll() {
+    rebuildRequested = true;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder("user.search.index.users", index, UserSearchIndex::size)
+            .description("Users in the compacted part of the search index")
+            .register(registry);
+    Gauge.builder("user.search.index.pending", index, UserSearchIndex::pendingChanges)
+            .description("User changes waiting to be compacted into the search index")
+            .register(registry);
+    Gauge.builder("user.search.index.bytes", index, UserSearchIndex::sizeInBytes)
+            .description("Approximate heap used by the compacted part of the search index")
+            .baseUnit("bytes")
+            .register(registry);
+  }
+
+  @Override
+  public void close() {
+    maintainer.shutdownNow();
+  }
+
+  private void maintain() {
+    try {
+      long now = System.nanoTime();
+      if (rebuildRequested || (index.isReady() && now - lastRebuild >= rebuildIntervalNanos)) {
+        rebuildRequested = false;
+        staleIds.clear();
+        rebuild();
+        lastRebuild = lastCompaction = System.nanoTime();
+        return;
+      }
+
+      reloadStaleIds();
+      int pending = index.pendingChanges();
+      if (pending >= maxPendingChanges || (pending > 0 && now - lastCompaction >= compactionIntervalNanos)) {
+        index.compact();
+        lastCompaction = System.nanoTime();
+      }
+    } catch (RuntimeException e) {
+      // A failed rebuild is retried on the next tick; anything else is caught up by the next rebuild
+      rebuildRequested = rebuildRequested || !index.isReady();
+      LoggerUtils.logWarning(logger, "User search index maintenance failed", Map.of("cause", String.valueOf(e.getMessage())));
+    }
+  }
+
+  private void rebuild() {
+    long start = System.nanoTime();
+    index.rebuild(this::loadAllUsers);
+    LoggerUtils.logSuccess(logger, "User search index loaded", Map.of(
+            "users", index.size(),
+            "bytes", index.sizeInBytes(),
+            "millis", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
+  }
+
+  private void loadAllUsers(Consumer<User> sink) {
+    long afterId = 0;
+    List<UserEntity> batch;
+    do {
+      batch = userRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(loadBatchSize));
+      for (UserEntity entity : batch) {
+        sink.accept(userMapper.toDomain(entity));
+        afterId = entity.getId();
+      }
+    } while (batch.size() == loadBatchSize);
+  }
+
+  private void reloadStaleIds() {
+    if (staleIds.isEmpty()) {
+      return;
+    }
+
+    Set<Long> ids = new HashSet<>(staleIds);
+    staleIds.removeAll(ids);
+    Set<Long> missing = new HashSet<>(ids);
+    for (UserEntity entity : userRepository.findAllById(ids)) {
+      index.upsert(userMapper.toDomain(entity));
+      missing.remove(entity.getId());
+    }
+    missing.forEach(index::remove);
+  }
+}
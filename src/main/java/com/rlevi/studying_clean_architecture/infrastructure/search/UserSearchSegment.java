@@ -0,0 +1,233 @@
+package com.rlevi.studying_clean_architecture.infrastructure.search;
+
+import com.rlevi.studying_clean_architecture.core.entities.User;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable, compacted part of a {@link UserSearchIndex}.
+ * <p>
+ * Users are stored column-wise in primitive arrays sorted by id (document number = position), with name and
+ * email packed as UTF-8 in one byte array. Each gram maps to a range of one shared {@code int[]} of document
+ * numbers, so posting lists come out in id order and a keyset page can stop as soon as it is full.
+ * <p>
+ * Memory per user: 32 bytes of columns, the UTF-8 length of name and email, and 4 bytes per distinct gram
+ * (about one per character). A 15-character name with a 25-character email comes to roughly 230 bytes,
+ * so a million such users take about 230 MB. Password hashes are not kept.
+ */
+final class UserSearchSegment {
+  static final UserSearchSegment EMPTY = new Builder().build();
+
+  private static final long NO_INSTANT = Long.MIN_VALUE;
+
+  private final long[] ids;
+  private final long[] createdAt;
+  private final long[] updatedAt;
+  // Name of document i is text[nameOffsets[i], emailOffsets[i]), email is text[emailOffsets[i], nameOffsets[i + 1])
+  private final int[] nameOffsets;
+  private final int[] emailOffsets;
+  private final byte[] text;
+  private final long[] grams;
+  // Postings of grams[g] are postings[postingOffsets[g], postingOffsets[g + 1])
+  private final int[] postingOffsets;
+  private final int[] postings;
+
+  private UserSearchSegment(long[] ids, long[] createdAt, long[] updatedAt, int[] nameOffsets, int[] emailOffsets,
+                            byte[] text, long[] grams, int[] postingOffsets, int[] postings) {
+    this.ids = ids;
+    this.createdAt = createdAt;
+    this.updatedAt = updatedAt;
+    this.nameOffsets = nameOffsets;
+    this.emailOffsets = emailOffsets;
+    this.text = text;
+    this.grams = grams;
+    this.postingOffsets = postingOffsets;
+    this.postings = postings;
+  }
+
+  int size() {
+    return ids.length;
+  }
+
+  long id(int doc) {
+    return ids[doc];
+  }
+
+  User user(int doc) {
+    return new User(ids[doc], email(doc), name(doc), null, instant(createdAt[doc]), instant(updatedAt[doc]));
+  }
+
+  long sizeInBytes() {
+    return ids.length * 32L + 4 + text.length + grams.length * 12L + 4 + postings.length * 4L;
+  }
+
+  /**
+   * Adds to {@code out}, in id order, the users after {@code afterId} matching the normalized query, until
+   * {@code out} holds {@code limit} users. Ids in {@code superseded} have a newer version elsewhere and are skipped.
+   */
+  void search(String query, long afterId, int limit, Set<Long> superseded, List<User> out) {
+    long[] queryGrams = SearchGrams.ofQuery(query);
+    int[] starts = new int[queryGrams.length];
+    int[] ends = new int[queryGrams.length];
+    int lead = 0;
+    for (int i = 0; i < queryGrams.length; i++) {
+      int gram = Arrays.binarySearch(grams, queryGrams[i]);
+      if (gram < 0) {
+        return;
+      }
+      starts[i] = postingOffsets[gram];
+      ends[i] = postingOffsets[gram + 1];
+      if (ends[i] - starts[i] < ends[lead] - starts[lead]) {
+        lead = i;
+      }
+    }
+
+    int firstDoc = firstDocAfter(afterId);
+    boolean exact = query.length() < SearchGrams.MIN_CONTAINS_LENGTH;
+    for (int p = lowerBound(postings, starts[lead], ends[lead], firstDoc); p < ends[lead] && out.size() < limit; p++) {
+      int doc = postings[p];
+      if (!inAllPostings(doc, lead, starts, ends)
+              || (!superseded.isEmpty() && superseded.contains(ids[doc]))
+              || (!exact && !SearchGrams.matches(query, SearchGrams.normalize(name(doc)), SearchGrams.normalize(email(doc))))) {
+        continue;
+      }
+      out.add(user(doc));
+    }
+  }
+
+  // Posting lists are only walked forwards, so each start is advanced past the documents already seen
+  private boolean inAllPostings(int doc, int lead, int[] starts, int[] ends) {
+    for (int i = 0; i < starts.length; i++) {
+      if (i == lead) {
+        continue;
+      }
+      starts[i] = lowerBound(postings, starts[i], ends[i], doc);
+      if (starts[i] == ends[i] || postings[starts[i]] != doc) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private int firstDocAfter(long afterId) {
+    int position = Arrays.binarySearch(ids, afterId);
+    return position >= 0 ? position + 1 : -position - 1;
+  }
+
+  private static int lowerBound(int[] values, int from, int to, int key) {
+    int position = Arrays.binarySearch(values, from, to, key);
+    return position >= 0 ? position : -position - 1;
+  }
+
+  private String name(int doc) {
+    return new String(text, nameOffsets[doc], emailOffsets[doc] - nameOffsets[doc], StandardCharsets.UTF_8);
+  }
+
+  private String email(int doc) {
+    return new String(text, emailOffsets[doc], nameOffsets[doc + 1] - emailOffsets[doc], StandardCharsets.UTF_8);
+  }
+
+  private static long micros(Instant instant) {
+    return instant == null ? NO_INSTANT : instant.getEpochSecond() * 1_000_000 + instant.getNano() / 1_000;
+  }
+
+  private static Instant instant(long micros) {
+    return micros == NO_INSTANT ? null
+            : Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000), Math.floorMod(micros, 1_000_000) * 1_000L);
+  }
+
+  /**
+   * Accumulates users in increasing id order and packs them into a segment.
+   */
+  static final class Builder {
+    private long[] ids = new long[1024];
+    private long[] createdAt = new long[1024];
+    private long[] updatedAt = new long[1024];
+    private int[] nameOffsets = new int[1025];
+    private int[] emailOffsets = new int[1024];
+    private byte[] text = new byte[16 * 1024];
+    private int size;
+    private int textSize;
+    private final Map<Long, IntList> postingLists = new HashMap<>();
+
+    Builder add(User user) {
+      if (size > 0 && user.id() <= ids[size - 1]) {
+        throw new IllegalArgumentException("Users must be added in increasing id order.");
+      }
+      if (size == ids.length) {
+        int capacity = size + (size >> 1);
+        ids = Arrays.copyOf(ids, capacity);
+        createdAt = Arrays.copyOf(createdAt, capacity);
+        updatedAt = Arrays.copyOf(updatedAt, capacity);
+        nameOffsets = Arrays.copyOf(nameOffsets, capacity + 1);
+        emailOffsets = Arrays.copyOf(emailOffsets, capacity);
+      }
+
+      String name = user.name() == null ? "" : user.name();
+      String email = user.email() == null ? "" : user.email();
+      ids[size] = user.id();
+      createdAt[size] = micros(user.createdAt());
+      updatedAt[size] = micros(user.updatedAt());
+      nameOffsets[size] = textSize;
+      appendText(name.getBytes(StandardCharsets.UTF_8));
+      emailOffsets[size] = textSize;
+      appendText(email.getBytes(StandardCharsets.UTF_8));
+      for (long gram : SearchGrams.ofFields(SearchGrams.normalize(name), SearchGrams.normalize(email))) {
+        postingLists.computeIfAbsent(gram, key -> new IntList()).add(size);
+      }
+      size++;
+      return this;
+    }
+
+    UserSearchSegment build() {
+      nameOffsets[size] = textSize;
+      long[] grams = postingLists.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+      int[] postingOffsets = new int[grams.length + 1];
+      for (int g = 0; g < grams.length; g++) {
+        postingOffsets[g + 1] = postingOffsets[g] + postingLists.get(grams[g]).size;
+      }
+      int[] postings = new int[postingOffsets[grams.length]];
+      for (int g = 0; g < grams.length; g++) {
+        IntList list = postingLists.get(grams[g]);
+        System.arraycopy(list.values, 0, postings, postingOffsets[g], list.size);
+      }
+
+      return new UserSearchSegment(
+              Arrays.copyOf(ids, size),
+              Arrays.copyOf(createdAt, size),
+              Arrays.copyOf(updatedAt, size),
+              Arrays.copyOf(nameOffsets, size + 1),
+              Arrays.copyOf(emailOffsets, size),
+              Arrays.copyOf(text, textSize),
+              grams,
+              postingOffsets,
+              postings);
+    }
+
+    private void appendText(byte[] bytes) {
+      if (textSize + bytes.length > text.length) {
+        text = Arrays.copyOf(text, Math.max(textSize + bytes.length, text.length + (text.length >> 1)));
+      }
+      System.arraycopy(bytes, 0, text, textSize, bytes.length);
+      textSize += bytes.length;
+    }
+  }
+
+  private static final class IntList {
+    private int[] values = new int[4];
+    private int size;
+
+    void add(int value) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, size * 2);
+      }
+      values[size++] = value;
+    }
+  }
+}
@@ -0,0 +1,43 @@
+package com.rlevi.studying_clean_architecture.infrastructure.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * {@code auth.rejections} counter per {@link Reason}, registered up front so counting a rejection
+ * is a map lookup and an increment.
+ */
+@Component
+@Profile("!reactive")
+public class AuthRejectionMetrics {
+
+  public enum Reason {
+    MISSING_CREDENTIALS,
+    MALFORMED_TOKEN,
+    INVALID_TOKEN,
+    EXPIRED_TOKEN,
+    UNKNOWN_USER,
+    ACCESS_DENIED
+  }
+
+  private final Map<Reason, Counter> counters = new EnumMap<>(Reason.class);
+
+  public AuthRejectionMetrics(MeterRegistry registry) {
+    for (Reason reason : Reason.values()) {
+      counters.put(reason, Counter.builder("auth.rejections")
+              .description("Requests rejected by authentication or authorization")
+              .tag("reason", reason.name().toLowerCase(Locale.ROOT))
+              .register(registry));
+    }
+  }
+
+  public void increment(Reason reason) {
+    counters.get(reason).increment();
+  }
+}
@@ -2,17 +2,28 @@ package com.rlevi.studying_clean_architecture.infrastructure.security;
 
 import com.rlevi.studying_clean_architecture.core.entities.User;
 import com.rlevi.studying_clean_architecture.core.gateway.UserGateway;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.util.Set;
+
 @Service
+@Profile("!reactive")
 public class CustomUserDetailsService implements UserDetailsService {
+  // Granted to the accounts in token-introspection.clients, the services allowed to introspect other users' tokens
+  public static final String TOKEN_INTROSPECTION_ROLE = "TOKEN_INTROSPECTION";
+
   private final UserGateway userGateway;
+  private final Set<String> introspectionClients;
 
-  public CustomUserDetailsService(UserGateway userGateway) {
+  public CustomUserDetailsService(UserGateway userGateway,
+                                  @Value("${token-introspection.clients:}") Set<String> introspectionClients) {
     this.userGateway = userGateway;
+    this.introspectionClients = introspectionClients;
   }
 
   @Override
@@ -22,9 +33,12 @@ public class CustomUserDetailsService implements UserDetailsService {
                     new UsernameNotFoundException("User not found with email: " + email)
             );
 
-    return org.springframework.security.core.userdetails.User.builder()
+    var userDetails = org.springframework.security.core.userdetails.User.builder()
             .username(user.email())
-            .password(user.passwordHash())
-            .build();
+            .password(user.passwordHash());
+    if (introspectionClients.contains(user.email())) {
+      userDetails.roles(TOKEN_INTROSPECTION_ROLE);
+    }
+    return userDetails.build();
   }
 }
@@ -1,52 +1,106 @@
 package com.rlevi.studying_clean_architecture.infrastructure.security;
 
+import com.rlevi.studying_clean_architecture.core.entities.TokenClaims;
+import com.rlevi.studying_clean_architecture.infrastructure.logging.AccessLogFilter;
+import com.rlevi.studying_clean_architecture.infrastructure.security.AuthRejectionMetrics.Reason;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Optional;
 
 @Component
+@Profile("!reactive")
 public class JwtFilter extends OncePerRequestFilter {
-  @Autowired
-  private JwtUtil jwtUtil;
+  private static final String BEARER_PREFIX = "Bearer ";
+  private static final String WWW_AUTHENTICATE = "Bearer error=\"invalid_token\"";
+  private static final byte[] INVALID_TOKEN_BODY =
+          "{\"error\":\"Invalid token\",\"message\":\"The access token is malformed, expired or not recognised.\",\"status\":401}"
+                  .getBytes(StandardCharsets.UTF_8);
 
-  @Autowired
-  private UserDetailsService userDetailsService;
+  private final JwtUtil jwtUtil;
+  private final UserDetailsService userDetailsService;
+  private final AuthRejectionMetrics rejectionMetrics;
+  private final RequestMatcher publicEndpoints;
+
+  public JwtFilter(JwtUtil jwtUtil, UserDetailsService userDetailsService, AuthRejectionMetrics rejectionMetrics,
+                   @Value("${spring.h2.console.enabled:false}") boolean h2ConsoleEnabled) {
+    this.jwtUtil = jwtUtil;
+    this.userDetailsService = userDetailsService;
+    this.rejectionMetrics = rejectionMetrics;
+    this.publicEndpoints = new OrRequestMatcher(PublicEndpoints.matchers(h2ConsoleEnabled));
+  }
+
+  // Public routes never look at the token, so a bad one must not get them rejected
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return publicEndpoints.matches(request);
+  }
 
   @Override
   protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
-    String authHeader = request.getHeader("Authorization");
+    String authHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
+
+    if (authHeader != null && authHeader.startsWith(BEARER_PREFIX)) {
+      // Garbage is turned away before any parsing or signature work
+      if (!TokenShape.isWellFormed(authHeader, BEARER_PREFIX.length())) {
+        reject(response, Reason.MALFORMED_TOKEN);
+        return;
+      }
 
-    if (authHeader != null && authHeader.startsWith("Bearer ")) {
-      String token = authHeader.substring(7);
+      Optional<TokenClaims> claims = jwtUtil.verify(authHeader.substring(BEARER_PREFIX.length()));
+      if (claims.isEmpty()) {
+        reject(response, Reason.INVALID_TOKEN);
+        return;
+      }
+      if (!claims.get().expiresAt().isAfter(Instant.now())) {
+        reject(response, Reason.EXPIRED_TOKEN);
+        return;
+      }
 
+      String username = claims.get().subject();
+      UserDetails userDetails;
       try {
-        String username = jwtUtil.extractUsername(token);
-        if (jwtUtil.validateToken(token, username)) {
-          UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-
-          UsernamePasswordAuthenticationToken authenticationToken =
-                  new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-
-          SecurityContextHolder.getContext().setAuthentication(authenticationToken);
-        }
-      } catch (Exception e) {
-        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-        response.setContentType("application/json");
-        response.getWriter().write("Invalid token");
+        userDetails = userDetailsService.loadUserByUsername(username);
+      } catch (UsernameNotFoundException e) {
+        reject(response, Reason.UNKNOWN_USER);
         return;
       }
+
+      UsernamePasswordAuthenticationToken authenticationToken =
+              new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+
+      SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+      MDC.put(AccessLogFilter.USER_EMAIL_KEY, username);
     }
 
     filterChain.doFilter(request, response);
   }
+
+  private void reject(HttpServletResponse response, Reason reason) throws IOException {
+    rejectionMetrics.increment(reason);
+    response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+    response.setHeader(HttpHeaders.WWW_AUTHENTICATE, WWW_AUTHENTICATE);
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    response.setContentLength(INVALID_TOKEN_BODY.length);
+    response.getOutputStream().write(INVALID_TOKEN_BODY);
+  }
 }
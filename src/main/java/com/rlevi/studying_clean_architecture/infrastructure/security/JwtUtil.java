@@ -1,7 +1,10 @@
 package com.rlevi.studying_clean_architecture.infrastructure.security;
 
+import com.rlevi.studying_clean_architecture.core.entities.TokenClaims;
 import com.rlevi.studying_clean_architecture.core.gateway.TokenGateway;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
@@ -11,6 +14,9 @@ import javax.crypto.SecretKey;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 
 @Component
 public class JwtUtil implements TokenGateway {
@@ -33,6 +39,7 @@ public class JwtUtil implements TokenGateway {
     Instant expirationTime = now.plus(expiration, ChronoUnit.MILLIS);
 
     return Jwts.builder()
+            .id(generateTokenId())
             .subject(username)
             .issuedAt(Date.from(now))
             .expiration(Date.from(expirationTime))
@@ -56,6 +63,23 @@ public class JwtUtil implements TokenGateway {
     return extractClaims(token).getExpiration().toInstant();
   }
 
+  @Override
+  public Optional<TokenClaims> verify(String token) {
+    Claims claims;
+    try {
+      claims = extractClaims(token);
+    } catch (ExpiredJwtException e) {
+      // Thrown only after the signature has been checked
+      claims = e.getClaims();
+    } catch (JwtException | IllegalArgumentException e) {
+      return Optional.empty();
+    }
+    if (claims.getSubject() == null || claims.getExpiration() == null) {
+      return Optional.empty();
+    }
+    return Optional.of(new TokenClaims(claims.getSubject(), claims.getExpiration().toInstant()));
+  }
+
 
   public Claims extractClaims(String token) {
     return Jwts.parser()
@@ -74,7 +98,11 @@ public class JwtUtil implements TokenGateway {
     return (extractedUsername.equals(username) && !isTokenExpired(token));
   }
 
+  // The jti only has to be unique, the signature already protects the token, so skip SecureRandom's per-call cost
   public String generateTokenId() {
-    return java.util.UUID.randomUUID().toString();
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    long mostSigBits = (random.nextLong() & ~0xF000L) | 0x4000L;
+    long leastSigBits = (random.nextLong() & ~(0x3L << 62)) | (0x2L << 62);
+    return new UUID(mostSigBits, leastSigBits).toString();
   }
 }
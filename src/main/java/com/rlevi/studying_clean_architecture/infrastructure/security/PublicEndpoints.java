@@ -0,0 +1,40 @@
+package com.rlevi.studying_clean_architecture.infrastructure.security;
+
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Paths open to anonymous callers. SecurityConfig permits them and JwtFilter does not run on them.
+ */
+final class PublicEndpoints {
+  private static final List<String> PATTERNS = List.of(
+          "/api/v1/auth/**",
+          "/error",
+          "/v3/api-docs/**",
+          "/swagger-ui/**",
+          "/swagger-ui.html",
+          "/actuator/health"
+  );
+  private static final String PROMETHEUS = "/actuator/prometheus";
+
+  private PublicEndpoints() {
+  }
+
+  static RequestMatcher[] matchers(boolean h2ConsoleEnabled) {
+    List<RequestMatcher> matchers = new ArrayList<>();
+    PATTERNS.forEach(pattern -> matchers.add(AntPathRequestMatcher.antMatcher(pattern)));
+    if (h2ConsoleEnabled) {
+      matchers.add(AntPathRequestMatcher.antMatcher("/h2-console/**"));
+    }
+    return matchers.toArray(RequestMatcher[]::new);
+  }
+
+  // The Prometheus scrape is only open on the separate management port, which is not published outside the host
+  static RequestMatcher prometheusScrape(int managementPort) {
+    RequestMatcher path = AntPathRequestMatcher.antMatcher(PROMETHEUS);
+    return request -> managementPort > 0 && request.getLocalPort() == managementPort && path.matches(request);
+  }
+}
@@ -6,6 +6,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
@@ -30,12 +31,16 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Configuration
+@Profile("!reactive")
 @EnableWebSecurity
 @EnableMethodSecurity
 public class SecurityConfig {
   @Value("${spring.h2.console.enabled:false}")
   private boolean h2ConsoleEnabled;
 
+  @Value("${management.server.port:-1}")
+  private int managementPort;
+
   @Autowired
   private CustomAcessDeniedHandler customAcessDeniedHandler;
 
@@ -58,18 +63,10 @@ public class SecurityConfig {
             .sessionManagement(session -> session
                     .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(authorize -> {
-                    authorize.requestMatchers(
-                            AntPathRequestMatcher.antMatcher("/api/v1/auth/**"),
-                            AntPathRequestMatcher.antMatcher("/error"),
-                            AntPathRequestMatcher.antMatcher("/v3/api-docs/**"),
-                            AntPathRequestMatcher.antMatcher("/swagger-ui/**"),
-                            AntPathRequestMatcher.antMatcher("/swagger-ui.html")
-                    ).permitAll();
-                    
-                    if (h2ConsoleEnabled) {
-                        authorize.requestMatchers(AntPathRequestMatcher.antMatcher("/h2-console/**")).permitAll();
-                    }
-                    
+                    authorize.requestMatchers(PublicEndpoints.matchers(h2ConsoleEnabled)).permitAll();
+                    authorize.requestMatchers(PublicEndpoints.prometheusScrape(managementPort)).permitAll();
+                    authorize.requestMatchers(AntPathRequestMatcher.antMatcher("/api/v1/tokens/**"))
+                            .hasRole(CustomUserDetailsService.TOKEN_INTROSPECTION_ROLE);
                     authorize.anyRequest().authenticated();
             })
             .exceptionHandling(ex -> ex.accessDeniedHandler(customAcessDeniedHandler)
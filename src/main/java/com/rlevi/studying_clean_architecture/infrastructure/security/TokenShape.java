@@ -0,0 +1,43 @@
+package com.rlevi.studying_clean_architecture.infrastructure.security;
+
+/**
+ * Structural checks a compact JWS must pass before it is worth verifying: three non-empty
+ * base64url segments within sane length bounds. Runs in a single pass without allocating.
+ */
+public final class TokenShape {
+  // The smallest token JwtUtil can issue is well above this: ~150 characters of header and payload plus a 43+ character signature
+  static final int MIN_LENGTH = 100;
+  static final int MAX_LENGTH = 4096;
+
+  private TokenShape() {
+  }
+
+  // Checks the token that starts at offset, so a header value can be checked without cutting off its prefix first
+  public static boolean isWellFormed(String value, int offset) {
+    int length = value.length() - offset;
+    if (length < MIN_LENGTH || length > MAX_LENGTH) {
+      return false;
+    }
+
+    int dots = 0;
+    int segmentLength = 0;
+    for (int i = offset; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == '.') {
+        if (segmentLength == 0 || ++dots > 2) {
+          return false;
+        }
+        segmentLength = 0;
+      } else if (isBase64Url(c)) {
+        segmentLength++;
+      } else {
+        return false;
+      }
+    }
+    return dots == 2 && segmentLength > 0;
+  }
+
+  private static boolean isBase64Url(char c) {
+    return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '-' || c == '_';
+  }
+}
@@ -0,0 +1,98 @@
+package com.rlevi.studying_clean_architecture.infrastructure.tracing;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Appends finished spans to a local file, one JSON object per line, so traces can be inspected
+ * without running a collector.
+ * <p>
+ * Called from the OpenTelemetry batch processor thread, never from request threads.
+ */
+public class FileSpanExporter implements SpanExporter {
+  private final JsonFactory jsonFactory = new JsonFactory();
+  private final Writer writer;
+
+  public FileSpanExporter(Path path) {
+    try {
+      Path parent = path.toAbsolutePath().getParent();
+      if (parent != null) {
+        Files.createDirectories(parent);
+      }
+      this.writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+              StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not open span file " + path, e);
+    }
+  }
+
+  @Override
+  public synchronized CompletableResultCode export(Collection<SpanData> spans) {
+    try {
+      for (SpanData span : spans) {
+        write(span);
+      }
+      writer.flush();
+      return CompletableResultCode.ofSuccess();
+    } catch (IOException e) {
+      return CompletableResultCode.ofFailure();
+    }
+  }
+
+  private void write(SpanData span) throws IOException {
+    JsonGenerator json = jsonFactory.createGenerator(writer);
+    json.writeStartObject();
+    json.writeStringField("traceId", span.getTraceId());
+    json.writeStringField("spanId", span.getSpanId());
+    if (span.getParentSpanContext().isValid()) {
+      json.writeStringField("parentSpanId", span.getParentSpanId());
+    }
+    json.writeStringField("name", span.getName());
+    json.writeStringField("kind", span.getKind().name());
+    json.writeNumberField("startEpochNanos", span.getStartEpochNanos());
+    json.writeNumberField("durationMicros", (span.getEndEpochNanos() - span.getStartEpochNanos()) / 1000);
+    json.writeStringField("status", span.getStatus().getStatusCode().name());
+    json.writeObjectFieldStart("attributes");
+    for (Map.Entry<AttributeKey<?>, Object> attribute : span.getAttributes().asMap().entrySet()) {
+      json.writeStringField(attribute.getKey().getKey(), String.valueOf(attribute.getValue()));
+    }
+    json.writeEndObject();
+    json.writeEndObject();
+    json.flush();
+    writer.write('\n');
+  }
+
+  @Override
+  public synchronized CompletableResultCode flush() {
+    try {
+      writer.flush();
+      return CompletableResultCode.ofSuccess();
+    } catch (IOException e) {
+      return CompletableResultCode.ofFailure();
+    }
+  }
+
+  @Override
+  public synchronized CompletableResultCode shutdown() {
+    try {
+      writer.close();
+      return CompletableResultCode.ofSuccess();
+    } catch (IOException e) {
+      return CompletableResultCode.ofFailure();
+    }
+  }
+}
@@ -0,0 +1,20 @@
+package com.rlevi.studying_clean_architecture.infrastructure.tracing;
+
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+@Configuration
+public class TracingConfiguration {
+
+  // Picked up by Spring Boot's OpenTelemetry auto-configuration and fed through its batch span processor
+  @Bean
+  @ConditionalOnProperty(name = "tracing.file-exporter.enabled", havingValue = "true")
+  public SpanExporter fileSpanExporter(@Value("${tracing.file-exporter.path}") String path) {
+    return new FileSpanExporter(Path.of(path));
+  }
+}
@@ -0,0 +1,2 @@
+-- Trigram operator classes for the user search indexes (V8)
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
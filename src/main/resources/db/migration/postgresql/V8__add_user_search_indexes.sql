@@ -0,0 +1,10 @@
+-- Indexes for GET /api/v1/users/search, which matches LOWER(name) / LOWER(email) with LIKE.
+-- CONCURRENTLY keeps users writable while they build; Flyway runs this migration outside a transaction.
+
+-- Prefix matches ('abc%'), used for queries shorter than three characters
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_lower_name_prefix ON users (LOWER(name) text_pattern_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_lower_email_prefix ON users (LOWER(email) text_pattern_ops);
+
+-- Substring matches ('%abc%')
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_lower_name_trgm ON users USING GIN (LOWER(name) gin_trgm_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_lower_email_trgm ON users USING GIN (LOWER(email) gin_trgm_ops);
@@ -0,0 +1,100 @@
+package com.rlevi.studying_clean_architecture.infrastructure.reactive.beans;
+
+import com.rlevi.studying_clean_architecture.core.gateway.PasswordEncoderGateway;
+import com.rlevi.studying_clean_architecture.core.gateway.TokenGateway;
+import com.rlevi.studying_clean_architecture.infrastructure.gateway.BCryptPasswordEncoderGateway;
+import com.rlevi.studying_clean_architecture.infrastructure.reactive.gateway.ReactivePasswordEncoderGateway;
+import com.rlevi.studying_clean_architecture.infrastructure.reactive.gateway.ReactiveRefreshTokenGateway;
+import com.rlevi.studying_clean_architecture.infrastructure.reactive.gateway.ReactiveUserGateway;
+import com.rlevi.studying_clean_architecture.infrastructure.reactive.gateway.SchedulerPasswordEncoderGateway;
+import com.rlevi.studying_clean_architecture.infrastructure.reactive.usecases.createuser.ReactiveCreateUserUseCase;
+import com.rlevi.studying_clean_architecture.infrastructure.reactive.usecases.createuser.ReactiveCreateUserUseCaseImpl;
+import com.rlevi.studying_clean_architecture.infrastructure.reactive.usecases.deleteuser.ReactiveDeleteUserUseCase;
+import com.rlevi.studying_clean_architecture.infrastructure.reactive.usecases.deleteuser.ReactiveDeleteUserUseCaseImpl;
+import com.rlevi.studying_clean_architecture.infrastructure.reactive.usecases.findallusers.ReactiveFindAllUsersUseCase;
+import com.rlevi.studying_clean_architecture.infrastructure.reactive.usecases.findallusers.ReactiveFindAllUsersUseCaseImpl;
+import com.rlevi.studying_clean_architecture.infrastructure.reactive.usecases.finduserbyemail.ReactiveFindUserByEmailUseCase;
+import com.rlevi.studying_clean_architecture.infrastructure.reactive.usecases.finduserbyemail.ReactiveFindUserByEmailUseCaseImpl;
+import com.rlevi.studying_clean_architecture.infrastructure.reactive.usecases.finduserbyid.ReactiveFindUserByIdUseCase;
+import com.rlevi.studying_clean_architecture.infrastructure.reactive.usecases.finduserbyid.ReactiveFindUserByIdUseCaseImpl;
+import com.rlevi.studying_clean_architecture.infrastructure.reactive.usecases.loginuser.ReactiveLoginUserUseCase;
+import com.rlevi.studying_clean_architecture.infrastructure.reactive.usecases.loginuser.ReactiveLoginUserUseCaseImpl;
+import com.rlevi.studying_clean_architecture.infrastructure.reactive.usecases.refreshtoken.ReactiveRefreshTokenUseCase;
+import com.rlevi.studying_clean_architecture.infrastructure.reactive.usecases.refreshtoken.ReactiveRefreshTokenUseCaseImpl;
+import com.rlevi.studying_clean_architecture.infrastructure.reactive.usecases.updateuser.ReactiveUpdateUserUseCase;
+import com.rlevi.studying_clean_architecture.infrastructure.reactive.usecases.updateuser.ReactiveUpdateUserUseCaseImpl;
+import com.rlevi.studying_clean_architecture.infrastructure.reactive.usecases.verifyexistsbyemail.ReactiveVerifyExistsByEmailUseCase;
+import com.rlevi.studying_clean_architecture.infrastructure.reactive.usecases.verifyexistsbyemail.ReactiveVerifyExistsByEmailUseCaseImpl;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.r2dbc.repository.config.EnableR2dbcRepositories;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+@Configuration
+@Profile("reactive")
+@EnableR2dbcRepositories(basePackages = "com.rlevi.studying_clean_architecture.infrastructure.reactive.persistence")
+public class ReactiveBeanConfiguration {
+
+  // Tomcat is also on the classpath for the servlet stack; Netty's event loop is what keeps the thread count small
+  @Bean
+  public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+    return new NettyReactiveWebServerFactory();
+  }
+
+  @Bean
+  public ReactiveCreateUserUseCase reactiveCreateUserUseCase(ReactiveUserGateway userGateway, ReactivePasswordEncoderGateway passwordEncoderGateway, TokenGateway tokenGateway, ReactiveRefreshTokenGateway refreshTokenGateway) {
+    return new ReactiveCreateUserUseCaseImpl(userGateway, passwordEncoderGateway, tokenGateway, refreshTokenGateway);
+  }
+
+  @Bean
+  public ReactiveLoginUserUseCase reactiveLoginUserUseCase(ReactiveUserGateway userGateway, ReactivePasswordEncoderGateway passwordEncoderGateway, ReactiveRefreshTokenGateway refreshTokenGateway, TokenGateway tokenGateway) {
+    return new ReactiveLoginUserUseCaseImpl(userGateway, passwordEncoderGateway, refreshTokenGateway, tokenGateway);
+  }
+
+  @Bean
+  public ReactiveUpdateUserUseCase reactiveUpdateUserUseCase(ReactiveUserGateway userGateway, ReactivePasswordEncoderGateway passwordEncoderGateway) {
+    return new ReactiveUpdateUserUseCaseImpl(userGateway, passwordEncoderGateway);
+  }
+
+  @Bean
+  public ReactiveFindUserByIdUseCase reactiveFindUserByIdUseCase(ReactiveUserGateway userGateway) {
+    return new ReactiveFindUserByIdUseCaseImpl(userGateway);
+  }
+
+  @Bean
+  public ReactiveFindUserByEmailUseCase reactiveFindUserByEmailUseCase(ReactiveUserGateway userGateway) {
+    return new ReactiveFindUserByEmailUseCaseImpl(userGateway);
+  }
+
+  @Bean
+  public ReactiveFindAllUsersUseCase reactiveFindAllUsersUseCase(ReactiveUserGateway userGateway) {
+    return new ReactiveFindAllUsersUseCaseImpl(userGateway);
+  }
+
+  @Bean
+  public ReactiveVerifyExistsByEmailUseCase reactiveVerifyExistsByEmailUseCase(ReactiveUserGateway userGateway) {
+    return new ReactiveVerifyExistsByEmailUseCaseImpl(userGateway);
+  }
+
+  @Bean
+  public ReactiveDeleteUserUseCase reactiveDeleteUserUseCase(ReactiveUserGateway userGateway) {
+    return new ReactiveDeleteUserUseCaseImpl(userGateway);
+  }
+
+  @Bean
+  public ReactiveRefreshTokenUseCase reactiveRefreshTokenUseCase(ReactiveUserGateway userGateway, TokenGateway tokenGateway, ReactiveRefreshTokenGateway refreshTokenGateway) {
+    return new ReactiveRefreshTokenUseCaseImpl(userGateway, tokenGateway, refreshTokenGateway);
+  }
+
+  @Bean
+  public ReactivePasswordEncoderGateway reactivePasswordEncoderGateway(
+          PasswordEncoder passwordEncoder,
+          @Value("${password-encoder.executor.pool-size:0}") int poolSize) {
+    PasswordEncoderGateway passwordEncoderGateway = new BCryptPasswordEncoderGateway(passwordEncoder);
+    int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+    return new SchedulerPasswordEncoderGateway(passwordEncoderGateway, threads);
+  }
+}
@@ -0,0 +1,45 @@
+package com.rlevi.studying_clean_architecture.infrastructure.reactive.exception;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.web.server.authorization.ServerAccessDeniedHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Component
+@Profile("reactive")
+public class ReactiveAccessDeniedHandler implements ServerAccessDeniedHandler {
+  private final ObjectMapper objectMapper;
+
+  public ReactiveAccessDeniedHandler(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  public Mono<Void> handle(ServerWebExchange exchange, AccessDeniedException denied) {
+    Map<String, Object> responseBody = new HashMap<>();
+    responseBody.put("error", "Access denied");
+    responseBody.put("message", "You do not have permission to access this resource.");
+    responseBody.put("path", exchange.getRequest().getPath().value());
+
+    return Mono.defer(() -> {
+      try {
+        DataBuffer buffer = exchange.getResponse().bufferFactory().wrap(objectMapper.writeValueAsBytes(responseBody));
+        exchange.getResponse().setStatusCode(HttpStatus.FORBIDDEN);
+        exchange.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        return exchange.getResponse().writeWith(Mono.just(buffer));
+      } catch (JsonProcessingException e) {
+        return Mono.error(e);
+      }
+    });
+  }
+}
@@ -0,0 +1,45 @@
+package com.rlevi.studying_clean_architecture.infrastructure.reactive.exception;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.server.ServerAuthenticationEntryPoint;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Component
+@Profile("reactive")
+public class ReactiveAuthenticationEntryPoint implements ServerAuthenticationEntryPoint {
+  private final ObjectMapper objectMapper;
+
+  public ReactiveAuthenticationEntryPoint(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  public Mono<Void> commence(ServerWebExchange exchange, AuthenticationException ex) {
+    Map<String, Object> responseBody = new HashMap<>();
+    responseBody.put("error", "Not authenticated");
+    responseBody.put("message", "You need to be logged in to access this feature.");
+    responseBody.put("status", 401);
+
+    return Mono.defer(() -> {
+      try {
+        DataBuffer buffer = exchange.getResponse().bufferFactory().wrap(objectMapper.writeValueAsBytes(responseBody));
+        exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
+        exchange.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        return exchange.getResponse().writeWith(Mono.just(buffer));
+      } catch (JsonProcessingException e) {
+        return Mono.error(e);
+      }
+    });
+  }
+}
@@ -0,0 +1,111 @@
+package com.rlevi.studying_clean_architecture.infrastructure.reactive.exception;
+
+import com.rlevi.studying_clean_architecture.core.exception.InvalidRefreshTokenException;
+import com.rlevi.studying_clean_architecture.core.exception.UserNotFoundException;
+import com.rlevi.studying_clean_architecture.infrastructure.dto.ErrorResponse;
+import com.rlevi.studying_clean_architecture.infrastructure.dto.ErrorValidation;
+import com.rlevi.studying_clean_architecture.infrastructure.exception.AuthenticationException;
+import com.rlevi.studying_clean_architecture.infrastructure.exception.BusinessException;
+import com.rlevi.studying_clean_architecture.infrastructure.exception.DuplicateResourceException;
+import com.rlevi.studying_clean_architecture.infrastructure.exception.ResourceNotFoundException;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * WebFlux counterpart of {@link com.rlevi.studying_clean_architecture.infrastructure.exception.GlobalExceptionHandler}.
+ */
+@RestControllerAdvice
+@Profile("reactive")
+public class ReactiveGlobalExceptionHandler {
+
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleRecurseNotFound(
+            ResourceNotFoundException ex, ServerHttpRequest request) {
+        return error(HttpStatus.NOT_FOUND, "Resource Not Found", ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(UserNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleUserNotFound(
+            UserNotFoundException ex, ServerHttpRequest request) {
+        return error(HttpStatus.NOT_FOUND, "Resource Not Found", ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(DuplicateResourceException.class)
+    public ResponseEntity<ErrorResponse> handleDuplicateResource(
+            DuplicateResourceException ex, ServerHttpRequest request) {
+        return error(HttpStatus.CONFLICT, "Duplicate Resource", ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(BusinessException.class)
+    public ResponseEntity<ErrorResponse> handleBusinessException(
+            BusinessException ex, ServerHttpRequest request) {
+        return error(HttpStatus.BAD_REQUEST, "Business Error", ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(BadCredentialsException.class)
+    public ResponseEntity<ErrorResponse> handleBadCredentialsException(
+            BadCredentialsException ex, ServerHttpRequest request) {
+        return error(HttpStatus.UNAUTHORIZED, "Authentication Failed", "Invalid email or password", request);
+    }
+
+    @ExceptionHandler(AuthenticationException.class)
+    public ResponseEntity<ErrorResponse> handleAuthenticationException(
+            AuthenticationException ex, ServerHttpRequest request) {
+        return error(HttpStatus.UNAUTHORIZED, "Authentication Failed", ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ErrorValidation> handleWebExchangeBind(
+            WebExchangeBindException ex, ServerHttpRequest request) {
+
+        Map<String, String> fieldErrors = new HashMap<>();
+        ex.getBindingResult().getFieldErrors()
+                .forEach(error -> fieldErrors.put(error.getField(), error.getDefaultMessage()));
+
+        ErrorValidation errorValidation = new ErrorValidation(
+                LocalDateTime.now(),
+                HttpStatus.BAD_REQUEST.value(),
+                "Validation Error",
+                "Invalid input data",
+                request.getPath().value(),
+                fieldErrors
+        );
+
+        return new ResponseEntity<>(errorValidation, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(InvalidRefreshTokenException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidRefreshToken(
+            InvalidRefreshTokenException ex, ServerHttpRequest request) {
+        return error(HttpStatus.UNAUTHORIZED, "Invalid Refresh Token", "Invalid or expired refresh token", request);
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponse> handleGenericException(
+            Exception ex, ServerHttpRequest request) {
+        return error(HttpStatus.INTERNAL_SERVER_ERROR, "Internal Server Error",
+                "An unexpected error occurred. Please try again later.", request);
+    }
+
+    private ResponseEntity<ErrorResponse> error(HttpStatus status, String error, String message, ServerHttpRequest request) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                LocalDateTime.now(),
+                status.value(),
+                error,
+                message,
+                request.getPath().value()
+        );
+
+        return new ResponseEntity<>(errorResponse, status);
+    }
+}
@@ -0,0 +1,87 @@
+package com.rlevi.studying_clean_architecture.infrastructure.reactive.gateway;
+
+import com.rlevi.studying_clean_architecture.core.entities.RefreshToken;
+import com.rlevi.studying_clean_architecture.core.exception.InvalidRefreshTokenException;
+import com.rlevi.studying_clean_architecture.infrastructure.reactive.mapper.ReactiveRefreshTokenMapper;
+import com.rlevi.studying_clean_architecture.infrastructure.reactive.persistence.ReactiveRefreshTokenEntity;
+import com.rlevi.studying_clean_architecture.infrastructure.reactive.persistence.ReactiveRefreshTokenRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+@Component
+@Profile("reactive")
+@Transactional
+public class R2dbcRefreshTokenGateway implements ReactiveRefreshTokenGateway {
+  private final ReactiveRefreshTokenRepository refreshTokenRepository;
+  private final ReactiveRefreshTokenMapper refreshTokenMapper;
+
+  public R2dbcRefreshTokenGateway(ReactiveRefreshTokenRepository refreshTokenRepository, ReactiveRefreshTokenMapper refreshTokenMapper) {
+    this.refreshTokenRepository = refreshTokenRepository;
+    this.refreshTokenMapper = refreshTokenMapper;
+  }
+
+  @Override
+  public Mono<RefreshToken> save(RefreshToken refreshToken) {
+    ReactiveRefreshTokenEntity entity = refreshTokenMapper.toEntity(refreshToken);
+    if (entity.getCreatedAt() == null) {
+      entity.setCreatedAt(Instant.now());
+    }
+
+    return refreshTokenRepository.save(entity)
+            .map(refreshTokenMapper::toDomain);
+  }
+
+  @Override
+  public Mono<RefreshToken> findByToken(String token) {
+    return refreshTokenRepository.findByToken(token)
+            .map(refreshTokenMapper::toDomain);
+  }
+
+  @Override
+  public Mono<RefreshToken> findByTokenAndRevokedFalse(String token) {
+    return refreshTokenRepository.findByTokenAndRevokedFalse(token)
+            .map(refreshTokenMapper::toDomain);
+  }
+
+  @Override
+  public Flux<RefreshToken> findByUserId(Long userId) {
+    return refreshTokenRepository.findByUserId(userId)
+            .map(refreshTokenMapper::toDomain);
+  }
+
+  @Override
+  public Mono<Void> revokeByToken(String token, String replacementToken) {
+    return refreshTokenRepository.revokeAndReplaceByTokenIfNotRevoked(token, replacementToken)
+            .flatMap(updatedRows -> {
+              if (updatedRows == 0) {
+                return Mono.error(new InvalidRefreshTokenException("Refresh token already revoked"));
+              }
+
+              return Mono.empty();
+            });
+  }
+
+  @Override
+  public Mono<Void> deleteByUserId(Long userId) {
+    return refreshTokenRepository.deleteByUserId(userId).then();
+  }
+
+  @Override
+  public Mono<RefreshToken> rotate(String oldToken, RefreshToken newRefreshToken) {
+    // Check if old token is valid (exists and not revoked) first
+    // This prevents creating a new token when the old one is already invalid
+    return findByTokenAndRevokedFalse(oldToken)
+            .switchIfEmpty(Mono.error(() -> new InvalidRefreshTokenException("Refresh token already revoked or invalid")))
+            // Save the new token first (required for foreign key constraint)
+            .flatMap(existingToken -> save(newRefreshToken))
+            // Atomically revoke the old token with the replacement link
+            // A concurrent refresh might revoke first; in that case revokeByToken fails.
+            .flatMap(savedRefreshToken -> revokeByToken(oldToken, savedRefreshToken.token())
+                    .thenReturn(savedRefreshToken));
+  }
+}
@@ -0,0 +1,107 @@
+package com.rlevi.studying_clean_architecture.infrastructure.reactive.gateway;
+
+import com.rlevi.studying_clean_architecture.core.entities.User;
+import com.rlevi.studying_clean_architecture.core.exception.UserNotFoundException;
+import com.rlevi.studying_clean_architecture.infrastructure.reactive.mapper.ReactiveUserMapper;
+import com.rlevi.studying_clean_architecture.infrastructure.reactive.persistence.ReactiveUserEntity;
+import com.rlevi.studying_clean_architecture.infrastructure.reactive.persistence.ReactiveUserRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+@Component
+@Profile("reactive")
+public class R2dbcUserGateway implements ReactiveUserGateway {
+  private final ReactiveUserRepository userRepository;
+  private final ReactiveUserMapper userMapper;
+
+  public R2dbcUserGateway(ReactiveUserRepository userRepository, ReactiveUserMapper userMapper) {
+    this.userRepository = userRepository;
+    this.userMapper = userMapper;
+  }
+
+  @Override
+  public Mono<User> createUser(User user) {
+    ReactiveUserEntity userEntity = userMapper.toEntity(user);
+    // There is no Hibernate here to fill the timestamps
+    Instant now = Instant.now();
+    userEntity.setCreatedAt(now);
+    userEntity.setUpdatedAt(now);
+
+    return userRepository.save(userEntity)
+            .map(userMapper::toDomain);
+  }
+
+  @Override
+  public Mono<User> updateUser(User user) {
+    if (user.id() == null) {
+      return Mono.error(new UserNotFoundException("User not found"));
+    }
+
+    return userRepository.existsById(user.id())
+            .flatMap(exists -> {
+              if (!exists) {
+                return Mono.error(new UserNotFoundException("User not found"));
+              }
+
+              ReactiveUserEntity userEntity = userMapper.toEntity(user);
+              userEntity.setUpdatedAt(Instant.now());
+              return userRepository.save(userEntity);
+            })
+            .map(userMapper::toDomain);
+  }
+
+  @Override
+  public Mono<User> findUserById(Long id) {
+    if (id == null) {
+      return Mono.empty();
+    }
+
+    return userRepository.findById(id)
+            .map(userMapper::toDomain);
+  }
+
+  @Override
+  public Mono<User> findUserByEmail(String email) {
+    if (email == null || email.isBlank()) {
+      return Mono.empty();
+    }
+
+    return userRepository.findByEmail(email)
+            .map(userMapper::toDomain);
+  }
+
+  @Override
+  public Flux<User> findAllUsers() {
+    return userRepository.findAll()
+            .map(userMapper::toDomain);
+  }
+
+  @Override
+  public Mono<Boolean> verifyExistsByEmail(String email) {
+    if (email == null || email.isBlank()) {
+      return Mono.just(false);
+    }
+
+    return userRepository.existsByEmail(email);
+  }
+
+  @Override
+  public Mono<Void> deleteUser(Long id) {
+    if (id == null) {
+      return Mono.error(new UserNotFoundException("User not found"));
+    }
+
+    return userRepository.existsById(id)
+            .flatMap(exists -> {
+              if (!exists) {
+                return Mono.error(new UserNotFoundException("User not found"));
+              }
+
+              return userRepository.deleteById(id);
+            });
+  }
+}
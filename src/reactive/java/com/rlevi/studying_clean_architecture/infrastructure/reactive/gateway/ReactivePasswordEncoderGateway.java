@@ -0,0 +1,8 @@
+package com.rlevi.studying_clean_architecture.infrastructure.reactive.gateway;
+
+import reactor.core.publisher.Mono;
+
+public interface ReactivePasswordEncoderGateway {
+    Mono<String> encode(String rawPassword);
+    Mono<Boolean> matches(String rawPassword, String encodedPassword);
+}
@@ -0,0 +1,15 @@
+package com.rlevi.studying_clean_architecture.infrastructure.reactive.gateway;
+
+import com.rlevi.studying_clean_architecture.core.entities.RefreshToken;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveRefreshTokenGateway {
+  Mono<RefreshToken> save(RefreshToken refreshToken);
+  Mono<RefreshToken> findByToken(String token);
+  Mono<RefreshToken> findByTokenAndRevokedFalse(String token);
+  Flux<RefreshToken> findByUserId(Long userId);
+  Mono<Void> revokeByToken(String token, String replacementToken);
+  Mono<Void> deleteByUserId(Long userId);
+  Mono<RefreshToken> rotate(String oldToken, RefreshToken newRefreshToken);
+}
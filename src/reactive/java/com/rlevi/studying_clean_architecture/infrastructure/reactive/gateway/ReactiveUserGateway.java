@@ -0,0 +1,15 @@
+package com.rlevi.studying_clean_architecture.infrastructure.reactive.gateway;
+
+import com.rlevi.studying_clean_architecture.core.entities.User;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveUserGateway {
+  Mono<User> createUser(User user);
+  Mono<User> updateUser(User user);
+  Mono<User> findUserById(Long id);
+  Mono<User> findUserByEmail(String email);
+  Flux<User> findAllUsers();
+  Mono<Boolean> verifyExistsByEmail(String email);
+  Mono<Void> deleteUser(Long id);
+}
@@ -0,0 +1,37 @@
+package com.rlevi.studying_clean_architecture.infrastructure.reactive.gateway;
+
+import com.rlevi.studying_clean_architecture.core.gateway.PasswordEncoderGateway;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Runs the blocking, CPU-bound password encoder on a dedicated scheduler so it never executes on the event loop.
+ */
+public class SchedulerPasswordEncoderGateway implements ReactivePasswordEncoderGateway, AutoCloseable {
+
+    private final PasswordEncoderGateway delegate;
+    private final Scheduler scheduler;
+
+    public SchedulerPasswordEncoderGateway(PasswordEncoderGateway delegate, int poolSize) {
+        this.delegate = delegate;
+        this.scheduler = Schedulers.newParallel("password-hasher", poolSize);
+    }
+
+    @Override
+    public Mono<String> encode(String rawPassword) {
+        return Mono.fromCallable(() -> delegate.encode(rawPassword))
+                .subscribeOn(scheduler);
+    }
+
+    @Override
+    public Mono<Boolean> matches(String rawPassword, String encodedPassword) {
+        return Mono.fromCallable(() -> delegate.matches(rawPassword, encodedPassword))
+                .subscribeOn(scheduler);
+    }
+
+    @Override
+    public void close() {
+        scheduler.dispose();
+    }
+}
@@ -0,0 +1,34 @@
+package com.rlevi.studying_clean_architecture.infrastructure.reactive.mapper;
+
+import com.rlevi.studying_clean_architecture.core.entities.RefreshToken;
+import com.rlevi.studying_clean_architecture.infrastructure.reactive.persistence.ReactiveRefreshTokenEntity;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+@Component
+@Profile("reactive")
+public class ReactiveRefreshTokenMapper {
+  public RefreshToken toDomain(ReactiveRefreshTokenEntity entity) {
+    return new RefreshToken(
+            entity.getId(),
+            entity.getToken(),
+            entity.getUserId(),
+            entity.getExpiryDate(),
+            entity.getCreatedAt(),
+            entity.isRevoked(),
+            entity.getReplacedByToken()
+    );
+  }
+
+  public ReactiveRefreshTokenEntity toEntity(RefreshToken refreshToken) {
+    return new ReactiveRefreshTokenEntity(
+            refreshToken.id(),
+            refreshToken.token(),
+            refreshToken.userId(),
+            refreshToken.expiryDate(),
+            refreshToken.createdAt(),
+            refreshToken.revoked(),
+            refreshToken.replacedByToken()
+    );
+  }
+}
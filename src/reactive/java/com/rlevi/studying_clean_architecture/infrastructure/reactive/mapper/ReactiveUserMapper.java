@@ -0,0 +1,39 @@
+package com.rlevi.studying_clean_architecture.infrastructure.reactive.mapper;
+
+import com.rlevi.studying_clean_architecture.core.entities.User;
+import com.rlevi.studying_clean_architecture.infrastructure.reactive.persistence.ReactiveUserEntity;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+@Component
+@Profile("reactive")
+public class ReactiveUserMapper {
+
+    /**
+     * Converts from User domain entity to ReactiveUserEntity
+     */
+    public ReactiveUserEntity toEntity(User user) {
+        return new ReactiveUserEntity(
+                user.id(),
+                user.name(),
+                user.email(),
+                user.passwordHash(),
+                user.createdAt(),
+                user.updatedAt()
+        );
+    }
+
+    /**
+     * Converts from ReactiveUserEntity to User domain entity
+     */
+    public User toDomain(ReactiveUserEntity entity) {
+        return new User(
+                entity.getId(),
+                entity.getEmail(),
+                entity.getName(),
+                entity.getPasswordHash(),
+                entity.getCreatedAt(),
+                entity.getUpdatedAt()
+        );
+    }
+}
@@ -0,0 +1,35 @@
+package com.rlevi.studying_clean_architecture.infrastructure.reactive.persistence;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.Instant;
+
+@Table("refresh_tokens")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReactiveRefreshTokenEntity {
+
+  @Id
+  private Long id;
+
+  private String token;
+
+  @Column("user_id")
+  private Long userId;
+
+  @Column("expiry_date")
+  private Instant expiryDate;
+
+  @Column("created_at")
+  private Instant createdAt;
+
+  private boolean revoked;
+
+  @Column("replaced_by_token")
+  private String replacedByToken;
+}
@@ -0,0 +1,22 @@
+package com.rlevi.studying_clean_architecture.infrastructure.reactive.persistence;
+
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveRefreshTokenRepository extends R2dbcRepository<ReactiveRefreshTokenEntity, Long> {
+  Mono<ReactiveRefreshTokenEntity> findByToken(String token);
+  Mono<ReactiveRefreshTokenEntity> findByTokenAndRevokedFalse(String token);
+  Flux<ReactiveRefreshTokenEntity> findByUserId(Long userId);
+
+  @Modifying
+  @Query("DELETE FROM refresh_tokens WHERE user_id = :userId")
+  Mono<Integer> deleteByUserId(@Param("userId") Long userId);
+
+  @Modifying
+  @Query("UPDATE refresh_tokens SET revoked = TRUE, replaced_by_token = :replacementToken WHERE token = :token AND revoked = FALSE")
+  Mono<Integer> revokeAndReplaceByTokenIfNotRevoked(@Param("token") String token, @Param("replacementToken") String replacementToken);
+}
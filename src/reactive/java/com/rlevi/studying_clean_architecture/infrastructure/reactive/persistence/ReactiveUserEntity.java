@@ -0,0 +1,31 @@
+package com.rlevi.studying_clean_architecture.infrastructure.reactive.persistence;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.Instant;
+
+@Table("users")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReactiveUserEntity {
+  @Id
+  private Long id;
+
+  private String name;
+
+  private String email;
+
+  @Column("password_hash")
+  private String passwordHash;
+
+  @Column("created_at")
+  private Instant createdAt;
+
+  @Column("updated_at")
+  private Instant updatedAt;
+}
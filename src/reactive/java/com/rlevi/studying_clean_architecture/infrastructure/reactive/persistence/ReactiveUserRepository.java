@@ -0,0 +1,9 @@
+package com.rlevi.studying_clean_architecture.infrastructure.reactive.persistence;
+
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveUserRepository extends R2dbcRepository<ReactiveUserEntity, Long> {
+  Mono<ReactiveUserEntity> findByEmail(String email);
+  Mono<Boolean> existsByEmail(String email);
+}
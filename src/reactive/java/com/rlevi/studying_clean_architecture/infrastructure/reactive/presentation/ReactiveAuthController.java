@@ -0,0 +1,87 @@
+package com.rlevi.studying_clean_architecture.infrastructure.reactive.presentation;
+
+import com.rlevi.studying_clean_architecture.core.utils.LoggerUtils;
+import com.rlevi.studying_clean_architecture.infrastructure.dto.login.UserLoginRequest;
+import com.rlevi.studying_clean_architecture.infrastructure.dto.login.UserLoginResponse;
+import com.rlevi.studying_clean_architecture.infrastructure.dto.refreshtoken.RefreshTokenRequest;
+import com.rlevi.studying_clean_architecture.infrastructure.dto.refreshtoken.RefreshTokenResponse;
+import com.rlevi.studying_clean_architecture.infrastructure.dto.register.UserRegisterRequest;
+import com.rlevi.studying_clean_architecture.infrastructure.dto.register.UserRegisterResponse;
+import com.rlevi.studying_clean_architecture.infrastructure.mapper.UserMapper;
+import com.rlevi.studying_clean_architecture.infrastructure.reactive.usecases.createuser.ReactiveCreateUserUseCase;
+import com.rlevi.studying_clean_architecture.infrastructure.reactive.usecases.loginuser.ReactiveLoginUserUseCase;
+import com.rlevi.studying_clean_architecture.infrastructure.reactive.usecases.refreshtoken.ReactiveRefreshTokenUseCase;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1/auth")
+@Validated
+@Profile("reactive")
+@Tag(name = "01 - Authentication", description = "Endpoints for user registration, login, and token refresh")
+public class ReactiveAuthController {
+  private static final Logger logger = LoggerUtils.getLogger(ReactiveAuthController.class);
+
+  private final UserMapper userMapper;
+  private final ReactiveCreateUserUseCase createUserUseCase;
+  private final ReactiveLoginUserUseCase loginUserUseCase;
+  private final ReactiveRefreshTokenUseCase refreshTokenUseCase;
+
+  public ReactiveAuthController(UserMapper userMapper, ReactiveCreateUserUseCase createUserUseCase, ReactiveLoginUserUseCase loginUserUseCase, ReactiveRefreshTokenUseCase refreshTokenUseCase) {
+    this.userMapper = userMapper;
+    this.createUserUseCase = createUserUseCase;
+    this.loginUserUseCase = loginUserUseCase;
+    this.refreshTokenUseCase = refreshTokenUseCase;
+  }
+
+  // Create user
+  @PostMapping("/register")
+  @Operation(summary = "Register a new user", description = "Creates a new user account and returns authentication tokens")
+  public Mono<ResponseEntity<UserRegisterResponse>> registerUser(@Valid @RequestBody UserRegisterRequest request) {
+    return createUserUseCase.execute(userMapper.toDomain(request))
+            .map(authResult -> {
+              LoggerUtils.logSuccess(logger, "User registered successfully",
+                      Map.of("userId", authResult.user().id(), "email", authResult.user().email()));
+
+              return ResponseEntity.ok(UserRegisterResponse.success(authResult.accessToken(), authResult.refreshToken()));
+            });
+  }
+
+  // User login
+  @PostMapping("/login")
+  @Operation(summary = "Authenticate user", description = "Authenticates user credentials and returns JWT tokens")
+  public Mono<ResponseEntity<UserLoginResponse>> loginUser(@Valid @RequestBody UserLoginRequest request) {
+    return loginUserUseCase.execute(userMapper.toDomain(request))
+            .map(authResult -> {
+              LoggerUtils.logSuccess(logger, "User logged in successfully",
+                      Map.of("userId", authResult.user().id(), "email", authResult.user().email()));
+
+              return ResponseEntity.ok(UserLoginResponse.success(authResult.accessToken(), authResult.refreshToken()));
+            });
+  }
+
+  // Refresh token
+  @PostMapping("/refresh")
+  @Operation(summary = "Refresh access token", description = "Generates a new access token using a valid refresh token")
+  public Mono<ResponseEntity<RefreshTokenResponse>> refreshToken(@Valid @RequestBody RefreshTokenRequest request) {
+    return refreshTokenUseCase.execute(request.refreshToken())
+            .map(authResult -> {
+              LoggerUtils.logSuccess(logger, "Token refreshed successfully",
+                      Map.of("userId", authResult.user().id(), "email", authResult.user().email()));
+
+              return ResponseEntity.ok(RefreshTokenResponse.success(authResult.accessToken(), authResult.refreshToken()));
+            });
+  }
+}
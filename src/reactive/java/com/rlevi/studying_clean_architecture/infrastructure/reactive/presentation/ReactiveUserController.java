@@ -0,0 +1,149 @@
+package com.rlevi.studying_clean_architecture.infrastructure.reactive.presentation;
+
+import com.rlevi.studying_clean_architecture.core.entities.User;
+import com.rlevi.studying_clean_architecture.core.utils.LoggerUtils;
+import com.rlevi.studying_clean_architecture.infrastructure.dto.response.UserExistsResponse;
+import com.rlevi.studying_clean_architecture.infrastructure.dto.response.UserResponse;
+import com.rlevi.studying_clean_architecture.infrastructure.dto.update.UserUpdateRequest;
+import com.rlevi.studying_clean_architecture.infrastructure.mapper.UserMapper;
+import com.rlevi.studying_clean_architecture.infrastructure.reactive.usecases.deleteuser.ReactiveDeleteUserUseCase;
+import com.rlevi.studying_clean_architecture.infrastructure.reactive.usecases.findallusers.ReactiveFindAllUsersUseCase;
+import com.rlevi.studying_clean_architecture.infrastructure.reactive.usecases.finduserbyemail.ReactiveFindUserByEmailUseCase;
+import com.rlevi.studying_clean_architecture.infrastructure.reactive.usecases.finduserbyid.ReactiveFindUserByIdUseCase;
+import com.rlevi.studying_clean_architecture.infrastructure.reactive.usecases.updateuser.ReactiveUpdateUserUseCase;
+import com.rlevi.studying_clean_architecture.infrastructure.reactive.usecases.verifyexistsbyemail.ReactiveVerifyExistsByEmailUseCase;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotNull;
+import org.slf4j.Logger;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1/users")
+@Validated
+@Profile("reactive")
+@Tag(name = "02 - Users", description = "Endpoints for user management and information retrieval")
+@SecurityRequirement(name = "bearerAuth")
+public class ReactiveUserController {
+  private static final Logger logger = LoggerUtils.getLogger(ReactiveUserController.class);
+
+  private final ReactiveFindAllUsersUseCase findAllUsersUseCase;
+  private final ReactiveFindUserByIdUseCase findUserByIdUseCase;
+  private final ReactiveFindUserByEmailUseCase findUserByEmailUseCase;
+  private final ReactiveVerifyExistsByEmailUseCase verifyExistsByEmailUseCase;
+  private final ReactiveDeleteUserUseCase deleteUserUseCase;
+  private final ReactiveUpdateUserUseCase updateUserUseCase;
+  private final UserMapper userMapper;
+
+  public ReactiveUserController(
+          ReactiveFindAllUsersUseCase findAllUsersUseCase,
+          ReactiveFindUserByIdUseCase findUserByIdUseCase,
+          ReactiveFindUserByEmailUseCase findUserByEmailUseCase,
+          ReactiveVerifyExistsByEmailUseCase verifyExistsByEmailUseCase,
+          ReactiveDeleteUserUseCase deleteUserUseCase,
+          ReactiveUpdateUserUseCase updateUserUseCase,
+          UserMapper userMapper) {
+    this.findAllUsersUseCase = findAllUsersUseCase;
+    this.findUserByIdUseCase = findUserByIdUseCase;
+    this.findUserByEmailUseCase = findUserByEmailUseCase;
+    this.verifyExistsByEmailUseCase = verifyExistsByEmailUseCase;
+    this.deleteUserUseCase = deleteUserUseCase;
+    this.updateUserUseCase = updateUserUseCase;
+    this.userMapper = userMapper;
+  }
+
+  @GetMapping("/me")
+  @Operation(summary = "Get current user", description = "Retrieves the profile of the currently authenticated user")
+  public Mono<ResponseEntity<UserResponse>> getCurrentUser(@AuthenticationPrincipal UserDetails userDetails) {
+    String email = userDetails.getUsername();
+
+    return findUserByEmailUseCase.execute(email)
+            .map(user -> ResponseEntity.ok(userMapper.toResponse(user)))
+            .switchIfEmpty(Mono.fromSupplier(() -> {
+              LoggerUtils.logWarning(logger, "Authenticated user not found in database", Map.of("email", email));
+              return ResponseEntity.notFound().build();
+            }));
+  }
+
+  // Get all users
+  @GetMapping("/all")
+  @Operation(summary = "Get all users", description = "Retrieves a list of all registered users")
+  public Flux<UserResponse> getAllUsers() {
+    return findAllUsersUseCase.execute()
+            .map(userMapper::toResponse);
+  }
+
+  // Get user by id
+  @GetMapping("/{id}")
+  @Operation(summary = "Get user by ID", description = "Retrieves a specific user using their ID")
+  public Mono<ResponseEntity<UserResponse>> getUserById(@PathVariable Long id) {
+    return findUserByIdUseCase.execute(id)
+            .map(user -> ResponseEntity.ok(userMapper.toResponse(user)))
+            .switchIfEmpty(Mono.fromSupplier(() -> {
+              LoggerUtils.logWarning(logger, "User not found by ID", Map.of("userId", id));
+              return ResponseEntity.notFound().build();
+            }));
+  }
+
+  // Get user by email
+  @GetMapping()
+  @Operation(summary = "Get user by email", description = "Retrieves a specific user using their email address")
+  public Mono<ResponseEntity<UserResponse>> getUserByEmail(@RequestParam("email") @Email(message = "Invalid email format.") String email) {
+    return findUserByEmailUseCase.execute(email)
+            .map(user -> ResponseEntity.ok(userMapper.toResponse(user)))
+            .switchIfEmpty(Mono.fromSupplier(() -> {
+              LoggerUtils.logWarning(logger, "User not found by email", Map.of("email", email));
+              return ResponseEntity.notFound().build();
+            }));
+  }
+
+  // Verify if user exists by email
+  @GetMapping("/verify-exists")
+  @Operation(summary = "Verify if user exists", description = "Checks if a user exists in the system by email")
+  public Mono<ResponseEntity<UserExistsResponse>> checkExists(@RequestParam("email") @Email(message = "Invalid email format.") String email) {
+    return verifyExistsByEmailUseCase.execute(email)
+            .filter(Boolean::booleanValue)
+            .flatMap(exists -> findUserByEmailUseCase.execute(email))
+            .map(user -> ResponseEntity.ok(new UserExistsResponse("User found", userMapper.toResponse(user))))
+            .switchIfEmpty(Mono.fromSupplier(() -> {
+              LoggerUtils.logWarning(logger, "User does not exist", Map.of("email", email));
+              return ResponseEntity.notFound().build();
+            }));
+  }
+
+  // Delete user by id
+  @DeleteMapping("/delete-user")
+  @Operation(summary = "Delete user", description = "Removes a user from the system by ID")
+  public Mono<ResponseEntity<Map<String, String>>> deleteUser(@RequestParam("id") @NotNull Long id) {
+    return deleteUserUseCase.execute(id)
+            .then(Mono.fromSupplier(() -> {
+              LoggerUtils.logSuccess(logger, "User deleted successfully", Map.of("userId", id));
+              return ResponseEntity.ok(Map.of("message", "User deleted successfully"));
+            }));
+  }
+
+  // Update user
+  @PutMapping("/update")
+  @Operation(summary = "Update user", description = "Updates an existing user's information")
+  public Mono<ResponseEntity<UserResponse>> updateUser(@RequestParam("id") @NotNull Long id, @Valid @RequestBody UserUpdateRequest request) {
+    User userToUpdate = userMapper.toDomain(id, request);
+
+    return updateUserUseCase.execute(userToUpdate)
+            .map(updatedUser -> {
+              LoggerUtils.logSuccess(logger, "User updated successfully", Map.of("userId", id));
+              return ResponseEntity.ok(userMapper.toResponse(updatedUser));
+            });
+  }
+}
@@ -0,0 +1,45 @@
+package com.rlevi.studying_clean_architecture.infrastructure.reactive.security;
+
+import com.rlevi.studying_clean_architecture.infrastructure.reactive.gateway.ReactiveUserGateway;
+import com.rlevi.studying_clean_architecture.infrastructure.security.JwtUtil;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+@Component
+@Profile("reactive")
+public class ReactiveJwtAuthenticationManager implements ReactiveAuthenticationManager {
+  private final JwtUtil jwtUtil;
+  private final ReactiveUserGateway userGateway;
+
+  public ReactiveJwtAuthenticationManager(JwtUtil jwtUtil, ReactiveUserGateway userGateway) {
+    this.jwtUtil = jwtUtil;
+    this.userGateway = userGateway;
+  }
+
+  @Override
+  public Mono<Authentication> authenticate(Authentication authentication) {
+    String token = (String) authentication.getCredentials();
+
+    return Mono.fromCallable(() -> jwtUtil.extractUsername(token))
+            .filter(username -> jwtUtil.validateToken(token, username))
+            .flatMap(userGateway::findUserByEmail)
+            .switchIfEmpty(Mono.error(() -> new BadCredentialsException("Invalid token")))
+            .<Authentication>map(user -> {
+              UserDetails userDetails = User.builder()
+                      .username(user.email())
+                      .password(user.passwordHash())
+                      .build();
+
+              return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+            })
+            .onErrorMap(e -> !(e instanceof AuthenticationException), e -> new BadCredentialsException("Invalid token", e));
+  }
+}
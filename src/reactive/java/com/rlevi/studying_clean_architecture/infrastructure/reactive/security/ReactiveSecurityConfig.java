@@ -0,0 +1,83 @@
+package com.rlevi.studying_clean_architecture.infrastructure.reactive.security;
+
+import com.rlevi.studying_clean_architecture.infrastructure.reactive.exception.ReactiveAccessDeniedHandler;
+import com.rlevi.studying_clean_architecture.infrastructure.reactive.exception.ReactiveAuthenticationEntryPoint;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.AuthenticationWebFilter;
+import org.springframework.security.web.server.authentication.ServerAuthenticationEntryPointFailureHandler;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatcher;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+
+@Configuration
+@Profile("reactive")
+@EnableWebFluxSecurity
+public class ReactiveSecurityConfig {
+  private static final String BEARER_PREFIX = "Bearer ";
+  private static final String PROMETHEUS = "/actuator/prometheus";
+
+  @Bean
+  public SecurityWebFilterChain securityWebFilterChain(
+          ServerHttpSecurity http,
+          ReactiveJwtAuthenticationManager authenticationManager,
+          ReactiveAuthenticationEntryPoint authenticationEntryPoint,
+          ReactiveAccessDeniedHandler accessDeniedHandler,
+          @Value("${management.server.port:-1}") int managementPort) {
+    AuthenticationWebFilter jwtFilter = new AuthenticationWebFilter(authenticationManager);
+    jwtFilter.setServerAuthenticationConverter(exchange -> Mono
+            .justOrEmpty(exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION))
+            .filter(header -> header.startsWith(BEARER_PREFIX))
+            .map(header -> header.substring(BEARER_PREFIX.length()))
+            .map(token -> new UsernamePasswordAuthenticationToken(token, token)));
+    jwtFilter.setAuthenticationFailureHandler(new ServerAuthenticationEntryPointFailureHandler(authenticationEntryPoint));
+
+    return http
+            .csrf(ServerHttpSecurity.CsrfSpec::disable)
+            .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+            .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+            .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+            .authorizeExchange(authorize -> authorize
+                    .pathMatchers(
+                            "/api/v1/auth/**",
+                            "/error",
+                            "/v3/api-docs/**",
+                            "/swagger-ui/**",
+                            "/swagger-ui.html",
+                            "/actuator/health"
+                    ).permitAll()
+                    // The Prometheus scrape is only open on the separate management port
+                    .matchers(exchange -> isPrometheusScrape(exchange, managementPort)
+                            ? ServerWebExchangeMatcher.MatchResult.match()
+                            : ServerWebExchangeMatcher.MatchResult.notMatch()).permitAll()
+                    .anyExchange().authenticated())
+            .exceptionHandling(ex -> ex.accessDeniedHandler(accessDeniedHandler)
+                    .authenticationEntryPoint(authenticationEntryPoint))
+            .addFilterAt(jwtFilter, SecurityWebFiltersOrder.AUTHENTICATION)
+            .build();
+  }
+
+  @Bean
+  public PasswordEncoder passwordEncoder() {
+    return new BCryptPasswordEncoder();
+  }
+
+  private static boolean isPrometheusScrape(ServerWebExchange exchange, int managementPort) {
+    InetSocketAddress localAddress = exchange.getRequest().getLocalAddress();
+    return managementPort > 0 && localAddress != null && localAddress.getPort() == managementPort
+            && PROMETHEUS.equals(exchange.getRequest().getPath().value());
+  }
+}
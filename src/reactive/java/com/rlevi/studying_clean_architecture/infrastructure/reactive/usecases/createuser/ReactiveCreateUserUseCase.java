@@ -0,0 +1,9 @@
+package com.rlevi.studying_clean_architecture.infrastructure.reactive.usecases.createuser;
+
+import com.rlevi.studying_clean_architecture.core.entities.AuthResult;
+import com.rlevi.studying_clean_architecture.core.entities.User;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveCreateUserUseCase {
+  Mono<AuthResult> execute(User user);
+}
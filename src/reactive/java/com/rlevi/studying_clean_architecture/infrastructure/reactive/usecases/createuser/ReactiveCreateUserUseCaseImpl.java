@@ -0,0 +1,71 @@
+package com.rlevi.studying_clean_architecture.infrastructure.reactive.usecases.createuser;
+
+import com.rlevi.studying_clean_architecture.core.entities.AuthResult;
+import com.rlevi.studying_clean_architecture.core.entities.RefreshToken;
+import com.rlevi.studying_clean_architecture.core.entities.User;
+import com.rlevi.studying_clean_architecture.core.exception.UserAlreadyExistsException;
+import com.rlevi.studying_clean_architecture.core.gateway.TokenGateway;
+import com.rlevi.studying_clean_architecture.core.utils.DomainValidator;
+import com.rlevi.studying_clean_architecture.infrastructure.reactive.gateway.ReactivePasswordEncoderGateway;
+import com.rlevi.studying_clean_architecture.infrastructure.reactive.gateway.ReactiveRefreshTokenGateway;
+import com.rlevi.studying_clean_architecture.infrastructure.reactive.gateway.ReactiveUserGateway;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+public class ReactiveCreateUserUseCaseImpl implements ReactiveCreateUserUseCase {
+  private final ReactiveUserGateway userGateway;
+  private final ReactivePasswordEncoderGateway passwordEncoderGateway;
+  private final TokenGateway tokenGateway;
+  private final ReactiveRefreshTokenGateway refreshTokenGateway;
+
+  public ReactiveCreateUserUseCaseImpl(ReactiveUserGateway userGateway, ReactivePasswordEncoderGateway passwordEncoderGateway, TokenGateway tokenGateway, ReactiveRefreshTokenGateway refreshTokenGateway) {
+    this.userGateway = userGateway;
+    this.passwordEncoderGateway = passwordEncoderGateway;
+    this.tokenGateway = tokenGateway;
+    this.refreshTokenGateway = refreshTokenGateway;
+  }
+
+  @Override
+  public Mono<AuthResult> execute(User user) {
+    return Mono.defer(() -> {
+      DomainValidator.validateEmail(user.email());
+      DomainValidator.validateName(user.name());
+
+      return userGateway.verifyExistsByEmail(user.email());
+    }).flatMap(exists -> {
+      if (exists) {
+        return Mono.error(new UserAlreadyExistsException("The email provided is already in use. Please use another email or log in."));
+      }
+
+      return passwordEncoderGateway.encode(user.passwordHash());
+    }).map(encryptedPassword -> new User(
+            null,
+            user.email(),
+            user.name(),
+            encryptedPassword,
+            null,
+            null
+    )).flatMap(userGateway::createUser)
+      .flatMap(createdUser -> {
+        // Generate tokens
+        String accessToken = tokenGateway.generateAccessToken(createdUser.email());
+        String refreshTokenValue = tokenGateway.generateRefreshToken(createdUser.email());
+        Instant expiryDate = tokenGateway.extractExpiration(refreshTokenValue);
+
+        // Save Refresh Token
+        RefreshToken refreshToken = new RefreshToken(
+                null,
+                refreshTokenValue,
+                createdUser.id(),
+                expiryDate,
+                Instant.now(),
+                false,
+                null
+        );
+
+        return refreshTokenGateway.save(refreshToken)
+                .thenReturn(new AuthResult(createdUser, accessToken, refreshTokenValue));
+      });
+  }
+}
@@ -0,0 +1,7 @@
+package com.rlevi.studying_clean_architecture.infrastructure.reactive.usecases.deleteuser;
+
+import reactor.core.publisher.Mono;
+
+public interface ReactiveDeleteUserUseCase {
+  Mono<Void> execute(Long id);
+}
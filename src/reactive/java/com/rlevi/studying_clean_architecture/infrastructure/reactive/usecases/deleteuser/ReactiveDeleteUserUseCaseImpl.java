@@ -0,0 +1,23 @@
+package com.rlevi.studying_clean_architecture.infrastructure.reactive.usecases.deleteuser;
+
+import com.rlevi.studying_clean_architecture.infrastructure.reactive.gateway.ReactiveUserGateway;
+import reactor.core.publisher.Mono;
+
+public class ReactiveDeleteUserUseCaseImpl implements ReactiveDeleteUserUseCase {
+  private final ReactiveUserGateway userGateway;
+
+  public ReactiveDeleteUserUseCaseImpl(ReactiveUserGateway userGateway) {
+    this.userGateway = userGateway;
+  }
+
+  @Override
+  public Mono<Void> execute(Long id) {
+    if (id == null) {
+      return Mono.error(new IllegalArgumentException("Id cannot be null."));
+    }
+
+    return userGateway.findUserById(id)
+            .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("User not found with ID: " + id)))
+            .flatMap(user -> userGateway.deleteUser(id));
+  }
+}
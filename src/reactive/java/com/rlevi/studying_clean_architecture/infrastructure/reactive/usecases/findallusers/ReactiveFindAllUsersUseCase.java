@@ -0,0 +1,8 @@
+package com.rlevi.studying_clean_architecture.infrastructure.reactive.usecases.findallusers;
+
+import com.rlevi.studying_clean_architecture.core.entities.User;
+import reactor.core.publisher.Flux;
+
+public interface ReactiveFindAllUsersUseCase {
+  Flux<User> execute();
+}
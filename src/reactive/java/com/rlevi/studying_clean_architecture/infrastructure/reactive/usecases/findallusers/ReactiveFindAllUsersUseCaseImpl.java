@@ -0,0 +1,18 @@
+package com.rlevi.studying_clean_architecture.infrastructure.reactive.usecases.findallusers;
+
+import com.rlevi.studying_clean_architecture.core.entities.User;
+import com.rlevi.studying_clean_architecture.infrastructure.reactive.gateway.ReactiveUserGateway;
+import reactor.core.publisher.Flux;
+
+public class ReactiveFindAllUsersUseCaseImpl implements ReactiveFindAllUsersUseCase {
+  private final ReactiveUserGateway userGateway;
+
+  public ReactiveFindAllUsersUseCaseImpl(ReactiveUserGateway userGateway) {
+    this.userGateway = userGateway;
+  }
+
+  @Override
+  public Flux<User> execute() {
+    return userGateway.findAllUsers();
+  }
+}
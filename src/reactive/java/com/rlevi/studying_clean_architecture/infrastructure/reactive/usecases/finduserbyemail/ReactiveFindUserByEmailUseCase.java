@@ -0,0 +1,8 @@
+package com.rlevi.studying_clean_architecture.infrastructure.reactive.usecases.finduserbyemail;
+
+import com.rlevi.studying_clean_architecture.core.entities.User;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveFindUserByEmailUseCase {
+  Mono<User> execute(String email);
+}
@@ -0,0 +1,22 @@
+package com.rlevi.studying_clean_architecture.infrastructure.reactive.usecases.finduserbyemail;
+
+import com.rlevi.studying_clean_architecture.core.entities.User;
+import com.rlevi.studying_clean_architecture.infrastructure.reactive.gateway.ReactiveUserGateway;
+import reactor.core.publisher.Mono;
+
+public class ReactiveFindUserByEmailUseCaseImpl implements ReactiveFindUserByEmailUseCase {
+  private final ReactiveUserGateway userGateway;
+
+  public ReactiveFindUserByEmailUseCaseImpl(ReactiveUserGateway userGateway) {
+    this.userGateway = userGateway;
+  }
+
+  @Override
+  public Mono<User> execute(String email) {
+    if (email == null) {
+      return Mono.error(new IllegalArgumentException("Email cannot be null."));
+    }
+
+    return userGateway.findUserByEmail(email);
+  }
+}
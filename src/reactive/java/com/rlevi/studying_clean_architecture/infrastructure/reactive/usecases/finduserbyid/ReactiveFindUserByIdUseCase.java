@@ -0,0 +1,8 @@
+package com.rlevi.studying_clean_architecture.infrastructure.reactive.usecases.finduserbyid;
+
+import com.rlevi.studying_clean_architecture.core.entities.User;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveFindUserByIdUseCase {
+  Mono<User> execute(Long id);
+}
@@ -0,0 +1,22 @@
+package com.rlevi.studying_clean_architecture.infrastructure.reactive.usecases.finduserbyid;
+
+import com.rlevi.studying_clean_architecture.core.entities.User;
+import com.rlevi.studying_clean_architecture.infrastructure.reactive.gateway.ReactiveUserGateway;
+import reactor.core.publisher.Mono;
+
+public class ReactiveFindUserByIdUseCaseImpl implements ReactiveFindUserByIdUseCase {
+  private final ReactiveUserGateway userGateway;
+
+  public ReactiveFindUserByIdUseCaseImpl(ReactiveUserGateway userGateway) {
+    this.userGateway = userGateway;
+  }
+
+  @Override
+  public Mono<User> execute(Long id) {
+    if (id == null) {
+      return Mono.error(new IllegalArgumentException("User ID cannot be null."));
+    }
+
+    return userGateway.findUserById(id);
+  }
+}
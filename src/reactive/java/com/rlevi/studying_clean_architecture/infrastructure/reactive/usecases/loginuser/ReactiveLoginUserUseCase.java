@@ -0,0 +1,9 @@
+package com.rlevi.studying_clean_architecture.infrastructure.reactive.usecases.loginuser;
+
+import com.rlevi.studying_clean_architecture.core.entities.AuthResult;
+import com.rlevi.studying_clean_architecture.core.entities.User;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveLoginUserUseCase {
+    Mono<AuthResult> execute(User user);
+}
@@ -0,0 +1,66 @@
+package com.rlevi.studying_clean_architecture.infrastructure.reactive.usecases.loginuser;
+
+import com.rlevi.studying_clean_architecture.core.entities.AuthResult;
+import com.rlevi.studying_clean_architecture.core.entities.RefreshToken;
+import com.rlevi.studying_clean_architecture.core.entities.User;
+import com.rlevi.studying_clean_architecture.core.gateway.TokenGateway;
+import com.rlevi.studying_clean_architecture.infrastructure.exception.AuthenticationException;
+import com.rlevi.studying_clean_architecture.infrastructure.reactive.gateway.ReactivePasswordEncoderGateway;
+import com.rlevi.studying_clean_architecture.infrastructure.reactive.gateway.ReactiveRefreshTokenGateway;
+import com.rlevi.studying_clean_architecture.infrastructure.reactive.gateway.ReactiveUserGateway;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+public class ReactiveLoginUserUseCaseImpl implements ReactiveLoginUserUseCase {
+  private final ReactiveUserGateway userGateway;
+  private final ReactivePasswordEncoderGateway passwordEncoderGateway;
+  private final ReactiveRefreshTokenGateway refreshTokenGateway;
+  private final TokenGateway tokenGateway;
+
+  public ReactiveLoginUserUseCaseImpl(ReactiveUserGateway userGateway, ReactivePasswordEncoderGateway passwordEncoderGateway, ReactiveRefreshTokenGateway refreshTokenGateway, TokenGateway tokenGateway) {
+    this.userGateway = userGateway;
+    this.passwordEncoderGateway = passwordEncoderGateway;
+    this.refreshTokenGateway = refreshTokenGateway;
+    this.tokenGateway = tokenGateway;
+  }
+
+  @Override
+  public Mono<AuthResult> execute(User user) {
+    if (user == null || user.email() == null || user.passwordHash() == null || user.passwordHash().isBlank()) {
+      return Mono.error(new AuthenticationException("Invalid email or password. Please try again."));
+    }
+
+    return userGateway.findUserByEmail(user.email())
+            .switchIfEmpty(Mono.error(() -> new AuthenticationException("Invalid email or password. Please try again.")))
+            .flatMap(foundUser -> passwordEncoderGateway.matches(user.passwordHash(), foundUser.passwordHash())
+                    .flatMap(matches -> {
+                      if (!matches) {
+                        return Mono.error(new AuthenticationException("Invalid email or password. Please try again."));
+                      }
+
+                      return issueTokens(foundUser);
+                    }));
+  }
+
+  private Mono<AuthResult> issueTokens(User foundUser) {
+    // Generate tokens
+    String accessToken = tokenGateway.generateAccessToken(foundUser.email());
+    String refreshTokenValue = tokenGateway.generateRefreshToken(foundUser.email());
+    Instant expiryDate = tokenGateway.extractExpiration(refreshTokenValue);
+
+    // Save Refresh Token
+    RefreshToken refreshToken = new RefreshToken(
+            null,
+            refreshTokenValue,
+            foundUser.id(),
+            expiryDate,
+            Instant.now(),
+            false,
+            null
+    );
+
+    return refreshTokenGateway.save(refreshToken)
+            .thenReturn(new AuthResult(foundUser, accessToken, refreshTokenValue));
+  }
+}
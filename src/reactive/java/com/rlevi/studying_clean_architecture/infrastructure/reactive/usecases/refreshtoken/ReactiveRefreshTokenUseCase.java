@@ -0,0 +1,8 @@
+package com.rlevi.studying_clean_architecture.infrastructure.reactive.usecases.refreshtoken;
+
+import com.rlevi.studying_clean_architecture.core.entities.AuthResult;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveRefreshTokenUseCase {
+    Mono<AuthResult> execute(String refreshToken);
+}
@@ -0,0 +1,80 @@
+package com.rlevi.studying_clean_architecture.infrastructure.reactive.usecases.refreshtoken;
+
+import com.rlevi.studying_clean_architecture.core.entities.AuthResult;
+import com.rlevi.studying_clean_architecture.core.entities.RefreshToken;
+import com.rlevi.studying_clean_architecture.core.entities.User;
+import com.rlevi.studying_clean_architecture.core.exception.DomainException;
+import com.rlevi.studying_clean_architecture.core.exception.InvalidRefreshTokenException;
+import com.rlevi.studying_clean_architecture.core.gateway.TokenGateway;
+import com.rlevi.studying_clean_architecture.infrastructure.reactive.gateway.ReactiveRefreshTokenGateway;
+import com.rlevi.studying_clean_architecture.infrastructure.reactive.gateway.ReactiveUserGateway;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+public class ReactiveRefreshTokenUseCaseImpl implements ReactiveRefreshTokenUseCase {
+  private final ReactiveUserGateway userGateway;
+  private final TokenGateway tokenGateway;
+  private final ReactiveRefreshTokenGateway refreshTokenGateway;
+
+  public ReactiveRefreshTokenUseCaseImpl(ReactiveUserGateway userGateway, TokenGateway tokenGateway, ReactiveRefreshTokenGateway refreshTokenGateway) {
+    this.userGateway = userGateway;
+    this.tokenGateway = tokenGateway;
+    this.refreshTokenGateway = refreshTokenGateway;
+  }
+
+  @Override
+  public Mono<AuthResult> execute(String refreshToken) {
+    // 1. Find refresh token in the database (only if not revoked)
+    return refreshTokenGateway.findByTokenAndRevokedFalse(refreshToken)
+            .switchIfEmpty(Mono.error(() -> new InvalidRefreshTokenException("Refresh token not found or already revoked.")))
+            .flatMap(currentToken -> {
+              // 2. Check if the physical token (JWT) is expired
+              if (currentToken.expiryDate().isBefore(Instant.now())) {
+                return refreshTokenGateway.revokeByToken(refreshToken, null)
+                        .then(Mono.error(new InvalidRefreshTokenException("Refresh token has expired. Please login again.")));
+              }
+
+              // 3. Validate token integrity, extractUsername fails if the token is invalid
+              String email;
+              try {
+                email = tokenGateway.extractUsername(refreshToken);
+              } catch (Exception jwtException) {
+                // Revoke the current token since it's malformed/invalid
+                return refreshTokenGateway.revokeByToken(refreshToken, null)
+                        .then(Mono.error(new InvalidRefreshTokenException("Invalid or malformed refresh token. Please login again.")));
+              }
+
+              // 4. Find the associated user
+              return userGateway.findUserByEmail(email)
+                      .switchIfEmpty(Mono.error(() -> new DomainException("User associated with token not found.")))
+                      .flatMap(user -> rotate(refreshToken, currentToken, user));
+            });
+  }
+
+  private Mono<AuthResult> rotate(String refreshToken, RefreshToken currentToken, User user) {
+    // 5. Validate if the token belongs to the found user
+    if (!currentToken.userId().equals(user.id())) {
+      return Mono.error(new InvalidRefreshTokenException("Token mismatch: Refresh token does not belong to this user."));
+    }
+
+    // 6. ROTATION: Generate new Refresh Token and Access Token (atomic operation)
+    String newAccessToken = tokenGateway.generateAccessToken(user.email());
+    String newRefreshTokenValue = tokenGateway.generateRefreshToken(user.email());
+    Instant newExpiryDate = tokenGateway.extractExpiration(newRefreshTokenValue);
+
+    RefreshToken newRefreshToken = new RefreshToken(
+            null,
+            newRefreshTokenValue,
+            user.id(),
+            newExpiryDate,
+            Instant.now(),
+            false,
+            null
+    );
+
+    // 7. ATOMIC ROTATION: Save new token AND revoke old token in single transaction
+    return refreshTokenGateway.rotate(refreshToken, newRefreshToken)
+            .map(savedRefreshToken -> new AuthResult(user, newAccessToken, savedRefreshToken.token()));
+  }
+}
@@ -0,0 +1,8 @@
+package com.rlevi.studying_clean_architecture.infrastructure.reactive.usecases.updateuser;
+
+import com.rlevi.studying_clean_architecture.core.entities.User;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveUpdateUserUseCase {
+  Mono<User> execute(User user);
+}
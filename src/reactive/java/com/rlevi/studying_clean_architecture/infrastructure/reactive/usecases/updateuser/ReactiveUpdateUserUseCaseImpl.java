@@ -0,0 +1,57 @@
+package com.rlevi.studying_clean_architecture.infrastructure.reactive.usecases.updateuser;
+
+import com.rlevi.studying_clean_architecture.core.entities.User;
+import com.rlevi.studying_clean_architecture.core.exception.UserNotFoundException;
+import com.rlevi.studying_clean_architecture.infrastructure.reactive.gateway.ReactivePasswordEncoderGateway;
+import com.rlevi.studying_clean_architecture.infrastructure.reactive.gateway.ReactiveUserGateway;
+import reactor.core.publisher.Mono;
+
+public class ReactiveUpdateUserUseCaseImpl implements ReactiveUpdateUserUseCase {
+  private final ReactiveUserGateway userGateway;
+  private final ReactivePasswordEncoderGateway passwordEncoderGateway;
+
+  public ReactiveUpdateUserUseCaseImpl(ReactiveUserGateway userGateway, ReactivePasswordEncoderGateway passwordEncoderGateway) {
+    this.userGateway = userGateway;
+    this.passwordEncoderGateway = passwordEncoderGateway;
+  }
+
+  @Override
+  public Mono<User> execute(User user) {
+    if (user == null) {
+      return Mono.error(new UserNotFoundException("User cannot be null."));
+    } else if (user.id() == null) {
+      return Mono.error(new UserNotFoundException("User ID is required for update"));
+    }
+
+    return userGateway.findUserById(user.id())
+            .switchIfEmpty(Mono.error(() -> new UserNotFoundException("User not found with ID: " + user.id())))
+            .flatMap(existingUser -> {
+              String name = existingUser.name();
+              if (user.name() != null && !user.name().isBlank()) {
+                name = user.name();
+              }
+
+              String email = existingUser.email();
+              if (user.email() != null && !user.email().isBlank()) {
+                email = user.email();
+              }
+
+              Mono<String> passwordHash = Mono.just(existingUser.passwordHash());
+              if (user.passwordHash() != null && !user.passwordHash().isBlank()) {
+                passwordHash = passwordEncoderGateway.encode(user.passwordHash());
+              }
+
+              String updatedName = name;
+              String updatedEmail = email;
+              return passwordHash.map(hash -> new User(
+                      existingUser.id(),
+                      updatedEmail,
+                      updatedName,
+                      hash,
+                      existingUser.createdAt(),
+                      existingUser.updatedAt()
+              ));
+            })
+            .flatMap(userGateway::updateUser);
+  }
+}
@@ -0,0 +1,7 @@
+package com.rlevi.studying_clean_architecture.infrastructure.reactive.usecases.verifyexistsbyemail;
+
+import reactor.core.publisher.Mono;
+
+public interface ReactiveVerifyExistsByEmailUseCase {
+  Mono<Boolean> execute(String email);
+}
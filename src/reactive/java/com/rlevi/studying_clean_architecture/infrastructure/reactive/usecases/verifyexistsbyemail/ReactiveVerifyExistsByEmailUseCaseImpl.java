@@ -0,0 +1,21 @@
+package com.rlevi.studying_clean_architecture.infrastructure.reactive.usecases.verifyexistsbyemail;
+
+import com.rlevi.studying_clean_architecture.infrastructure.reactive.gateway.ReactiveUserGateway;
+import reactor.core.publisher.Mono;
+
+public class ReactiveVerifyExistsByEmailUseCaseImpl implements ReactiveVerifyExistsByEmailUseCase {
+  private final ReactiveUserGateway userGateway;
+
+  public ReactiveVerifyExistsByEmailUseCaseImpl(ReactiveUserGateway userGateway) {
+    this.userGateway = userGateway;
+  }
+
+  @Override
+  public Mono<Boolean> execute(String email) {
+    if (email == null || email.trim().isEmpty()) {
+      return Mono.error(new IllegalArgumentException("Email cannot be null or empty."));
+    }
+
+    return userGateway.verifyExistsByEmail(email);
+  }
+}
@@ -0,0 +1,132 @@
+package com.rlevi.studying_clean_architecture;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+// Runs with -Pnative verify against the binary built by native-maven-plugin, on the in-memory H2 profile.
+// -Dnative.max-startup-ms=<n> sets the startup budget (default 1000)
+class NativeSmokeIT {
+
+  private static final String PASSWORD = "password123";
+  private static final long STARTUP_TIMEOUT_MS = 30_000;
+
+  private final HttpClient httpClient = HttpClient.newHttpClient();
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Test
+  void nativeBinaryStartsAndServesTheAuthFlow() throws Exception {
+    Path binary = Path.of(System.getProperty("native.binary", "target/studying_clean_architecture"));
+    assumeTrue(Files.isExecutable(binary), "Native binary not built: " + binary);
+
+    int port = freePort();
+    String baseUrl = "http://localhost:" + port;
+    ProcessBuilder builder = new ProcessBuilder(binary.toString(),
+            "--server.port=" + port, "--tracing.file-exporter.enabled=false")
+            .redirectErrorStream(true)
+            .redirectOutput(binary.resolveSibling("native-smoke.log").toFile());
+    builder.environment().putIfAbsent("JWT_SECRET", "native-smoke-secret-key-that-is-long-enough-for-hs256");
+
+    long start = System.nanoTime();
+    Process process = builder.start();
+    try {
+      long startupMs = awaitHealthy(baseUrl, process, start);
+
+      String email = "native-smoke@test.dev";
+      send(post(baseUrl + "/auth/register", Map.of("name", "Native Smoke", "email", email, "password", PASSWORD)));
+      JsonNode login = send(post(baseUrl + "/auth/login", Map.of("email", email, "password", PASSWORD)));
+      assertFalse(login.path("token").asText().isBlank());
+
+      JsonNode refreshed = send(post(baseUrl + "/auth/refresh",
+              Map.of("refreshToken", login.path("refreshToken").asText())));
+      String accessToken = refreshed.path("accessToken").asText();
+      assertFalse(accessToken.isBlank());
+
+      JsonNode me = send(HttpRequest.newBuilder(URI.create(baseUrl + "/users/me"))
+              .header("Authorization", "Bearer " + accessToken)
+              .GET()
+              .build());
+      assertTrue(email.equals(me.path("email").asText()));
+
+      String rss = residentSetSize(process.pid()).orElse("n/a");
+      System.out.printf("Native image: first request served in %d ms, RSS after auth flow %s%n", startupMs, rss);
+
+      long maxStartupMs = Long.getLong("native.max-startup-ms", 1000);
+      assertTrue(startupMs <= maxStartupMs,
+              "Native image served its first request after " + startupMs + " ms, budget is " + maxStartupMs + " ms");
+    } finally {
+      process.destroy();
+      process.waitFor();
+    }
+  }
+
+  private long awaitHealthy(String baseUrl, Process process, long start) throws InterruptedException {
+    HttpRequest health = HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/health")).GET().build();
+    while (elapsedMs(start) < STARTUP_TIMEOUT_MS) {
+      if (!process.isAlive()) {
+        fail("Native binary exited with code " + process.exitValue() + " during startup, see native-smoke.log");
+      }
+      try {
+        if (httpClient.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+          return elapsedMs(start);
+        }
+      } catch (IOException e) {
+        // Not listening yet
+      }
+      Thread.sleep(10);
+    }
+    return fail("Native binary did not become healthy within " + STARTUP_TIMEOUT_MS + " ms");
+  }
+
+  private JsonNode send(HttpRequest request) throws IOException, InterruptedException {
+    HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    assertTrue(response.statusCode() / 100 == 2,
+            request.method() + " " + request.uri().getPath() + " returned " + response.statusCode() + ": " + response.body());
+    return response.body().isEmpty() ? objectMapper.nullNode() : objectMapper.readTree(response.body());
+  }
+
+  private HttpRequest post(String url, Map<String, String> payload) throws IOException {
+    return HttpRequest.newBuilder(URI.create(url))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(payload)))
+            .build();
+  }
+
+  private Optional<String> residentSetSize(long pid) throws IOException {
+    Path status = Path.of("/proc", Long.toString(pid), "status");
+    if (!Files.exists(status)) {
+      return Optional.empty();
+    }
+    try (var lines = Files.lines(status)) {
+      return lines.filter(line -> line.startsWith("VmRSS:"))
+              .map(line -> line.substring("VmRSS:".length()).trim())
+              .findFirst();
+    }
+  }
+
+  private int freePort() throws IOException {
+    try (ServerSocket socket = new ServerSocket(0)) {
+      return socket.getLocalPort();
+    }
+  }
+
+  private long elapsedMs(long start) {
+    return (System.nanoTime() - start) / 1_000_000;
+  }
+}
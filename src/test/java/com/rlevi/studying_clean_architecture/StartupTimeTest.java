@@ -0,0 +1,93 @@
+package com.rlevi.studying_clean_architecture;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.metrics.StartupStep;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Boots a fresh context (not the cached test one) and reports time to first request served to target/startup-time.json.
+// -Dstartup.max-first-request-ms=<n> turns the report into a gate
+class StartupTimeTest {
+
+  private static final int SLOWEST_BEANS = 10;
+
+  @Test
+  void reportsTimeToFirstRequest() throws Exception {
+    BufferingApplicationStartup applicationStartup = new BufferingApplicationStartup(10_000);
+
+    long start = System.nanoTime();
+    try (ConfigurableApplicationContext context = new SpringApplicationBuilder(StudyingCleanArchitectureApplication.class)
+            .applicationStartup(applicationStartup)
+            .run("--server.port=0", "--tracing.file-exporter.enabled=false")) {
+      long contextReadyMs = elapsedMs(start);
+
+      int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+      HttpResponse<Void> response = HttpClient.newHttpClient().send(
+              HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/actuator/health")).GET().build(),
+              HttpResponse.BodyHandlers.discarding());
+      long firstRequestMs = elapsedMs(start);
+      assertEquals(200, response.statusCode());
+
+      Map<String, Object> report = new LinkedHashMap<>();
+      report.put("contextReadyMs", contextReadyMs);
+      report.put("firstRequestMs", firstRequestMs);
+      report.put("aotEnabled", Boolean.getBoolean("spring.aot.enabled"));
+      report.put("slowestBeans", slowestBeans(applicationStartup.getBufferedTimeline()));
+      Path reportPath = Path.of(System.getProperty("startup.report", "target/startup-time.json"));
+      Files.createDirectories(reportPath.toAbsolutePath().getParent());
+      new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportPath.toFile(), report);
+      System.out.printf("Startup: context ready in %d ms, first request served in %d ms (%s)%n",
+              contextReadyMs, firstRequestMs, reportPath);
+
+      String maxFirstRequestMs = System.getProperty("startup.max-first-request-ms");
+      if (maxFirstRequestMs != null) {
+        assertTrue(firstRequestMs <= Long.parseLong(maxFirstRequestMs),
+                "First request served after " + firstRequestMs + " ms, limit is " + maxFirstRequestMs + " ms");
+      }
+    }
+  }
+
+  // Durations include the beans instantiated as dependencies of each one
+  private List<Map<String, Object>> slowestBeans(StartupTimeline timeline) {
+    return timeline.getEvents().stream()
+            .filter(event -> "spring.beans.instantiate".equals(event.getStartupStep().getName()))
+            .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+            .limit(SLOWEST_BEANS)
+            .map(event -> Map.<String, Object>of(
+                    "bean", beanName(event.getStartupStep()),
+                    "durationMs", event.getDuration().toMillis()))
+            .toList();
+  }
+
+  private String beanName(StartupStep step) {
+    return StreamSupport.stream(step.getTags().spliterator(), false)
+            .filter(tag -> "beanName".equals(tag.getKey()))
+            .map(StartupStep.Tag::getValue)
+            .findFirst()
+            .orElse("?");
+  }
+
+  private long elapsedMs(long start) {
+    return (System.nanoTime() - start) / 1_000_000;
+  }
+}
@@ -0,0 +1,181 @@
+package com.rlevi.studying_clean_architecture.core.usecases;
+
+import com.rlevi.studying_clean_architecture.core.entities.RefreshToken;
+import com.rlevi.studying_clean_architecture.core.entities.TokenClaims;
+import com.rlevi.studying_clean_architecture.core.entities.User;
+import com.rlevi.studying_clean_architecture.core.exception.InvalidRefreshTokenException;
+import com.rlevi.studying_clean_architecture.core.gateway.PasswordEncoderGateway;
+import com.rlevi.studying_clean_architecture.core.gateway.RefreshTokenGateway;
+import com.rlevi.studying_clean_architecture.core.gateway.TokenGateway;
+import com.rlevi.studying_clean_architecture.core.gateway.UserGateway;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Gateways for the core use-case tests: plain maps, no Spring and no database
+public final class InMemoryGateways {
+  private InMemoryGateways() {}
+
+  public static final class Users implements UserGateway {
+    private final Map<Long, User> users = new LinkedHashMap<>();
+    private final AtomicLong ids = new AtomicLong();
+
+    public User add(String email, String name, String passwordHash) {
+      return createUser(new User(null, email, name, passwordHash, null, null));
+    }
+
+    @Override
+    public User createUser(User user) {
+      Instant now = Instant.now();
+      User created = new User(ids.incrementAndGet(), user.email(), user.name(), user.passwordHash(), now, now);
+      users.put(created.id(), created);
+      return created;
+    }
+
+    @Override
+    public User updateUser(User user) {
+      users.put(user.id(), user);
+      return user;
+    }
+
+    @Override
+    public Optional<User> findUserById(Long id) {
+      return Optional.ofNullable(users.get(id));
+    }
+
+    @Override
+    public Optional<User> findUserByEmail(String email) {
+      return users.values().stream().filter(user -> user.email().equals(email)).findFirst();
+    }
+
+    @Override
+    public List<User> findUsersByIds(Collection<Long> ids) {
+      return ids.stream().map(users::get).filter(user -> user != null).toList();
+    }
+
+    @Override
+    public List<User> findAllUsers() {
+      return new ArrayList<>(users.values());
+    }
+
+    @Override
+    public List<User> searchUsers(String query, int limit, Long cursor) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean verifyExistsByEmail(String email) {
+      return findUserByEmail(email).isPresent();
+    }
+
+    @Override
+    public void deleteUser(Long id) {
+      users.remove(id);
+    }
+  }
+
+  public static final class RefreshTokens implements RefreshTokenGateway {
+    private final Map<String, RefreshToken> tokens = new LinkedHashMap<>();
+    private final AtomicLong ids = new AtomicLong();
+
+    @Override
+    public RefreshToken save(RefreshToken refreshToken) {
+      RefreshToken saved = new RefreshToken(ids.incrementAndGet(), refreshToken.token(), refreshToken.userId(),
+              refreshToken.expiryDate(), refreshToken.createdAt(), refreshToken.revoked(), refreshToken.replacedByToken());
+      tokens.put(saved.token(), saved);
+      return saved;
+    }
+
+    @Override
+    public Optional<RefreshToken> findByToken(String token) {
+      return Optional.ofNullable(tokens.get(token));
+    }
+
+    @Override
+    public Optional<RefreshToken> findByTokenAndRevokedFalse(String token) {
+      return findByToken(token).filter(refreshToken -> !refreshToken.revoked());
+    }
+
+    @Override
+    public List<RefreshToken> findByUserId(Long userId) {
+      return tokens.values().stream().filter(token -> token.userId().equals(userId)).toList();
+    }
+
+    @Override
+    public void revokeByToken(String token, String replacementToken) {
+      RefreshToken current = tokens.get(token);
+      if (current != null) {
+        tokens.put(token, new RefreshToken(current.id(), current.token(), current.userId(), current.expiryDate(),
+                current.createdAt(), true, replacementToken));
+      }
+    }
+
+    @Override
+    public void deleteByUserId(Long userId) {
+      tokens.values().removeIf(token -> token.userId().equals(userId));
+    }
+
+    @Override
+    public RefreshToken rotate(String oldToken, RefreshToken newRefreshToken) {
+      if (findByTokenAndRevokedFalse(oldToken).isEmpty()) {
+        throw new InvalidRefreshTokenException("Refresh token was already used.");
+      }
+      revokeByToken(oldToken, newRefreshToken.token());
+      return save(newRefreshToken);
+    }
+  }
+
+  // Tokens are "<kind>:<email>:<n>"; anything else counts as malformed
+  public static final class Tokens implements TokenGateway {
+    private final AtomicLong issued = new AtomicLong();
+
+    @Override
+    public String generateAccessToken(String email) {
+      return "access:" + email + ":" + issued.incrementAndGet();
+    }
+
+    @Override
+    public String generateRefreshToken(String email) {
+      return "refresh:" + email + ":" + issued.incrementAndGet();
+    }
+
+    @Override
+    public Instant extractExpiration(String token) {
+      return Instant.now().plus(7, ChronoUnit.DAYS);
+    }
+
+    @Override
+    public String extractUsername(String token) {
+      String[] parts = token.split(":");
+      if (parts.length != 3) {
+        throw new IllegalArgumentException("Malformed token");
+      }
+      return parts[1];
+    }
+
+    @Override
+    public Optional<TokenClaims> verify(String token) {
+      throw new UnsupportedOperationException();
+    }
+  }
+
+  // "hashes" by prefixing, so tests can see that a password was encoded
+  public static final class PlainPasswordEncoder implements PasswordEncoderGateway {
+    @Override
+    public String encode(String rawPassword) {
+      return "hashed:" + rawPassword;
+    }
+
+    @Override
+    public boolean matches(String rawPassword, String encodedPassword) {
+      return encode(rawPassword).equals(encodedPassword);
+    }
+  }
+}
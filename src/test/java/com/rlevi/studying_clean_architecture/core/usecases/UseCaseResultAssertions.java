@@ -0,0 +1,25 @@
+package com.rlevi.studying_clean_architecture.core.usecases;
+
+import com.rlevi.studying_clean_architecture.core.entities.UseCaseResult;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public final class UseCaseResultAssertions {
+  private UseCaseResultAssertions() {}
+
+  public static <T> T assertSuccess(UseCaseResult<T> result) {
+    if (result instanceof UseCaseResult.Success<T> success) {
+      return success.value();
+    }
+    return fail("Expected success but was " + result);
+  }
+
+  public static void assertFailure(UseCaseResult.Reason reason, UseCaseResult<?> result) {
+    if (result instanceof UseCaseResult.Failure<?> failure) {
+      assertEquals(reason, failure.reason(), failure.message());
+    } else {
+      fail("Expected " + reason + " but was " + result);
+    }
+  }
+}
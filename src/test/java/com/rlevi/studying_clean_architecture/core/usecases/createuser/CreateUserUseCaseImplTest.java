@@ -0,0 +1,42 @@
+package com.rlevi.studying_clean_architecture.core.usecases.createuser;
+
+import com.rlevi.studying_clean_architecture.core.entities.AuthResult;
+import com.rlevi.studying_clean_architecture.core.entities.UseCaseResult;
+import com.rlevi.studying_clean_architecture.core.entities.User;
+import com.rlevi.studying_clean_architecture.core.usecases.InMemoryGateways;
+import org.junit.jupiter.api.Test;
+
+import static com.rlevi.studying_clean_architecture.core.usecases.UseCaseResultAssertions.assertFailure;
+import static com.rlevi.studying_clean_architecture.core.usecases.UseCaseResultAssertions.assertSuccess;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CreateUserUseCaseImplTest {
+  private final InMemoryGateways.Users users = new InMemoryGateways.Users();
+  private final InMemoryGateways.RefreshTokens refreshTokens = new InMemoryGateways.RefreshTokens();
+  private final CreateUserUseCase useCase = new CreateUserUseCaseImpl(users, new InMemoryGateways.PlainPasswordEncoder(),
+          new InMemoryGateways.Tokens(), refreshTokens);
+
+  @Test
+  void newEmailCreatesTheUserWithAHashedPassword() {
+    AuthResult auth = assertSuccess(useCase.execute(newUser("dexter@morgan.com")));
+
+    assertEquals("hashed:tonight", users.findUserByEmail("dexter@morgan.com").orElseThrow().passwordHash());
+    assertEquals(auth.user().id(), refreshTokens.findByToken(auth.refreshToken()).orElseThrow().userId());
+  }
+
+  @Test
+  void emailInUseIsRejectedWithoutCreatingAnything() {
+    users.add("dexter@morgan.com", "Dexter Morgan", "hashed:tonight");
+
+    UseCaseResult<AuthResult> result = useCase.execute(newUser("dexter@morgan.com"));
+
+    assertFailure(UseCaseResult.Reason.EMAIL_ALREADY_IN_USE, result);
+    assertEquals(1, users.findAllUsers().size());
+    assertTrue(refreshTokens.findByUserId(1L).isEmpty());
+  }
+
+  private static User newUser(String email) {
+    return new User(null, email, "Dexter Morgan", "tonight", null, null);
+  }
+}
@@ -0,0 +1,36 @@
+package com.rlevi.studying_clean_architecture.core.usecases.deleteuser;
+
+import com.rlevi.studying_clean_architecture.core.entities.UseCaseResult;
+import com.rlevi.studying_clean_architecture.core.entities.User;
+import com.rlevi.studying_clean_architecture.core.usecases.InMemoryGateways;
+import org.junit.jupiter.api.Test;
+
+import static com.rlevi.studying_clean_architecture.core.usecases.UseCaseResultAssertions.assertFailure;
+import static com.rlevi.studying_clean_architecture.core.usecases.UseCaseResultAssertions.assertSuccess;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DeleteUserUseCaseImplTest {
+  private final InMemoryGateways.Users users = new InMemoryGateways.Users();
+  private final DeleteUserUseCase useCase = new DeleteUserUseCaseImpl(users);
+  private final User dexter = users.add("dexter@morgan.com", "Dexter Morgan", "hashed:tonight");
+
+  @Test
+  void existingUserIsDeleted() {
+    assertSuccess(useCase.execute(dexter.id()));
+
+    assertTrue(users.findUserById(dexter.id()).isEmpty());
+  }
+
+  @Test
+  void unknownUserIsNotFound() {
+    assertFailure(UseCaseResult.Reason.USER_NOT_FOUND, useCase.execute(404L));
+    assertEquals(1, users.findAllUsers().size());
+  }
+
+  @Test
+  void missingIdIsAnInvalidArgument() {
+    assertThrows(IllegalArgumentException.class, () -> useCase.execute(null));
+  }
+}
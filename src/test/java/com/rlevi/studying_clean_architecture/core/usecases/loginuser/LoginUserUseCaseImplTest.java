@@ -0,0 +1,61 @@
+package com.rlevi.studying_clean_architecture.core.usecases.loginuser;
+
+import com.rlevi.studying_clean_architecture.core.entities.AuthResult;
+import com.rlevi.studying_clean_architecture.core.entities.UseCaseResult;
+import com.rlevi.studying_clean_architecture.core.entities.User;
+import com.rlevi.studying_clean_architecture.core.usecases.InMemoryGateways;
+import org.junit.jupiter.api.Test;
+
+import static com.rlevi.studying_clean_architecture.core.usecases.UseCaseResultAssertions.assertFailure;
+import static com.rlevi.studying_clean_architecture.core.usecases.UseCaseResultAssertions.assertSuccess;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LoginUserUseCaseImplTest {
+  private final InMemoryGateways.Users users = new InMemoryGateways.Users();
+  private final InMemoryGateways.RefreshTokens refreshTokens = new InMemoryGateways.RefreshTokens();
+  private final InMemoryGateways.PlainPasswordEncoder passwordEncoder = new InMemoryGateways.PlainPasswordEncoder();
+  private final LoginUserUseCase useCase =
+          new LoginUserUseCaseImpl(users, passwordEncoder, refreshTokens, new InMemoryGateways.Tokens());
+  private final User dexter = users.add("dexter@morgan.com", "Dexter Morgan", passwordEncoder.encode("tonight"));
+
+  @Test
+  void correctPasswordSignsInAndStoresTheRefreshToken() {
+    UseCaseResult<AuthResult> result = useCase.execute(attempt("dexter@morgan.com", "tonight"));
+
+    AuthResult auth = assertSuccess(result);
+    assertEquals(dexter, auth.user());
+    assertTrue(refreshTokens.findByTokenAndRevokedFalse(auth.refreshToken()).isPresent());
+  }
+
+  @Test
+  void wrongPasswordIsInvalidCredentials() {
+    assertInvalidCredentials(useCase.execute(attempt("dexter@morgan.com", "wrong")));
+  }
+
+  @Test
+  void unknownEmailGetsTheSameRejectionAsAWrongPassword() {
+    UseCaseResult<AuthResult> unknown = useCase.execute(attempt("rita@bennett.com", "tonight"));
+    UseCaseResult<AuthResult> wrongPassword = useCase.execute(attempt("dexter@morgan.com", "wrong"));
+
+    assertInvalidCredentials(unknown);
+    assertSame(wrongPassword, unknown);
+  }
+
+  @Test
+  void missingCredentialsAreInvalidCredentials() {
+    assertInvalidCredentials(useCase.execute(null));
+    assertInvalidCredentials(useCase.execute(attempt(null, "tonight")));
+    assertInvalidCredentials(useCase.execute(attempt("dexter@morgan.com", " ")));
+    assertTrue(refreshTokens.findByUserId(dexter.id()).isEmpty());
+  }
+
+  private static User attempt(String email, String password) {
+    return new User(null, email, null, password, null, null);
+  }
+
+  private static void assertInvalidCredentials(UseCaseResult<AuthResult> result) {
+    assertFailure(UseCaseResult.Reason.INVALID_CREDENTIALS, result);
+  }
+}
@@ -0,0 +1,89 @@
+package com.rlevi.studying_clean_architecture.core.usecases.refreshtoken;
+
+import com.rlevi.studying_clean_architecture.core.entities.AuthResult;
+import com.rlevi.studying_clean_architecture.core.entities.RefreshToken;
+import com.rlevi.studying_clean_architecture.core.entities.UseCaseResult;
+import com.rlevi.studying_clean_architecture.core.entities.User;
+import com.rlevi.studying_clean_architecture.core.usecases.InMemoryGateways;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static com.rlevi.studying_clean_architecture.core.usecases.UseCaseResultAssertions.assertFailure;
+import static com.rlevi.studying_clean_architecture.core.usecases.UseCaseResultAssertions.assertSuccess;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RefreshTokenUseCaseImplTest {
+  private final InMemoryGateways.Users users = new InMemoryGateways.Users();
+  private final InMemoryGateways.RefreshTokens refreshTokens = new InMemoryGateways.RefreshTokens();
+  private final RefreshTokenUseCase useCase = new RefreshTokenUseCaseImpl(users, new InMemoryGateways.Tokens(), refreshTokens);
+  private final User dexter = users.add("dexter@morgan.com", "Dexter Morgan", "hashed:tonight");
+
+  @Test
+  void liveTokenIsRotated() {
+    issue("refresh:dexter@morgan.com:1", dexter.id(), 1);
+
+    AuthResult auth = assertSuccess(useCase.execute("refresh:dexter@morgan.com:1"));
+
+    assertEquals(dexter, auth.user());
+    RefreshToken old = refreshTokens.findByToken("refresh:dexter@morgan.com:1").orElseThrow();
+    assertTrue(old.revoked());
+    assertEquals(auth.refreshToken(), old.replacedByToken());
+  }
+
+  @Test
+  void reusedTokenIsInvalid() {
+    issue("refresh:dexter@morgan.com:1", dexter.id(), 1);
+    assertSuccess(useCase.execute("refresh:dexter@morgan.com:1"));
+
+    assertInvalid(useCase.execute("refresh:dexter@morgan.com:1"));
+  }
+
+  @Test
+  void unknownTokenIsInvalid() {
+    assertInvalid(useCase.execute("refresh:dexter@morgan.com:404"));
+  }
+
+  @Test
+  void expiredTokenIsInvalidAndRevoked() {
+    issue("refresh:dexter@morgan.com:1", dexter.id(), -1);
+
+    assertInvalid(useCase.execute("refresh:dexter@morgan.com:1"));
+    assertTrue(refreshTokens.findByToken("refresh:dexter@morgan.com:1").orElseThrow().revoked());
+  }
+
+  @Test
+  void malformedTokenIsInvalidAndRevoked() {
+    issue("not-a-token", dexter.id(), 1);
+
+    assertInvalid(useCase.execute("not-a-token"));
+    assertTrue(refreshTokens.findByToken("not-a-token").orElseThrow().revoked());
+  }
+
+  @Test
+  void tokenOfADeletedUserIsInvalid() {
+    issue("refresh:dexter@morgan.com:1", dexter.id(), 1);
+    users.deleteUser(dexter.id());
+
+    assertInvalid(useCase.execute("refresh:dexter@morgan.com:1"));
+  }
+
+  @Test
+  void tokenStoredForAnotherUserIsInvalid() {
+    User rita = users.add("rita@bennett.com", "Rita Bennett", "hashed:kids");
+    issue("refresh:dexter@morgan.com:1", rita.id(), 1);
+
+    assertInvalid(useCase.execute("refresh:dexter@morgan.com:1"));
+  }
+
+  private void issue(String token, Long userId, long expiresInDays) {
+    refreshTokens.save(new RefreshToken(null, token, userId, Instant.now().plus(expiresInDays, ChronoUnit.DAYS),
+            Instant.now(), false, null));
+  }
+
+  private static void assertInvalid(UseCaseResult<AuthResult> result) {
+    assertFailure(UseCaseResult.Reason.INVALID_REFRESH_TOKEN, result);
+  }
+}
@@ -0,0 +1,41 @@
+package com.rlevi.studying_clean_architecture.core.usecases.updateuser;
+
+import com.rlevi.studying_clean_architecture.core.entities.UseCaseResult;
+import com.rlevi.studying_clean_architecture.core.entities.User;
+import com.rlevi.studying_clean_architecture.core.usecases.InMemoryGateways;
+import org.junit.jupiter.api.Test;
+
+import static com.rlevi.studying_clean_architecture.core.usecases.UseCaseResultAssertions.assertFailure;
+import static com.rlevi.studying_clean_architecture.core.usecases.UseCaseResultAssertions.assertSuccess;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class UpdateUserUseCaseImplTest {
+  private final InMemoryGateways.Users users = new InMemoryGateways.Users();
+  private final UpdateUserUseCase useCase = new UpdateUserUseCaseImpl(users, new InMemoryGateways.PlainPasswordEncoder());
+  private final User dexter = users.add("dexter@morgan.com", "Dexter Morgan", "hashed:tonight");
+
+  @Test
+  void givenFieldsAreUpdatedAndTheRestKept() {
+    User updated = assertSuccess(useCase.execute(new User(dexter.id(), null, "Dexter", "dark-passenger", null, null)));
+
+    assertEquals("Dexter", updated.name());
+    assertEquals("dexter@morgan.com", updated.email());
+    assertEquals("hashed:dark-passenger", updated.passwordHash());
+    assertEquals(updated, users.findUserById(dexter.id()).orElseThrow());
+  }
+
+  @Test
+  void unknownUserIsNotFound() {
+    UseCaseResult<User> result = useCase.execute(new User(404L, null, "Nobody", null, null, null));
+
+    assertFailure(UseCaseResult.Reason.USER_NOT_FOUND, result);
+    assertEquals(1, users.findAllUsers().size());
+  }
+
+  @Test
+  void missingUserOrIdIsAnInvalidArgument() {
+    assertThrows(IllegalArgumentException.class, () -> useCase.execute(null));
+    assertThrows(IllegalArgumentException.class, () -> useCase.execute(new User(null, null, "Dexter", null, null, null)));
+  }
+}
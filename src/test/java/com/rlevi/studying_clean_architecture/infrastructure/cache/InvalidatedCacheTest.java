@@ -0,0 +1,91 @@
+package com.rlevi.studying_clean_architecture.infrastructure.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Two buses in one in-JVM cluster stand in for two application instances
+class InvalidatedCacheTest {
+  private static final Duration NO_AUTOMATIC_FLUSH = Duration.ofHours(1);
+
+  private final Set<InMemoryCacheInvalidationBus> cluster = ConcurrentHashMap.newKeySet();
+  private final InMemoryCacheInvalidationBus nodeA = new InMemoryCacheInvalidationBus(NO_AUTOMATIC_FLUSH, 1000, cluster);
+  private final InMemoryCacheInvalidationBus nodeB = new InMemoryCacheInvalidationBus(NO_AUTOMATIC_FLUSH, 1000, cluster);
+  private final Map<String, String> database = new ConcurrentHashMap<>(Map.of("dexter@morgan.com", "v1"));
+  private final AtomicInteger loads = new AtomicInteger();
+
+  @AfterEach
+  void closeBuses() {
+    nodeA.close();
+    nodeB.close();
+  }
+
+  @Test
+  void invalidationReachesOtherInstancesOnFlush() {
+    InvalidatedCache<String> cacheA = new InvalidatedCache<>("principals", nodeA, Duration.ofMinutes(5), 100);
+    InvalidatedCache<String> cacheB = new InvalidatedCache<>("principals", nodeB, Duration.ofMinutes(5), 100);
+    assertEquals("v1", load(cacheA));
+    assertEquals("v1", load(cacheB));
+
+    database.put("dexter@morgan.com", "v2");
+    nodeA.invalidate("principals", "dexter@morgan.com");
+
+    assertEquals("v2", load(cacheA));
+    assertEquals("v1", load(cacheB));
+
+    nodeA.flush();
+    assertEquals("v2", load(cacheB));
+  }
+
+  @Test
+  void repeatedInvalidationsAreCoalescedIntoOneDelivery() {
+    AtomicInteger deliveries = new AtomicInteger();
+    nodeB.subscribe("principals", new CacheInvalidationListener() {
+      @Override
+      public void invalidate(Set<String> keys) {
+        deliveries.incrementAndGet();
+        assertEquals(Set.of("dexter@morgan.com"), keys);
+      }
+
+      @Override
+      public void invalidateAll() {
+      }
+    });
+
+    for (int i = 0; i < 10; i++) {
+      nodeA.invalidate("principals", "dexter@morgan.com");
+    }
+    nodeA.flush();
+
+    assertEquals(1, deliveries.get());
+  }
+
+  @Test
+  void lostInvalidationIsBoundedByMaxStaleness() throws InterruptedException {
+    InvalidatedCache<String> cacheB = new InvalidatedCache<>("principals", nodeB, Duration.ofMillis(50), 100);
+    assertEquals("v1", load(cacheB));
+
+    database.put("dexter@morgan.com", "v2");
+    // nodeA never flushes, as if the message had been dropped
+    nodeA.invalidate("principals", "dexter@morgan.com");
+    assertEquals("v1", load(cacheB));
+
+    Thread.sleep(80);
+    assertEquals("v2", load(cacheB));
+    assertEquals(2, loads.get());
+  }
+
+  private String load(InvalidatedCache<String> cache) {
+    return cache.get("dexter@morgan.com", () -> {
+      loads.incrementAndGet();
+      return database.get("dexter@morgan.com");
+    });
+  }
+}
@@ -0,0 +1,39 @@
+package com.rlevi.studying_clean_architecture.infrastructure.cache;
+
+import com.rlevi.studying_clean_architecture.infrastructure.persistence.UserEntity;
+import com.rlevi.studying_clean_architecture.infrastructure.persistence.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// hibernate-cache.enabled is false by default; Hibernate must not fall back on the JCache provider on the classpath
+@SpringBootTest
+@ActiveProfiles("h2")
+class SecondLevelCacheDisabledTest {
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @Test
+  void usersAreNotCachedByDefault() {
+    String email = "l2." + Long.toString(System.nanoTime(), 36) + "@cache.dev";
+    UserEntity saved = userRepository.save(new UserEntity(null, "Cache Probe", email, "hash", null, null));
+
+    assertTrue(userRepository.findById(saved.getId()).isPresent());
+    assertTrue(userRepository.findByEmail(email).isPresent());
+
+    SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    assertFalse(sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled());
+    assertFalse(sessionFactory.getCache().containsEntity(UserEntity.class, saved.getId()));
+    userRepository.deleteById(saved.getId());
+  }
+}
@@ -0,0 +1,71 @@
+package com.rlevi.studying_clean_architecture.infrastructure.concurrency;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BulkheadTest {
+  private final ExecutorService waiter = Executors.newSingleThreadExecutor();
+
+  @AfterEach
+  void stopWaiter() {
+    waiter.shutdownNow();
+  }
+
+  @Test
+  void requestIsRejectedWhenTheQueueIsFull() throws Exception {
+    Bulkhead bulkhead = new Bulkhead(1, 1, 5, TimeUnit.SECONDS);
+    assertTrue(bulkhead.tryAcquire());
+    Future<Boolean> queued = waiter.submit(bulkhead::tryAcquire);
+    awaitQueued(bulkhead, 1);
+
+    assertFalse(bulkhead.tryAcquire());
+    assertEquals(1, bulkhead.getRejected());
+    assertEquals(1, bulkhead.getQueued());
+
+    bulkhead.release();
+    assertTrue(queued.get(5, TimeUnit.SECONDS));
+    assertEquals(1, bulkhead.getInFlight());
+    assertEquals(0, bulkhead.getQueued());
+  }
+
+  @Test
+  void queuedRequestIsRejectedAfterMaxWait() throws Exception {
+    Bulkhead bulkhead = new Bulkhead(1, 1, 50, TimeUnit.MILLISECONDS);
+    assertTrue(bulkhead.tryAcquire());
+
+    assertFalse(waiter.submit(bulkhead::tryAcquire).get(5, TimeUnit.SECONDS));
+    assertEquals(1, bulkhead.getRejected());
+    assertEquals(0, bulkhead.getQueued());
+    assertEquals(1, bulkhead.getInFlight());
+  }
+
+  @Test
+  void requestIsRejectedAtOnceWithoutAQueue() throws InterruptedException {
+    Bulkhead bulkhead = new Bulkhead(2, 0, 5, TimeUnit.SECONDS);
+    assertTrue(bulkhead.tryAcquire());
+    assertTrue(bulkhead.tryAcquire());
+
+    assertFalse(bulkhead.tryAcquire());
+    assertEquals(1, bulkhead.getRejected());
+
+    bulkhead.release();
+    assertTrue(bulkhead.tryAcquire());
+  }
+
+  static void awaitQueued(Bulkhead bulkhead, int queued) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (bulkhead.getQueued() < queued && System.nanoTime() < deadline) {
+      Thread.sleep(1);
+    }
+    assertEquals(queued, bulkhead.getQueued());
+  }
+}
@@ -0,0 +1,136 @@
+package com.rlevi.studying_clean_architecture.infrastructure.concurrency;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GradientConcurrencyLimitTest {
+  private static final long WINDOW_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+  private final AtomicLong nanos = new AtomicLong();
+  private final ExecutorService waiter = Executors.newSingleThreadExecutor();
+
+  @AfterEach
+  void stopWaiter() {
+    waiter.shutdownNow();
+  }
+
+  @Test
+  void limitGrowsWhileLatencyStaysNearTheBaseline() throws InterruptedException {
+    GradientConcurrencyLimit limit = limit(20, 0, 0);
+
+    int previous = limit.getLimit();
+    for (int i = 0; i < 10; i++) {
+      window(limit, limit.getLimit(), 10, false);
+      assertTrue(limit.getLimit() >= previous);
+      previous = limit.getLimit();
+    }
+
+    assertTrue(limit.getLimit() > 20, "limit was " + limit.getLimit());
+  }
+
+  @Test
+  void limitShrinksWhenLatencyRises() throws InterruptedException {
+    GradientConcurrencyLimit limit = limit(20, 0, 0);
+    for (int i = 0; i < 10; i++) {
+      window(limit, limit.getLimit(), 10, false);
+    }
+    int grown = limit.getLimit();
+
+    for (int i = 0; i < 5; i++) {
+      window(limit, Math.max(10, limit.getLimit()), 40, false);
+    }
+
+    assertTrue(limit.getLimit() < grown, "limit went from " + grown + " to " + limit.getLimit());
+  }
+
+  @Test
+  void failedWindowBacksOffByTheRatio() throws InterruptedException {
+    GradientConcurrencyLimit limit = limit(20, 0, 0);
+
+    window(limit, 20, 10, true);
+
+    assertEquals(18, limit.getLimit());
+  }
+
+  @Test
+  void limitDoesNotGrowWhileAppLimited() throws InterruptedException {
+    GradientConcurrencyLimit limit = limit(40, 0, 0);
+
+    for (int i = 0; i < 10; i++) {
+      window(limit, 10, 10, false);
+    }
+
+    assertEquals(40, limit.getLimit());
+  }
+
+  @Test
+  void requestOverTheLimitIsRejectedWhenTheQueueIsFull() throws Exception {
+    GradientConcurrencyLimit limit = limit(1, 1, 5000);
+    assertTrue(limit.tryAcquire());
+    Future<Boolean> queued = waiter.submit(limit::tryAcquire);
+    awaitWaiting(limit, 1);
+
+    assertFalse(limit.tryAcquire());
+    assertEquals(1, limit.getRejected());
+
+    limit.release(TimeUnit.MILLISECONDS.toNanos(10), false);
+    assertTrue(queued.get(5, TimeUnit.SECONDS));
+    assertEquals(1, limit.getInFlight());
+  }
+
+  @Test
+  void queuedRequestIsRejectedAfterMaxQueueWait() throws Exception {
+    GradientConcurrencyLimit limit = limit(1, 1, 50);
+    assertTrue(limit.tryAcquire());
+
+    assertFalse(waiter.submit(limit::tryAcquire).get(5, TimeUnit.SECONDS));
+    assertEquals(1, limit.getRejected());
+    assertEquals(0, limit.getWaiting());
+  }
+
+  @Test
+  void requestOverTheLimitIsRejectedAtOnceWithoutAQueue() throws InterruptedException {
+    GradientConcurrencyLimit limit = limit(1, 0, 0);
+    assertTrue(limit.tryAcquire());
+
+    assertFalse(limit.tryAcquire());
+    assertEquals(1, limit.getRejected());
+  }
+
+  private GradientConcurrencyLimit limit(int initialLimit, int maxQueue, long maxQueueWaitMillis) {
+    return new GradientConcurrencyLimit(initialLimit, 1, 1000, 1.5, 0.9, maxQueue, maxQueueWaitMillis,
+            TimeUnit.MILLISECONDS, nanos::get);
+  }
+
+  // Runs concurrency requests side by side; the window closes on the last release, after WINDOW_NANOS
+  private void window(GradientConcurrencyLimit limit, int concurrency, long rttMillis, boolean failed)
+          throws InterruptedException {
+    for (int i = 0; i < concurrency; i++) {
+      assertTrue(limit.tryAcquire());
+    }
+    for (int i = 0; i < concurrency; i++) {
+      if (i == concurrency - 1) {
+        nanos.addAndGet(WINDOW_NANOS);
+      }
+      limit.release(TimeUnit.MILLISECONDS.toNanos(rttMillis), failed && i == 0);
+    }
+  }
+
+  private static void awaitWaiting(GradientConcurrencyLimit limit, int waiting) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (limit.getWaiting() < waiting && System.nanoTime() < deadline) {
+      Thread.sleep(1);
+    }
+    assertEquals(waiting, limit.getWaiting());
+  }
+}
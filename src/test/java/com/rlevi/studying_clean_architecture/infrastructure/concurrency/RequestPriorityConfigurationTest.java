@@ -0,0 +1,98 @@
+package com.rlevi.studying_clean_architecture.infrastructure.concurrency;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RequestPriorityConfigurationTest {
+  private final ApplicationContextRunner runner = new ApplicationContextRunner()
+          .withUserConfiguration(RequestPriorityConfiguration.class);
+
+  @Test
+  void poolBehindThePartitionedDataSourceIsClosedOnShutdown() {
+    AtomicReference<HikariDataSource> pool = new AtomicReference<>();
+    runner.withUserConfiguration(SinglePool.class).run(context -> {
+      DataSource dataSource = context.getBean(DataSource.class);
+      assertInstanceOf(PriorityPartitionedDataSource.class, dataSource);
+      pool.set(dataSource.unwrap(HikariDataSource.class));
+      dataSource.getConnection().close();
+      assertTrue(pool.get().isRunning());
+    });
+
+    assertTrue(pool.get().isClosed());
+  }
+
+  @Test
+  void closingThePartitionedDataSourceClosesThePool() throws Exception {
+    HikariDataSource pool = pool("request-priority-direct");
+    PriorityPartitionedDataSource dataSource = new PriorityPartitionedDataSource(pool,
+            Map.of(RequestPriority.LOW, 1), 1, TimeUnit.SECONDS);
+
+    dataSource.close();
+
+    assertTrue(pool.isClosed());
+  }
+
+  @Test
+  void onlyThePrimaryDataSourceIsPartitioned() {
+    runner.withUserConfiguration(TwoPools.class).run(context -> {
+      assertInstanceOf(PriorityPartitionedDataSource.class, context.getBean("primaryPool"));
+      assertSame(HikariDataSource.class, context.getBean("reportingPool").getClass());
+      assertFalse(context.getBean("reportingPool", HikariDataSource.class).isClosed());
+    });
+  }
+
+  private static HikariDataSource pool(String name) {
+    HikariDataSource pool = new HikariDataSource();
+    pool.setJdbcUrl("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+    pool.setPoolName(name);
+    return pool;
+  }
+
+  @Configuration
+  static class SinglePool {
+    @Bean
+    MeterRegistry meterRegistry() {
+      return new SimpleMeterRegistry();
+    }
+
+    @Bean
+    HikariDataSource dataSource() {
+      return pool("request-priority-single");
+    }
+  }
+
+  @Configuration
+  static class TwoPools {
+    @Bean
+    MeterRegistry meterRegistry() {
+      return new SimpleMeterRegistry();
+    }
+
+    @Bean
+    @Primary
+    HikariDataSource primaryPool() {
+      return pool("request-priority-primary");
+    }
+
+    @Bean
+    HikariDataSource reportingPool() {
+      return pool("request-priority-reporting");
+    }
+  }
+}
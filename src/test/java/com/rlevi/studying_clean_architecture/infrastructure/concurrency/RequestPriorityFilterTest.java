@@ -0,0 +1,86 @@
+package com.rlevi.studying_clean_architecture.infrastructure.concurrency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class RequestPriorityFilterTest {
+  private final Map<RequestPriority, Bulkhead> bulkheads = new EnumMap<>(RequestPriority.class);
+  private final ExecutorService waiter = Executors.newSingleThreadExecutor();
+  private final AtomicReference<RequestPriority> handledAs = new AtomicReference<>();
+  private final FilterChain chain = (request, response) -> handledAs.set(RequestPriorityContext.current());
+  private final RequestPriorityFilter filter;
+
+  RequestPriorityFilterTest() {
+    for (RequestPriority priority : RequestPriority.values()) {
+      bulkheads.put(priority, new Bulkhead(1, 1, 5, TimeUnit.SECONDS));
+    }
+    filter = new RequestPriorityFilter(bulkheads, new SimpleMeterRegistry());
+  }
+
+  @AfterEach
+  void stopWaiter() {
+    waiter.shutdownNow();
+  }
+
+  @Test
+  void lowerPrioritiesAreShedWhileAHigherOneIsWaiting() throws Exception {
+    Bulkhead critical = bulkheads.get(RequestPriority.CRITICAL);
+    critical.tryAcquire();
+    Future<MockHttpServletResponse> refresh = waiter.submit(() -> send("/api/v1/auth/refresh"));
+    BulkheadTest.awaitQueued(critical, 1);
+
+    MockHttpServletResponse normal = send("/api/v1/users/42");
+    MockHttpServletResponse low = send("/api/v1/users/all");
+
+    assertEquals(503, normal.getStatus());
+    assertEquals("1", normal.getHeader(HttpHeaders.RETRY_AFTER));
+    assertEquals(503, low.getStatus());
+    assertEquals(1, bulkheads.get(RequestPriority.NORMAL).getRejected());
+    assertEquals(1, bulkheads.get(RequestPriority.LOW).getRejected());
+    assertNull(handledAs.get());
+
+    critical.release();
+    assertEquals(200, refresh.get(5, TimeUnit.SECONDS).getStatus());
+    assertEquals(RequestPriority.CRITICAL, handledAs.get());
+  }
+
+  @Test
+  void higherPriorityIsNotShedWhileALowerOneIsWaiting() throws Exception {
+    Bulkhead low = bulkheads.get(RequestPriority.LOW);
+    low.tryAcquire();
+    Future<MockHttpServletResponse> listing = waiter.submit(() -> send("/api/v1/users/all"));
+    BulkheadTest.awaitQueued(low, 1);
+
+    MockHttpServletResponse normal = send("/api/v1/users/42");
+
+    assertEquals(200, normal.getStatus());
+    assertEquals(RequestPriority.NORMAL, handledAs.get());
+    assertNull(RequestPriorityContext.current());
+
+    low.release();
+    assertEquals(200, listing.get(5, TimeUnit.SECONDS).getStatus());
+  }
+
+  private MockHttpServletResponse send(String path) throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    filter.doFilter(request, response, chain);
+    return response;
+  }
+}
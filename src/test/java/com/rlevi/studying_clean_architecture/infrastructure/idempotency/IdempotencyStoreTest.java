@@ -0,0 +1,110 @@
+package com.rlevi.studying_clean_architecture.infrastructure.idempotency;
+
+import com.rlevi.studying_clean_architecture.infrastructure.exception.BusinessException;
+import com.rlevi.studying_clean_architecture.infrastructure.exception.DuplicateResourceException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class IdempotencyStoreTest {
+  private static final String BODY = IdempotencyStore.fingerprint("dexter@morgan.com", "password123");
+
+  private final AtomicLong nanos = new AtomicLong();
+  private final IdempotencyStore store = new IdempotencyStore(Duration.ofMinutes(10), Duration.ofMillis(100), 1000, nanos::get);
+  private final AtomicInteger runs = new AtomicInteger();
+  private final ExecutorService original = Executors.newSingleThreadExecutor();
+
+  @AfterEach
+  void stopOriginal() {
+    original.shutdownNow();
+  }
+
+  @Test
+  void retryWithTheSameKeyAndBodyGetsTheStoredResult() {
+    assertEquals("response-1", register("key-1", BODY));
+    assertEquals("response-1", register("key-1", BODY));
+    assertEquals("response-2", register("key-2", BODY));
+
+    assertEquals(2, runs.get());
+  }
+
+  @Test
+  void storedResultExpiresAfterTheTtl() {
+    assertEquals("response-1", register("key-1", BODY));
+    nanos.addAndGet(Duration.ofMinutes(10).toNanos());
+
+    assertEquals("response-2", register("key-1", BODY));
+  }
+
+  @Test
+  void keyReusedForADifferentBodyIsRejected() {
+    register("key-1", BODY);
+
+    assertThrows(BusinessException.class,
+            () -> register("key-1", IdempotencyStore.fingerprint("debra@morgan.com", "password123")));
+    assertEquals(1, runs.get());
+  }
+
+  @Test
+  void failedRequestReleasesTheKey() {
+    String failure = store.execute("register", "key-1", BODY, () -> "failure-" + runs.incrementAndGet(), response -> false);
+    assertThrows(IllegalStateException.class, () -> store.execute("register", "key-1", BODY, () -> {
+      runs.incrementAndGet();
+      throw new IllegalStateException("database is down");
+    }, response -> true));
+
+    assertEquals("failure-1", failure);
+    assertEquals("response-3", register("key-1", BODY));
+  }
+
+  @Test
+  void duplicateOfARequestStillRunningWaitsForItsResult() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch finish = new CountDownLatch(1);
+    Future<String> first = original.submit(() -> store.execute("register", "key-1", BODY, () -> {
+      started.countDown();
+      await(finish);
+      return "response-" + runs.incrementAndGet();
+    }, response -> true));
+    started.await();
+
+    assertThrows(DuplicateResourceException.class, () -> register("key-1", BODY));
+
+    finish.countDown();
+    assertEquals("response-1", first.get(1, TimeUnit.SECONDS));
+    assertEquals("response-1", register("key-1", BODY));
+    assertEquals(1, runs.get());
+  }
+
+  @Test
+  void requestWithoutKeyAlwaysRuns() {
+    register(null, BODY);
+    register(null, BODY);
+
+    assertEquals(2, runs.get());
+    assertThrows(BusinessException.class, () -> register(" ", BODY));
+  }
+
+  private String register(String key, String fingerprint) {
+    return store.execute("register", key, fingerprint, () -> "response-" + runs.incrementAndGet(), response -> true);
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,65 @@
+package com.rlevi.studying_clean_architecture.infrastructure.persistence.routing;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReplicaRoutingDataSourceTest {
+  private final DataSource primary = mock(DataSource.class);
+  private final DataSource replica = mock(DataSource.class);
+  private final Connection primaryConnection = mock(Connection.class);
+  private final Connection replicaConnection = mock(Connection.class);
+
+  private ReplicaRoutingDataSource routingDataSource() throws SQLException {
+    when(primary.getConnection()).thenReturn(primaryConnection);
+    return new ReplicaRoutingDataSource(primary, Map.of("replica-0", replica), Duration.ofHours(1));
+  }
+
+  @Test
+  void routesOnlyReplicaReadsToTheReplica() throws Exception {
+    when(replica.getConnection()).thenReturn(replicaConnection);
+    ReplicaRoutingDataSource dataSource = routingDataSource();
+
+    assertSame(primaryConnection, dataSource.getConnection());
+    assertSame(replicaConnection, DataSourceRoutingContext.callWith(DataSourceRole.REPLICA, connect(dataSource)));
+    assertSame(primaryConnection, DataSourceRoutingContext.callWith(DataSourceRole.PRIMARY, connect(dataSource)));
+  }
+
+  @Test
+  void ejectsFailingReplicaAndReadmitsItOnceHealthy() throws Exception {
+    when(replica.getConnection()).thenThrow(new SQLException("replica down"));
+    ReplicaRoutingDataSource dataSource = routingDataSource();
+
+    assertSame(primaryConnection, DataSourceRoutingContext.callWith(DataSourceRole.REPLICA, connect(dataSource)));
+    assertEquals(0, dataSource.healthyReplicaCount());
+
+    doReturn(replicaConnection).when(replica).getConnection();
+    when(replicaConnection.isValid(anyInt())).thenReturn(true);
+    dataSource.checkReplicas();
+
+    assertEquals(1, dataSource.healthyReplicaCount());
+    assertSame(replicaConnection, DataSourceRoutingContext.callWith(DataSourceRole.REPLICA, connect(dataSource)));
+  }
+
+  private Supplier<Connection> connect(DataSource dataSource) {
+    return () -> {
+      try {
+        return dataSource.getConnection();
+      } catch (SQLException e) {
+        throw new IllegalStateException(e);
+      }
+    };
+  }
+}
@@ -0,0 +1,61 @@
+package com.rlevi.studying_clean_architecture.infrastructure.persistence.routing;
+
+import com.rlevi.studying_clean_architecture.core.entities.User;
+import com.rlevi.studying_clean_architecture.core.usecases.createuser.CreateUserUseCase;
+import com.rlevi.studying_clean_architecture.core.usecases.finduserbyemail.FindUserByEmailUseCase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// The replica is a second, empty H2 database: a read only sees a new user if it was routed to the primary
+@SpringBootTest
+@ActiveProfiles({"h2", "h2-replica"})
+class ReplicaRoutingIntegrationTest {
+
+  @Autowired
+  private CreateUserUseCase createUserUseCase;
+
+  @Autowired
+  private FindUserByEmailUseCase findUserByEmailUseCase;
+
+  @Autowired
+  private UserDetailsService userDetailsService;
+
+  @AfterEach
+  void clearAuthentication() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  void readsFromOtherUsersGoToTheReplica() {
+    String email = register("replica-reader");
+
+    assertTrue(findUserByEmailUseCase.execute(email).isEmpty());
+  }
+
+  @Test
+  void readsRightAfterTheUsersOwnWriteStayOnThePrimary() {
+    String email = register("replica-writer");
+    SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken(email, null, List.of()));
+
+    assertTrue(findUserByEmailUseCase.execute(email).isPresent());
+    assertEquals(email, userDetailsService.loadUserByUsername(email).getUsername());
+  }
+
+  private String register(String name) {
+    String email = name + "-" + System.nanoTime() + "@replica.dev";
+    createUserUseCase.execute(new User(null, email, "Replica Test", "password123", null, null));
+    return email;
+  }
+}
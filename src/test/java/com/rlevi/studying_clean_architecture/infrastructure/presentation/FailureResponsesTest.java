@@ -0,0 +1,45 @@
+package com.rlevi.studying_clean_architecture.infrastructure.presentation;
+
+import com.rlevi.studying_clean_architecture.core.entities.UseCaseResult;
+import com.rlevi.studying_clean_architecture.infrastructure.dto.ErrorResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FailureResponsesTest {
+  private final MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/auth/login");
+
+  @Test
+  void invalidCredentialsIsUnauthorized() {
+    ResponseEntity<ErrorResponse> response = map(UseCaseResult.Reason.INVALID_CREDENTIALS, "Invalid email or password.");
+
+    assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
+    assertEquals("Invalid email or password.", response.getBody().message());
+    assertEquals("/api/v1/auth/login", response.getBody().path());
+  }
+
+  @Test
+  void emailInUseIsConflict() {
+    assertEquals(HttpStatus.CONFLICT, map(UseCaseResult.Reason.EMAIL_ALREADY_IN_USE, "in use").getStatusCode());
+  }
+
+  @Test
+  void invalidRefreshTokenIsUnauthorizedWithoutTheDetailedReason() {
+    ResponseEntity<ErrorResponse> response = map(UseCaseResult.Reason.INVALID_REFRESH_TOKEN, "Token mismatch: belongs to user 7");
+
+    assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
+    assertEquals("Invalid or expired refresh token", response.getBody().message());
+  }
+
+  @Test
+  void userNotFoundIsNotFound() {
+    assertEquals(HttpStatus.NOT_FOUND, map(UseCaseResult.Reason.USER_NOT_FOUND, "User not found with ID: 7").getStatusCode());
+  }
+
+  private ResponseEntity<ErrorResponse> map(UseCaseResult.Reason reason, String message) {
+    return FailureResponses.of(new UseCaseResult.Failure<>(reason, message), request);
+  }
+}
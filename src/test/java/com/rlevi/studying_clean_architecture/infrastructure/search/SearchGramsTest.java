@@ -0,0 +1,57 @@
+package com.rlevi.studying_clean_architecture.infrastructure.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SearchGramsTest {
+
+  @Test
+  void shortQueriesLookUpTheFieldPrefixes() {
+    long[] fields = SearchGrams.ofFields("dexter morgan", "dm@miami.gov");
+
+    assertEquals(1, SearchGrams.ofQuery("d").length);
+    assertEquals(1, SearchGrams.ofQuery("de").length);
+    assertTrue(contains(fields, SearchGrams.ofQuery("d")[0]));
+    assertTrue(contains(fields, SearchGrams.ofQuery("de")[0]));
+    assertTrue(contains(fields, SearchGrams.ofQuery("dm")[0]));
+    // Under three characters only prefixes match, as in the database search
+    assertFalse(contains(fields, SearchGrams.ofQuery("ex")[0]));
+    assertFalse(contains(fields, SearchGrams.ofQuery("m")[0]));
+    assertFalse(SearchGrams.matches("ex", "dexter morgan", "dm@miami.gov"));
+    assertTrue(SearchGrams.matches("dm", "dexter morgan", "dm@miami.gov"));
+  }
+
+  @Test
+  void fieldsShorterThanThreeCharactersOnlyHavePrefixGrams() {
+    assertArrayEquals(SearchGrams.ofQuery("a"), SearchGrams.ofFields("a", ""));
+    long[] twoCharacters = SearchGrams.ofFields("ab", "");
+
+    assertEquals(2, twoCharacters.length);
+    assertTrue(contains(twoCharacters, SearchGrams.ofQuery("a")[0]));
+    assertTrue(contains(twoCharacters, SearchGrams.ofQuery("ab")[0]));
+  }
+
+  @Test
+  void longerQueriesNeedEveryDistinctTrigram() {
+    long[] fields = SearchGrams.ofFields("dexter morgan", "dm@miami.gov");
+
+    assertEquals(1, SearchGrams.ofQuery("aaaa").length);
+    assertEquals(2, SearchGrams.ofQuery("miam").length);
+    for (long gram : SearchGrams.ofQuery("morgan")) {
+      assertTrue(contains(fields, gram));
+    }
+    // The prefix grams of "ter" are not trigrams, so a field starting with "te" does not make it a candidate
+    assertFalse(contains(SearchGrams.ofFields("te", ""), SearchGrams.ofQuery("ter")[0]));
+    assertTrue(SearchGrams.matches("ter", "dexter morgan", "dm@miami.gov"));
+  }
+
+  private static boolean contains(long[] sortedGrams, long gram) {
+    return Arrays.binarySearch(sortedGrams, gram) >= 0;
+  }
+}
@@ -0,0 +1,94 @@
+package com.rlevi.studying_clean_architecture.infrastructure.search;
+
+import com.rlevi.studying_clean_architecture.core.entities.User;
+import com.rlevi.studying_clean_architecture.infrastructure.cache.CacheInvalidationBus;
+import com.rlevi.studying_clean_architecture.infrastructure.gateway.UserRepositoryGateway;
+import com.rlevi.studying_clean_architecture.infrastructure.mapper.UserMapper;
+import com.rlevi.studying_clean_architecture.infrastructure.persistence.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// The index must answer exactly like the database query it replaces, writes made through the gateway included
+@SpringBootTest
+@ActiveProfiles("h2")
+class UserSearchIndexParityTest {
+  private static final List<String> QUERIES = List.of(
+          "p", "pa", "PAR", "parity", " Dexter ", "dex", "ter", "_1", "100%", "%", "!", "josé", "ÁLV", "r@p", "@parity.dev", "zzz");
+
+  @Autowired
+  private UserRepositoryGateway database;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private UserMapper userMapper;
+
+  @Autowired
+  private CacheInvalidationBus bus;
+
+  @Test
+  void answersLikeTheDatabaseSearch() {
+    String run = Long.toString(System.nanoTime(), 36);
+    UserSearchIndex index = new UserSearchIndex();
+    IndexedUserGateway indexed = new IndexedUserGateway(database, index, bus);
+    indexed.createUser(user("Parity Dexter", "dexter_1." + run + "@parity.dev"));
+    User debra = indexed.createUser(user("Parity Debra", "debra." + run + "@parity.dev"));
+    index.rebuild(sink -> userRepository.findByIdGreaterThanOrderByIdAsc(0, Limit.unlimited())
+            .forEach(entity -> sink.accept(userMapper.toDomain(entity))));
+
+    // Pending changes on top of the segment
+    indexed.createUser(user("José Álvarez", "100%real." + run + "@parity.dev"));
+    indexed.createUser(user("Parity Harry!", "harry." + run + "@parity.dev"));
+    User rita = indexed.createUser(user("Rita Bennett", "rita." + run + "@parity.dev"));
+    indexed.updateUser(new User(debra.id(), "lt.morgan." + run + "@miami.gov", debra.name(), debra.passwordHash(), debra.createdAt(), debra.updatedAt()));
+    indexed.deleteUser(rita.id());
+    assertEquals(4, index.pendingChanges());
+    assertEquals(4, database.searchUsers(run, 50, null).size());
+
+    assertSameResults(index, run);
+    index.compact();
+    assertSameResults(index, run);
+  }
+
+  private void assertSameResults(UserSearchIndex index, String run) {
+    List<String> queries = new ArrayList<>(QUERIES);
+    queries.add(run);
+    for (String query : queries) {
+      assertEquals(ids(database.searchUsers(query, 50, null)), ids(index.search(query, 50, null)), query);
+      assertEquals(allPages(query, database::searchUsers), allPages(query, index::search), query);
+    }
+  }
+
+  private static List<Long> allPages(String query, Search search) {
+    List<Long> ids = new ArrayList<>();
+    Long cursor = null;
+    List<User> page;
+    do {
+      page = search.search(query, 3, cursor);
+      ids.addAll(ids(page));
+      cursor = page.isEmpty() ? cursor : page.get(page.size() - 1).id();
+    } while (page.size() == 3);
+    return ids;
+  }
+
+  private static User user(String name, String email) {
+    return new User(null, email, name, "hash", null, null);
+  }
+
+  private static List<Long> ids(List<User> users) {
+    return users.stream().map(User::id).toList();
+  }
+
+  private interface Search {
+    List<User> search(String query, int limit, Long cursor);
+  }
+}
@@ -0,0 +1,107 @@
+package com.rlevi.studying_clean_architecture.infrastructure.search;
+
+import com.rlevi.studying_clean_architecture.core.entities.User;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UserSearchIndexTest {
+  private final UserSearchIndex index = new UserSearchIndex();
+
+  @Test
+  void isReadyOnceTheFirstRebuildHasCompleted() {
+    assertFalse(index.isReady());
+
+    rebuild();
+
+    assertTrue(index.isReady());
+  }
+
+  @Test
+  void pendingChangesOverrideTheSegmentUntilAndAfterCompaction() {
+    rebuild(user(1, "Dexter Morgan", "dexter@miami.gov"),
+            user(2, "Debra Morgan", "debra@miami.gov"),
+            user(3, "Harry Morgan", "harry@miami.gov"));
+
+    index.upsert(user(2, "Debra Morgan", "lt.morgan@miami.gov"));
+    index.remove(3L);
+    index.upsert(user(4, "Rita Bennett", "rita.morgan@miami.gov"));
+
+    assertSearchResults();
+    assertEquals(3, index.pendingChanges());
+
+    index.compact();
+
+    assertSearchResults();
+    assertEquals(0, index.pendingChanges());
+    assertEquals(3, index.size());
+  }
+
+  @Test
+  void changesMadeDuringARebuildAreKept() {
+    rebuild(user(1, "Dexter Morgan", "dexter@miami.gov"));
+
+    index.rebuild(sink -> {
+      sink.accept(user(1, "Dexter Morgan", "dexter@miami.gov"));
+      // Written after the source read its rows
+      index.upsert(user(2, "Debra Morgan", "debra@miami.gov"));
+    });
+
+    assertEquals(1, index.pendingChanges());
+    assertEquals(List.of(1L, 2L), ids(index.search("morgan", 10, null)));
+  }
+
+  @Test
+  void cursorPagesRunAcrossSegmentAndPendingChanges() {
+    rebuild(user(2, "Morgan 2", "two@miami.gov"),
+            user(4, "Morgan 4", "four@miami.gov"),
+            user(6, "Morgan 6", "six@miami.gov"),
+            user(8, "Morgan 8", "eight@miami.gov"),
+            user(10, "Morgan 10", "ten@miami.gov"));
+    index.upsert(user(1, "Morgan 1", "one@miami.gov"));
+    index.upsert(user(4, "Morgan 4", "four@tallahassee.gov"));
+    index.upsert(user(5, "Morgan 5", "five@miami.gov"));
+    index.remove(6L);
+    index.upsert(user(11, "Morgan 11", "eleven@miami.gov"));
+
+    List<List<Long>> pages = new ArrayList<>();
+    Long cursor = null;
+    List<User> page;
+    do {
+      page = index.search("morgan", 2, cursor);
+      pages.add(ids(page));
+      cursor = page.isEmpty() ? cursor : page.get(page.size() - 1).id();
+    } while (page.size() == 2);
+
+    assertEquals(List.of(List.of(1L, 2L), List.of(4L, 5L), List.of(8L, 10L), List.of(11L)), pages);
+    assertEquals("four@tallahassee.gov", index.search("morgan 4", 10, null).get(0).email());
+  }
+
+  private void assertSearchResults() {
+    assertEquals(List.of(1L, 2L, 4L), ids(index.search("morgan", 10, null)));
+    // The old email no longer matches, the new one does
+    assertEquals(List.of(), ids(index.search("debra@", 10, null)));
+    assertEquals(List.of(2L), ids(index.search("lt.", 10, null)));
+    assertEquals(List.of(), ids(index.search("harry", 10, null)));
+    assertEquals(List.of(1L, 2L), ids(index.search("de", 10, null)));
+    assertEquals(List.of(4L), ids(index.search("R", 10, null)));
+  }
+
+  private void rebuild(User... users) {
+    index.rebuild(sink -> Stream.of(users).forEach(sink));
+  }
+
+  private static User user(long id, String name, String email) {
+    return new User(id, email, name, "hash", null, null);
+  }
+
+  private static List<Long> ids(List<User> users) {
+    return users.stream().map(User::id).toList();
+  }
+}